@@ -0,0 +1,72 @@
+package com.security.jwt.benchmark;
+
+import java.io.CharArrayWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 응답 직렬화 벤치마크용 HttpServletResponse
+ * 본문은 재사용하는 메모리 버퍼에 기록하고, 사용하지 않는 메서드는 UnsupportedOperationException
+ */
+final class BenchmarkResponse extends HttpServletResponseWrapper {
+    private final CharArrayWriter body = new CharArrayWriter(1024);
+    private final PrintWriter writer = new PrintWriter(body);
+    private int status = SC_OK;
+    private String contentType;
+
+    BenchmarkResponse() {
+        super((HttpServletResponse) Proxy.newProxyInstance(BenchmarkResponse.class.getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    /**
+     * 다음 측정을 위해 본문 비우기
+     */
+    void clearBody() {
+        body.reset();
+    }
+
+    int size() {
+        return body.size();
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        return writer;
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        status = sc;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        contentType = type;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        // 헤더는 측정 대상 아님
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+}
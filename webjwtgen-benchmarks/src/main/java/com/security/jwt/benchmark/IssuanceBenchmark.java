@@ -0,0 +1,153 @@
+package com.security.jwt.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Provider;
+import java.security.Security;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+import com.security.jwt.service.JWTService;
+import com.security.jwt.service.JwkService;
+import com.security.jwt.service.ResponseService;
+import com.security.jwt.service.SignerEngine;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JWT 발급 경로 측정 (처리량 + SampleTime 백분위, 할당량은 -prof gc)
+ * - generateJWT, convertPublicKeyToPem: 키를 만든 Provider별 비교 (SunEC / BC), 발급 캐시는 끔
+ * - ecdsaSignatureToJwt, base64UrlEncode*: 발급 경로의 변환 단계
+ * - sendJWTResponse*: JSON 응답 직렬화 (메모리 버퍼에 기록)
+ *
+ * 실행: java -jar webjwtgen-benchmarks/target/benchmarks.jar IssuanceBenchmark -prof gc
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djwt.cache.enabled=false")
+public class IssuanceBenchmark {
+    private static final String EXP = String.valueOf(System.currentTimeMillis() / 1000 + 3600);
+    private static final String ISS = "bench-issuer";
+    private static final String SUB = "user-1";
+    private static final String CLAIMS = "{\"exp\":" + EXP + ",\"iss\":\"" + ISS + "\",\"sub\":\"" + SUB
+            + "\",\"iat\":1700000000}";
+
+    static {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    /**
+     * Provider별 키와 서명 엔진
+     */
+    @State(Scope.Benchmark)
+    public static class Keys {
+        @Param({ "SunEC", "BC" })
+        String provider;
+
+        PublicKey publicKey;
+        SignerEngine signer;
+
+        @Setup
+        public void setUp() throws Exception {
+            Provider selected = Security.getProvider(provider);
+            KeyPair keyPair = generateKeyPair(selected);
+            publicKey = keyPair.getPublic();
+            signer = new SignerEngine(keyPair.getPrivate(), JwkService.thumbprint((ECPublicKey) publicKey), selected);
+        }
+    }
+
+    /**
+     * Provider와 무관한 변환/응답 입력
+     */
+    @State(Scope.Benchmark)
+    public static class Payload {
+        byte[] claimBytes;
+        byte[] derSignature;
+        String kid;
+        String publicKeyPem;
+        String jwt;
+
+        @Setup
+        public void setUp() throws Exception {
+            KeyPair keyPair = generateKeyPair(Security.getProvider("SunEC"));
+            claimBytes = CLAIMS.getBytes(StandardCharsets.UTF_8);
+
+            Signature signature = Signature.getInstance("SHA256withECDSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(claimBytes);
+            derSignature = signature.sign();
+
+            kid = JwkService.thumbprint((ECPublicKey) keyPair.getPublic());
+            publicKeyPem = JWTService.convertPublicKeyToPem(keyPair.getPublic());
+            jwt = JWTService.generateJWT(EXP, ISS, SUB, new SignerEngine(keyPair.getPrivate(), kid));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Response {
+        final BenchmarkResponse response = new BenchmarkResponse();
+    }
+
+    @Benchmark
+    public String generateJWT(Keys keys) throws Exception {
+        return JWTService.generateJWT(EXP, ISS, SUB, keys.signer);
+    }
+
+    @Benchmark
+    public String convertPublicKeyToPem(Keys keys) {
+        return JWTService.convertPublicKeyToPem(keys.publicKey);
+    }
+
+    @Benchmark
+    public String ecdsaSignatureToJwt(Payload payload) throws Exception {
+        return JWTService.ecdsaSignatureToJwt(payload.derSignature);
+    }
+
+    @Benchmark
+    public String base64UrlEncodeString() {
+        return JWTService.base64UrlEncode(CLAIMS);
+    }
+
+    @Benchmark
+    public String base64UrlEncodeBytes(Payload payload) {
+        return JWTService.base64UrlEncode(payload.claimBytes);
+    }
+
+    @Benchmark
+    public int sendJWTResponse(Payload payload, Response response) throws Exception {
+        response.response.clearBody();
+        ResponseService.sendJWTResponse(response.response, payload.jwt, payload.kid, null);
+        return response.response.size();
+    }
+
+    @Benchmark
+    public int sendJWTResponseWithPublicKey(Payload payload, Response response) throws Exception {
+        response.response.clearBody();
+        ResponseService.sendJWTResponse(response.response, payload.jwt, payload.kid, payload.publicKeyPem);
+        return response.response.size();
+    }
+
+    static KeyPair generateKeyPair(Provider provider) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", provider);
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,128 @@
+package com.security.jwt.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+import com.security.jwt.verifier.Base64UrlCodec;
+import com.security.jwt.verifier.JwsHeader;
+import com.security.jwt.verifier.JwtVerifier;
+import com.security.jwt.verifier.TokenClaims;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtVerifier 처리량 측정
+ * - verify*: 서명 검증까지 포함한 전체 경로 (ECDSA 연산이 대부분)
+ * - reject*: 서명 검증 전에 끝나는 파싱/헤더/클레임 경로 (할당 없이 처리되는지 -prof gc로 확인)
+ * - provider: JDK 기본(SunEC)과 BouncyCastle 서명 검증 비교
+ *
+ * 실행: java -jar webjwtgen-benchmarks/target/benchmarks.jar JwtVerifierBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifierBenchmark {
+    private static final String KID = "KM7JwkYfcehDxKJ3qs1PalyySbBx5R5GVenT_TnPsDQ";
+    /** verify(CharSequence)는 현재 시각을 쓰므로 같은 기준 시각 사용 */
+    private static final long NOW = System.currentTimeMillis() / 1000;
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+        @Param({ "SunEC", "BC" })
+        String provider;
+
+        JwtVerifier verifier;
+        String valid;
+        byte[] validBytes;
+        byte[] expiredBytes;
+        byte[] unknownKeyBytes;
+
+        @Setup
+        public void setUp() throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            verifier = "BC".equals(provider)
+                    ? new JwtVerifier(JwtVerifier.DEFAULT_CLOCK_SKEW_SECONDS, new BouncyCastleProvider())
+                    : new JwtVerifier();
+            verifier.addKey(KID, keyPair.getPublic());
+
+            valid = sign(keyPair, KID, NOW + 3600);
+            validBytes = valid.getBytes(StandardCharsets.US_ASCII);
+            expiredBytes = sign(keyPair, KID, NOW - 3600).getBytes(StandardCharsets.US_ASCII);
+            unknownKeyBytes = sign(keyPair, "unknown-kid", NOW + 3600).getBytes(StandardCharsets.US_ASCII);
+
+            if (verifier.verify(validBytes, 0, validBytes.length, NOW, null) != JwtVerifier.Status.VALID) {
+                throw new IllegalStateException("벤치마크 토큰 검증 실패");
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Claims {
+        final TokenClaims claims = new TokenClaims();
+    }
+
+    @Benchmark
+    public JwtVerifier.Status verifyBytes(Tokens tokens) {
+        return tokens.verifier.verify(tokens.validBytes, 0, tokens.validBytes.length, NOW, null);
+    }
+
+    @Benchmark
+    public JwtVerifier.Status verifyString(Tokens tokens) {
+        return tokens.verifier.verify(tokens.valid);
+    }
+
+    @Benchmark
+    public long verifyWithClaims(Tokens tokens, Claims claims) {
+        tokens.verifier.verify(tokens.validBytes, 0, tokens.validBytes.length, NOW, claims.claims);
+        return claims.claims.getExpiration();
+    }
+
+    @Benchmark
+    public JwtVerifier.Status rejectExpired(Tokens tokens) {
+        return tokens.verifier.verify(tokens.expiredBytes, 0, tokens.expiredBytes.length, NOW, null);
+    }
+
+    @Benchmark
+    public JwtVerifier.Status rejectUnknownKey(Tokens tokens) {
+        return tokens.verifier.verify(tokens.unknownKeyBytes, 0, tokens.unknownKeyBytes.length, NOW, null);
+    }
+
+    /**
+     * webjwtgen과 같은 형식의 토큰 생성
+     */
+    static String sign(KeyPair keyPair, String kid, long exp) throws Exception {
+        String payload = "{\"exp\":" + exp + ",\"iss\":\"bench\",\"sub\":\"user-1\",\"iat\":" + (NOW - 60) + "}";
+        String signingInput = new String(JwsHeader.encode(kid), StandardCharsets.US_ASCII) + "."
+                + encode(payload.getBytes(StandardCharsets.UTF_8));
+
+        Signature signature = Signature.getInstance("SHA256withECDSAinP1363Format");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encode(signature.sign());
+    }
+
+    private static String encode(byte[] data) {
+        byte[] encoded = new byte[Base64UrlCodec.encodedLength(data.length)];
+        Base64UrlCodec.encode(data, 0, data.length, encoded, 0);
+        return new String(encoded, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,79 @@
+package com.security.jwt.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.util.concurrent.TimeUnit;
+
+import com.security.jwt.service.KeyGenerationService;
+import com.security.jwt.service.KeystoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keystore 경로 측정 (처리량 + SampleTime 백분위, 할당량은 -prof gc)
+ * 매 호출마다 JKS 파일을 읽고 비밀번호로 무결성을 확인하므로 요청 경로에서는 키 스냅샷/검증기 캐시를 사용
+ * (KeystoreCredentialVerifier, KeyMaterialStore) - 이 벤치마크는 캐시가 없을 때의 비용 기준선
+ *
+ * 실행: java -jar webjwtgen-benchmarks/target/benchmarks.jar KeystoreBenchmark -prof gc
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeystoreBenchmark {
+    private static final String PASSWORD = "bench-password";
+
+    @State(Scope.Benchmark)
+    public static class Keystore {
+        Path directory;
+        String path;
+
+        @Setup
+        public void setUp() throws Exception {
+            directory = Files.createTempDirectory("webjwtgen-bench");
+            path = directory.resolve("keystore.jks").toString();
+            KeyPair keyPair = KeyGenerationService.generateEC256KeyPair();
+            Certificate certificate = KeyGenerationService.createSelfSignedCertificate(keyPair,
+                    KeyGenerationService.DEFAULT_SUBJECT, KeyGenerationService.DEFAULT_VALIDITY_DAYS);
+            KeystoreService.createKeystore(path, PASSWORD);
+            KeystoreService.storeKeyEntry(path, PASSWORD, keyPair.getPrivate(), new Certificate[] { certificate },
+                    PASSWORD);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(Path.of(path));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Benchmark
+    public boolean verifyKeystorePassword(Keystore keystore) {
+        return KeystoreService.verifyKeystorePassword(keystore.path, PASSWORD);
+    }
+
+    @Benchmark
+    public PrivateKey getPrivateKey(Keystore keystore) throws Exception {
+        return KeystoreService.getPrivateKey(keystore.path, PASSWORD, PASSWORD);
+    }
+
+    @Benchmark
+    public PublicKey getPublicKey(Keystore keystore) throws Exception {
+        return KeystoreService.getPublicKey(keystore.path, PASSWORD);
+    }
+}
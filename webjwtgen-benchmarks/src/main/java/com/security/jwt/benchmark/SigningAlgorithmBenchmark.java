@@ -0,0 +1,90 @@
+package com.security.jwt.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.Provider;
+import java.security.Security;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import com.security.jwt.service.CryptoProviders;
+import com.security.jwt.service.JWTService;
+import com.security.jwt.service.JwkService;
+import com.security.jwt.service.KeyGenerationService;
+import com.security.jwt.service.SignerEngine;
+import com.security.jwt.service.SigningAlgorithm;
+import com.security.jwt.service.VerifierEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 서명 알고리즘별 발급/검증 비교 (처리량 + SampleTime 백분위, 할당량은 -prof gc)
+ * - generateJWT: 헤더/페이로드 조립 + 서명 + JWS 서명 인코딩 (요청 경로와 같은 JwtTokenAssembler)
+ * - verify: 요청 경로와 같은 VerifierEngine으로 JWS 서명 검증
+ * Provider 기본값은 서비스 기본값(BouncyCastle), SunEC와 비교하려면 -p provider=SunEC
+ *
+ * 실행: java -jar webjwtgen-benchmarks/target/benchmarks.jar SigningAlgorithmBenchmark -prof gc
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djwt.cache.enabled=false")
+public class SigningAlgorithmBenchmark {
+    private static final String EXP = String.valueOf(System.currentTimeMillis() / 1000 + 3600);
+    private static final String ISS = "bench-issuer";
+    private static final String SUB = "user-1";
+
+    @State(Scope.Benchmark)
+    public static class Keys {
+        @Param({ "ES256", "ES384", "ES512", "EdDSA" })
+        String algorithm;
+
+        @Param({ "BC" })
+        String provider;
+
+        SignerEngine signer;
+        VerifierEngine verifier;
+        byte[] token;
+        int signingInputLength;
+        byte[] signature;
+
+        @Setup
+        public void setUp() throws Exception {
+            CryptoProviders.bouncyCastle();
+            Provider selected = Security.getProvider(provider);
+            KeyPair keyPair = KeyGenerationService.generateKeyPair(SigningAlgorithm.fromName(algorithm));
+            String kid = JwkService.thumbprint(keyPair.getPublic());
+            signer = new SignerEngine(keyPair.getPrivate(), kid, selected);
+            verifier = new VerifierEngine(keyPair.getPublic(), selected);
+
+            String jwt = JWTService.generateJWT(EXP, ISS, SUB, signer);
+            int dot = jwt.lastIndexOf('.');
+            token = jwt.getBytes(StandardCharsets.US_ASCII);
+            signingInputLength = dot;
+            signature = Base64.getUrlDecoder().decode(jwt.substring(dot + 1));
+            if (!verifier.verify(token, 0, signingInputLength, signature)) {
+                throw new IllegalStateException(algorithm + " 서명 검증 실패");
+            }
+        }
+    }
+
+    @Benchmark
+    public String generateJWT(Keys keys) throws Exception {
+        return JWTService.generateJWT(EXP, ISS, SUB, keys.signer);
+    }
+
+    @Benchmark
+    public boolean verify(Keys keys) throws Exception {
+        return keys.verifier.verify(keys.token, 0, keys.signingInputLength, keys.signature);
+    }
+}
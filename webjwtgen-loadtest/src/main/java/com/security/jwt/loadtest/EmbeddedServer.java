@@ -0,0 +1,83 @@
+package com.security.jwt.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.startup.Tomcat;
+
+import com.security.jwt.AppLifecycleListener;
+import com.security.jwt.JwtServlet;
+import com.security.jwt.SetupServlet;
+
+/**
+ * 부하 테스트용 내장 Tomcat
+ * 임시 디렉터리를 문서 루트로 하여 WAR와 같은 경로(/webjwtgen)에 JwtServlet/SetupServlet만 등록
+ * (web.xml의 HTTPS 리다이렉션은 적용하지 않으므로 localhost HTTP로 접근)
+ */
+final class EmbeddedServer implements AutoCloseable {
+    static final String CONTEXT_PATH = "/webjwtgen";
+
+    private final Path baseDir;
+    private final Tomcat tomcat;
+
+    private EmbeddedServer(Path baseDir, Tomcat tomcat) {
+        this.baseDir = baseDir;
+        this.tomcat = tomcat;
+    }
+
+    /**
+     * 임의 포트로 시작 (localhost 전용)
+     */
+    static EmbeddedServer start(int maxThreads) throws IOException, LifecycleException {
+        Path baseDir = Files.createTempDirectory("webjwtgen-loadtest");
+        Path docBase = Files.createDirectories(baseDir.resolve("webapp"));
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(baseDir.toString());
+        tomcat.setSilent(true);
+        tomcat.setHostname("localhost");
+        tomcat.setPort(0);
+        tomcat.getConnector().setProperty("address", "127.0.0.1");
+        tomcat.getConnector().setProperty("maxThreads", String.valueOf(maxThreads));
+
+        Context context = tomcat.addContext(CONTEXT_PATH, docBase.toString());
+        context.addApplicationListener(AppLifecycleListener.class.getName());
+
+        Wrapper jwt = Tomcat.addServlet(context, "JwtServlet", new JwtServlet());
+        jwt.setAsyncSupported(true);
+        for (String pattern : new String[] { "/generate", "/generate/batch", "/verify", "/verify/batch" }) {
+            context.addServletMappingDecoded(pattern, "JwtServlet");
+        }
+        Tomcat.addServlet(context, "SetupServlet", new SetupServlet());
+        context.addServletMappingDecoded("/setup", "SetupServlet");
+
+        tomcat.start();
+        return new EmbeddedServer(baseDir, tomcat);
+    }
+
+    /**
+     * 애플리케이션 기본 URL (예: http://127.0.0.1:41234/webjwtgen)
+     */
+    String baseUrl() {
+        return "http://127.0.0.1:" + tomcat.getConnector().getLocalPort() + CONTEXT_PATH;
+    }
+
+    @Override
+    public void close() throws LifecycleException, IOException {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } finally {
+            try (Stream<Path> files = Files.walk(baseDir)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
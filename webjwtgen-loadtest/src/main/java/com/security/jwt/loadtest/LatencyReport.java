@@ -0,0 +1,121 @@
+package com.security.jwt.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * 부하 테스트 결과 요약 (처리량, 오류율, 지연 시간 백분위 ms)
+ * JSON으로 저장하며, 같은 형식의 기준선 파일과 비교
+ */
+final class LatencyReport {
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    int offeredRate;
+    int concurrency;
+    int requests;
+    int errors;
+    double errorRate;
+    double throughput;
+    double p50Millis;
+    double p90Millis;
+    double p99Millis;
+    double p999Millis;
+    double maxMillis;
+
+    static LatencyReport of(OpenLoopGenerator.Result result, int offeredRate, int concurrency) {
+        long[] sorted = result.latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        LatencyReport report = new LatencyReport();
+        report.offeredRate = offeredRate;
+        report.concurrency = concurrency;
+        report.requests = sorted.length;
+        report.errors = result.errors;
+        report.errorRate = sorted.length == 0 ? 0 : (double) result.errors / sorted.length;
+        report.throughput = round(result.ok / (result.elapsedNanos / 1e9));
+        report.p50Millis = percentile(sorted, 0.50);
+        report.p90Millis = percentile(sorted, 0.90);
+        report.p99Millis = percentile(sorted, 0.99);
+        report.p999Millis = percentile(sorted, 0.999);
+        report.maxMillis = sorted.length == 0 ? 0 : round(sorted[sorted.length - 1] / 1e6);
+        return report;
+    }
+
+    /**
+     * 기준선 대비 회귀 항목 (없으면 빈 목록)
+     */
+    List<String> regressionsAgainst(LatencyReport baseline, double maxP99Regression,
+            double maxThroughputRegression, double maxErrorRate) {
+        List<String> failures = new ArrayList<>();
+        if (errorRate > maxErrorRate) {
+            failures.add(String.format("오류율 %.4f > 허용 %.4f", errorRate, maxErrorRate));
+        }
+        if (baseline == null) {
+            return failures;
+        }
+        if (baseline.offeredRate != offeredRate || baseline.concurrency != concurrency) {
+            failures.add(String.format("기준선과 부하 설정이 다름 (rate %d/%d, concurrency %d/%d) - 같은 설정으로 비교하거나 기준선 갱신",
+                    offeredRate, baseline.offeredRate, concurrency, baseline.concurrency));
+            return failures;
+        }
+        double p99Limit = baseline.p99Millis * (1 + maxP99Regression);
+        if (p99Millis > p99Limit) {
+            failures.add(String.format("p99 %.2fms > 기준선 %.2fms + %.0f%%", p99Millis, baseline.p99Millis,
+                    maxP99Regression * 100));
+        }
+        double throughputLimit = baseline.throughput * (1 - maxThroughputRegression);
+        if (throughput < throughputLimit) {
+            failures.add(String.format("처리량 %.1f/s < 기준선 %.1f/s - %.0f%%", throughput, baseline.throughput,
+                    maxThroughputRegression * 100));
+        }
+        return failures;
+    }
+
+    String summary() {
+        return String.format("요청 %d (오류 %d, %.3f%%), 처리량 %.1f/s (목표 %d/s, 동시 %d)%n"
+                + "지연 시간 ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f",
+                requests, errors, errorRate * 100, throughput, offeredRate, concurrency,
+                p50Millis, p90Millis, p99Millis, p999Millis, maxMillis);
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(this, writer);
+        }
+    }
+
+    static LatencyReport read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, LatencyReport.class);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return round(sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
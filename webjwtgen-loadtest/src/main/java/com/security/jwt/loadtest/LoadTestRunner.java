@@ -0,0 +1,112 @@
+package com.security.jwt.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * /generate 부하 테스트 실행기
+ * 내장 Tomcat 시작 → 초기 설정(POST /setup) → 워밍업 → 측정 → 결과 저장 → 기준선 비교 (회귀 시 종료 코드 1)
+ *
+ * 설정 (시스템 프로퍼티):
+ * - loadtest.rate: 초당 요청 수 (기본값: 100)
+ * - loadtest.concurrency: 최대 동시 요청 수 (기본값: 64)
+ * - loadtest.warmupSeconds / loadtest.durationSeconds: 워밍업/측정 시간 (기본값: 5 / 20)
+ * - loadtest.subjects: 요청마다 돌려 쓰는 sub 수, 발급 캐시 적중을 줄이기 위함 (기본값: 1000)
+ * - loadtest.baseline: 기준선 JSON 경로 (기본값: baseline.json, 없으면 비교 생략)
+ * - loadtest.result: 결과 JSON 경로 (기본값: target/loadtest-result.json)
+ * - loadtest.maxP99Regression: 기준선 대비 허용 p99 증가율 (기본값: 0.25)
+ * - loadtest.maxThroughputRegression: 기준선 대비 허용 처리량 감소율 (기본값: 0.10)
+ * - loadtest.maxErrorRate: 허용 오류율 (기본값: 0.001)
+ * - loadtest.updateBaseline: true면 비교 대신 결과를 기준선으로 저장
+ */
+public final class LoadTestRunner {
+    private static final String PASSWORD = "loadtest-password";
+    private static final String ISSUER = "loadtest";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("loadtest.rate", 100);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 20);
+        int subjects = Integer.getInteger("loadtest.subjects", 1000);
+        Path baselinePath = Paths.get(System.getProperty("loadtest.baseline", "baseline.json"));
+        Path resultPath = Paths.get(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+        double maxP99Regression = Double.parseDouble(System.getProperty("loadtest.maxP99Regression", "0.25"));
+        double maxThroughputRegression = Double.parseDouble(
+                System.getProperty("loadtest.maxThroughputRegression", "0.10"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.001"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+
+        LatencyReport report;
+        try (EmbeddedServer server = EmbeddedServer.start(Math.max(200, concurrency * 2))) {
+            String baseUrl = server.baseUrl();
+            String cookie = setup(baseUrl);
+            String exp = String.valueOf(System.currentTimeMillis() / 1000 + 3600);
+            String prefix = baseUrl + "/generate?includePublicKey=false&password="
+                    + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8) + "&iss=" + ISSUER + "&exp=" + exp
+                    + "&sub=user-";
+
+            OpenLoopGenerator generator = new OpenLoopGenerator(concurrency, cookie);
+            try {
+                System.out.printf("워밍업: %d/s x %ds%n", rate, warmupSeconds);
+                generator.run(rate, warmupSeconds, i -> URI.create(prefix + (i % subjects)));
+                System.out.printf("측정: %d/s x %ds (동시 %d)%n", rate, durationSeconds, concurrency);
+                report = LatencyReport.of(generator.run(rate, durationSeconds,
+                        i -> URI.create(prefix + (i % subjects))), rate, concurrency);
+            } finally {
+                generator.shutdown();
+            }
+        }
+
+        System.out.println(report.summary());
+        report.write(resultPath);
+        System.out.println("결과 저장: " + resultPath);
+
+        if (updateBaseline) {
+            report.write(baselinePath);
+            System.out.println("기준선 갱신: " + baselinePath);
+            return;
+        }
+        LatencyReport baseline = LatencyReport.read(baselinePath);
+        if (baseline == null) {
+            System.out.println("기준선 없음 (" + baselinePath + ") - -Dloadtest.updateBaseline=true로 생성");
+        }
+        List<String> regressions = report.regressionsAgainst(baseline, maxP99Regression, maxThroughputRegression,
+                maxErrorRate);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(message -> System.err.println("회귀: " + message));
+            System.exit(1);
+        }
+        System.out.println("기준선 통과");
+    }
+
+    /**
+     * 초기 설정 후 세션 쿠키 반환 (키 스냅샷은 설정 시 로드됨)
+     */
+    private static String setup(String baseUrl) throws IOException, InterruptedException {
+        String password = URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/setup"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("password=" + password + "&confirmPassword=" + password))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request,
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("초기 설정 실패: " + response.statusCode() + " " + response.body());
+        }
+        return response.headers().firstValue("Set-Cookie")
+                .map(value -> value.split(";", 2)[0])
+                .orElseThrow(() -> new IllegalStateException("초기 설정 응답에 세션 쿠키 없음"));
+    }
+}
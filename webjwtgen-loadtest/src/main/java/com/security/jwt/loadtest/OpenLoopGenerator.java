@@ -0,0 +1,111 @@
+package com.security.jwt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 개방 루프(open-loop) 부하 생성기
+ * 요청 i는 응답 여부와 관계없이 시작 시각 + i / rate에 보내도록 예정하고,
+ * 지연 시간은 실제 전송 시각이 아니라 예정 시각부터 잰다 (coordinated omission 보정)
+ *
+ * - 동시 요청은 concurrency개로 제한: 한도에 걸려 늦게 보낸 요청도 예정 시각부터 재므로 대기 시간이 지연 시간에 포함됨
+ * - 지연 시간은 미리 할당한 배열에 기록하고 측정 후 정렬하여 정확한 백분위 계산
+ */
+final class OpenLoopGenerator {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ExecutorService callbacks;
+    private final int concurrency;
+    private final String cookie;
+
+    OpenLoopGenerator(int concurrency, String cookie) {
+        this.concurrency = concurrency;
+        this.cookie = cookie;
+        this.callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(callbacks)
+                .build();
+    }
+
+    /**
+     * rate(요청/초)로 seconds초 동안 요청 (uri는 요청 순번으로 생성)
+     */
+    Result run(int rate, int seconds, IntFunction<URI> uri) throws InterruptedException {
+        int total = rate * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        AtomicLongArray latencies = new AtomicLongArray(total);
+        AtomicLongArray statuses = new AtomicLongArray(total);
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(uri.apply(i))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Cookie", cookie)
+                    .GET()
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies.set(index, System.nanoTime() - intended);
+                        statuses.set(index, error != null ? -1 : response.statusCode());
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        return new Result(latencies, statuses, elapsed);
+    }
+
+    void shutdown() {
+        callbacks.shutdownNow();
+    }
+
+    /**
+     * 측정 결과 (요청별 지연 시간/상태, 첫 예정 시각부터 마지막 응답까지 경과 시간)
+     */
+    static final class Result {
+        final long[] latencyNanos;
+        final int ok;
+        final int errors;
+        final long elapsedNanos;
+
+        private Result(AtomicLongArray latencies, AtomicLongArray statuses, long elapsedNanos) {
+            int count = latencies.length();
+            this.latencyNanos = new long[count];
+            int success = 0;
+            for (int i = 0; i < count; i++) {
+                latencyNanos[i] = latencies.get(i);
+                if (statuses.get(i) == 200) {
+                    success++;
+                }
+            }
+            this.ok = success;
+            this.errors = count - success;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.security.jwt.verifier;
+
+/**
+ * Base64 URL 인코더/디코더 (패딩 없음)
+ * 호출자가 넘긴 버퍼에 직접 기록하며 중간 객체를 만들지 않음
+ */
+public final class Base64UrlCodec {
+    private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        java.util.Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private Base64UrlCodec() {
+    }
+
+    /**
+     * length 바이트를 인코딩했을 때의 길이
+     */
+    public static int encodedLength(int length) {
+        return (length / 3) * 4 + ((length % 3) == 0 ? 0 : (length % 3) + 1);
+    }
+
+    /**
+     * src[srcOffset, srcOffset+length)를 dst[dstOffset]부터 인코딩하고 기록한 바이트 수 반환
+     *
+     * 3바이트 묶음을 모두 읽은 뒤 4바이트를 쓰므로, 원본이 출력 영역의 끝부분
+     * (dstOffset + encodedLength(length) - length)에 놓여 있으면 같은 버퍼에서 제자리 인코딩 가능
+     */
+    public static int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        int sp = srcOffset;
+        int dp = dstOffset;
+        int end = srcOffset + (length / 3) * 3;
+        while (sp < end) {
+            int bits = (src[sp] & 0xff) << 16 | (src[sp + 1] & 0xff) << 8 | (src[sp + 2] & 0xff);
+            sp += 3;
+            dst[dp] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[dp + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[dp + 2] = ALPHABET[(bits >>> 6) & 0x3f];
+            dst[dp + 3] = ALPHABET[bits & 0x3f];
+            dp += 4;
+        }
+        int remaining = srcOffset + length - sp;
+        if (remaining == 1) {
+            int bits = (src[sp] & 0xff) << 16;
+            dst[dp] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[dp + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+            dp += 2;
+        } else if (remaining == 2) {
+            int bits = (src[sp] & 0xff) << 16 | (src[sp + 1] & 0xff) << 8;
+            dst[dp] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[dp + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[dp + 2] = ALPHABET[(bits >>> 6) & 0x3f];
+            dp += 3;
+        }
+        return dp - dstOffset;
+    }
+
+    /**
+     * dst[dstOffset + encodedLength(length) - length]부터 놓인 length 바이트를 같은 버퍼에서 제자리 인코딩
+     */
+    public static int encodeInPlace(byte[] buffer, int dstOffset, int length) {
+        int srcOffset = dstOffset + encodedLength(length) - length;
+        return encode(buffer, srcOffset, length, buffer, dstOffset);
+    }
+
+    /**
+     * length 문자를 디코딩했을 때의 길이 (Base64 URL 길이로 불가능하면 -1)
+     */
+    public static int decodedLength(int length) {
+        int remainder = length % 4;
+        if (remainder == 1) {
+            return -1;
+        }
+        return (length / 4) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * src[srcOffset, srcOffset+length)의 Base64 URL 문자를 dst[dstOffset]부터 디코딩하고 기록한 바이트 수 반환
+     * 알파벳 외 문자, 불가능한 길이, 0이 아닌 남는 비트(비정규 인코딩)는 IllegalArgumentException
+     */
+    public static int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        if (decodedLength(length) < 0) {
+            throw new IllegalArgumentException("Base64 URL 길이가 올바르지 않습니다");
+        }
+        int sp = srcOffset;
+        int dp = dstOffset;
+        int end = srcOffset + (length / 4) * 4;
+        while (sp < end) {
+            int bits = sextet(src[sp]) << 18 | sextet(src[sp + 1]) << 12 | sextet(src[sp + 2]) << 6
+                    | sextet(src[sp + 3]);
+            sp += 4;
+            dst[dp] = (byte) (bits >>> 16);
+            dst[dp + 1] = (byte) (bits >>> 8);
+            dst[dp + 2] = (byte) bits;
+            dp += 3;
+        }
+        int remaining = srcOffset + length - sp;
+        if (remaining == 2) {
+            int bits = sextet(src[sp]) << 18 | sextet(src[sp + 1]) << 12;
+            if ((bits & 0xffff) != 0) {
+                throw new IllegalArgumentException("Base64 URL 인코딩이 정규 형식이 아닙니다");
+            }
+            dst[dp++] = (byte) (bits >>> 16);
+        } else if (remaining == 3) {
+            int bits = sextet(src[sp]) << 18 | sextet(src[sp + 1]) << 12 | sextet(src[sp + 2]) << 6;
+            if ((bits & 0xff) != 0) {
+                throw new IllegalArgumentException("Base64 URL 인코딩이 정규 형식이 아닙니다");
+            }
+            dst[dp] = (byte) (bits >>> 16);
+            dst[dp + 1] = (byte) (bits >>> 8);
+            dp += 2;
+        }
+        return dp - dstOffset;
+    }
+
+    private static int sextet(byte b) {
+        int value = b >= 0 ? DECODE_TABLE[b] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Base64 URL 문자가 아닙니다");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,128 @@
+package com.security.jwt.verifier;
+
+import java.security.SignatureException;
+
+/**
+ * ECDSA 서명 형식 변환기
+ * DER(SEQUENCE { INTEGER r, INTEGER s }) 또는 P1363(PLAIN-ECDSA, r||s) 서명을
+ * JWS 형식(고정 길이 r || s)으로 호출자 버퍼에 직접 기록
+ * 기본값은 P-256(ES256, 32바이트), 다른 곡선은 componentLength를 받는 메서드 사용 (ES384: 48, ES512: 66)
+ */
+public final class EcdsaSignatureTranscoder {
+    /** P-256 r, s 각각의 길이 */
+    public static final int COMPONENT_LENGTH = 32;
+    /** JWS 서명 길이 (r||s) */
+    public static final int JOSE_LENGTH = COMPONENT_LENGTH * 2;
+    /** JWS 서명의 Base64 URL 인코딩 길이 */
+    public static final int JOSE_BASE64_LENGTH = Base64UrlCodec.encodedLength(JOSE_LENGTH);
+
+    private EcdsaSignatureTranscoder() {
+    }
+
+    /**
+     * DER 서명을 r||s(64바이트)로 변환하여 dst[dstOffset]부터 기록
+     */
+    public static void derToJose(byte[] signature, byte[] dst, int dstOffset) throws SignatureException {
+        derToJose(signature, dst, dstOffset, COMPONENT_LENGTH);
+    }
+
+    /**
+     * DER 서명을 r||s(componentLength * 2 바이트)로 변환하여 dst[dstOffset]부터 기록
+     */
+    public static void derToJose(byte[] signature, byte[] dst, int dstOffset, int componentLength)
+            throws SignatureException {
+        if (signature == null) {
+            throw new SignatureException("서명이 없습니다");
+        }
+
+        int pos = 0;
+        if (signature.length < 8 || (signature[pos++] & 0xff) != 0x30) {
+            throw new SignatureException("DER 서명 형식이 아닙니다");
+        }
+        int seqLength = signature[pos++] & 0xff;
+        if (seqLength == 0x81) {
+            seqLength = signature[pos++] & 0xff;
+        } else if (seqLength > 0x7f) {
+            throw new SignatureException("DER 서명 길이가 올바르지 않습니다");
+        }
+        if (pos + seqLength != signature.length) {
+            throw new SignatureException("DER 서명 길이가 올바르지 않습니다");
+        }
+
+        pos = copyInteger(signature, pos, dst, dstOffset, componentLength);
+        pos = copyInteger(signature, pos, dst, dstOffset + componentLength, componentLength);
+        if (pos != signature.length) {
+            throw new SignatureException("DER 서명에 불필요한 데이터가 있습니다");
+        }
+    }
+
+    /**
+     * P1363(PLAIN-ECDSA) 서명을 검증 후 dst[dstOffset]부터 그대로 기록
+     */
+    public static void plainToJose(byte[] signature, byte[] dst, int dstOffset) throws SignatureException {
+        if (signature == null || signature.length != JOSE_LENGTH) {
+            throw new SignatureException("P1363 서명 길이가 올바르지 않습니다");
+        }
+        System.arraycopy(signature, 0, dst, dstOffset, JOSE_LENGTH);
+    }
+
+    /**
+     * DER 서명을 r||s로 변환한 뒤 Base64 URL 인코딩하여 dst[dstOffset]부터 기록 (JOSE_BASE64_LENGTH 바이트)
+     * dst의 출력 영역 끝부분을 r||s 임시 공간으로 사용하고 제자리 인코딩
+     */
+    public static int derToJoseBase64Url(byte[] signature, byte[] dst, int dstOffset) throws SignatureException {
+        return derToJoseBase64Url(signature, dst, dstOffset, COMPONENT_LENGTH);
+    }
+
+    /**
+     * DER 서명을 r||s(componentLength * 2 바이트)로 변환한 뒤 Base64 URL 인코딩하여 dst[dstOffset]부터 기록
+     */
+    public static int derToJoseBase64Url(byte[] signature, byte[] dst, int dstOffset, int componentLength)
+            throws SignatureException {
+        int joseLength = componentLength * 2;
+        derToJose(signature, dst, dstOffset + Base64UrlCodec.encodedLength(joseLength) - joseLength,
+                componentLength);
+        return Base64UrlCodec.encodeInPlace(dst, dstOffset, joseLength);
+    }
+
+    /**
+     * P1363 서명을 Base64 URL 인코딩하여 dst[dstOffset]부터 기록 (JOSE_BASE64_LENGTH 바이트)
+     */
+    public static int plainToJoseBase64Url(byte[] signature, byte[] dst, int dstOffset) throws SignatureException {
+        plainToJose(signature, dst, dstOffset + JOSE_BASE64_LENGTH - JOSE_LENGTH);
+        return Base64UrlCodec.encodeInPlace(dst, dstOffset, JOSE_LENGTH);
+    }
+
+    /**
+     * INTEGER 하나를 읽어 componentLength 바이트 칸에 오른쪽 정렬로 기록하고 다음 위치 반환
+     */
+    private static int copyInteger(byte[] der, int pos, byte[] dst, int dstOffset, int componentLength)
+            throws SignatureException {
+        if (pos + 2 > der.length || (der[pos] & 0xff) != 0x02) {
+            throw new SignatureException("DER INTEGER 형식이 아닙니다");
+        }
+        int length = der[pos + 1] & 0xff;
+        pos += 2;
+        if (length == 0 || length > 0x7f || pos + length > der.length) {
+            throw new SignatureException("DER INTEGER 길이가 올바르지 않습니다");
+        }
+
+        // 부호용 0x00 및 선행 0 바이트 제거
+        int start = pos;
+        int end = pos + length;
+        while (start < end - 1 && der[start] == 0) {
+            start++;
+        }
+        int valueLength = end - start;
+        if (valueLength > componentLength) {
+            throw new SignatureException("서명 값이 곡선 범위를 벗어났습니다");
+        }
+
+        int padding = componentLength - valueLength;
+        for (int i = 0; i < padding; i++) {
+            dst[dstOffset + i] = 0;
+        }
+        System.arraycopy(der, start, dst, dstOffset + padding, valueLength);
+        return end;
+    }
+}
@@ -0,0 +1,63 @@
+package com.security.jwt.verifier;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * webjwtgen이 발급하는 JWS 헤더 형식
+ * {"alg":"ES256","typ":"JWT"[,"kid":"..."]} 고정 형식이므로 키(kid)마다 인코딩된 세그먼트가 하나로 정해짐
+ * 발급(JwtTokenAssembler)과 검증(JwtVerifier)이 같은 바이트를 사용
+ * 발급 측은 키 알고리즘에 따라 alg만 바꾼 같은 형식을 사용 (ES384, ES512, EdDSA, 이 라이브러리의 검증은 ES256만 지원)
+ */
+public final class JwsHeader {
+    /** 기본 서명 알고리즘 */
+    static final String ES256 = "ES256";
+    /** kid를 제외한 헤더 JSON 앞부분 */
+    static final String PREFIX = "{\"alg\":\"ES256\",\"typ\":\"JWT\"";
+    /** PREFIX 뒤 kid 필드 시작 */
+    static final String KID_FIELD = ",\"kid\":\"";
+
+    private JwsHeader() {
+    }
+
+    /**
+     * kid의 헤더 세그먼트 (Base64 URL 인코딩, kid가 null이면 kid 필드 생략)
+     */
+    public static byte[] encode(String kid) {
+        return encode(ES256, kid);
+    }
+
+    /**
+     * alg, kid의 헤더 세그먼트 (alg는 JWS 알고리즘 이름, ES256이면 encode(kid)와 같은 바이트)
+     */
+    public static byte[] encode(String alg, String kid) {
+        if (kid != null && !isValidKid(kid)) {
+            throw new IllegalArgumentException("kid는 Base64 URL 문자만 허용됩니다");
+        }
+        if (!isValidKid(alg)) {
+            throw new IllegalArgumentException("alg는 Base64 URL 문자만 허용됩니다");
+        }
+        String json = "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\"" + (kid != null ? KID_FIELD + kid + "\"" : "") + "}";
+        byte[] raw = json.getBytes(StandardCharsets.US_ASCII);
+        byte[] encoded = new byte[Base64UrlCodec.encodedLength(raw.length)];
+        Base64UrlCodec.encode(raw, 0, raw.length, encoded, 0);
+        return encoded;
+    }
+
+    /**
+     * kid가 Base64 URL 문자([A-Za-z0-9_-])로만 이루어졌는지 확인 (JSON 이스케이프가 필요 없는 형식)
+     */
+    public static boolean isValidKid(String kid) {
+        if (kid == null || kid.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < kid.length(); i++) {
+            char c = kid.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
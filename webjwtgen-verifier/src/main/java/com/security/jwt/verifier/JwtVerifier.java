@@ -0,0 +1,348 @@
+package com.security.jwt.verifier;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * webjwtgen 발급 ES256 JWT 검증기
+ * JDK만 사용 (SunEC의 SHA256withECDSAinP1363Format으로 r||s 서명을 그대로 검증)
+ * 서명 검증 비용이 대부분이므로, 더 빠른 JCA Provider(예: BouncyCastle)가 이미 있는 서비스는 생성자로 지정 가능
+ *
+ * 검증 순서:
+ * 1. 점(.) 위치만 찾아 세 구간으로 나눔 (정규식/split/문자열 생성 없음)
+ * 2. 헤더 세그먼트를 kid별 예상 세그먼트와 상수 시간 비교
+ *    (스레드가 직전에 쓴 키와 같으면 디코딩 없이 통과, 다르면 헤더에서 kid를 읽어 키 캐시 조회)
+ * 3. 페이로드를 재사용 버퍼에 디코딩하여 exp/nbf/iat 확인 (허용 오차 적용, 만료 토큰은 서명 검증 생략)
+ * 4. 스레드별로 재사용하는 Signature로 서명 검증
+ *
+ * 인스턴스는 스레드 안전: 키 캐시는 ConcurrentHashMap, 디코딩 버퍼와 Signature는 스레드별로 재사용
+ */
+public final class JwtVerifier {
+    /** 기본 exp/nbf/iat 허용 오차 (초) */
+    public static final long DEFAULT_CLOCK_SKEW_SECONDS = 60;
+
+    private static final byte[] HEADER_PREFIX = JwsHeader.PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KID_FIELD = JwsHeader.KID_FIELD.getBytes(StandardCharsets.US_ASCII);
+    /** kid 없는 토큰용 키의 캐시 키 */
+    private static final String NO_KID = "";
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    /**
+     * 검증 결과
+     */
+    public enum Status {
+        VALID,
+        /** compact JWS 형식 또는 Base64 URL/JSON 형식 오류 */
+        MALFORMED,
+        /** webjwtgen 헤더 형식(ES256, JWT)이 아님 */
+        UNSUPPORTED_HEADER,
+        /** 등록되지 않은 kid */
+        UNKNOWN_KEY,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        /** nbf 이전이거나 iat가 미래 */
+        NOT_YET_VALID;
+
+        public boolean isValid() {
+            return this == VALID;
+        }
+    }
+
+    private final long clockSkewSeconds;
+    private final Provider provider;
+    private final String signatureAlgorithm;
+    private final ConcurrentHashMap<String, VerificationKey> keys = new ConcurrentHashMap<>();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public JwtVerifier() {
+        this(DEFAULT_CLOCK_SKEW_SECONDS);
+    }
+
+    public JwtVerifier(long clockSkewSeconds) {
+        this(clockSkewSeconds, defaultAlgorithm(), null);
+    }
+
+    /**
+     * 서명 검증에 사용할 Provider 지정 (SHA256withECDSAinP1363Format 또는 SHA256withPLAIN-ECDSA 지원 필요)
+     */
+    public JwtVerifier(long clockSkewSeconds, Provider provider) throws NoSuchAlgorithmException {
+        this(clockSkewSeconds, VerificationKey.resolveAlgorithm(provider), provider);
+    }
+
+    private JwtVerifier(long clockSkewSeconds, String signatureAlgorithm, Provider provider) {
+        if (clockSkewSeconds < 0) {
+            throw new IllegalArgumentException("허용 오차는 0 이상이어야 합니다");
+        }
+        this.clockSkewSeconds = clockSkewSeconds;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.provider = provider;
+    }
+
+    private static String defaultAlgorithm() {
+        try {
+            return VerificationKey.resolveAlgorithm(null);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검증 키 등록 (같은 kid가 있으면 교체, kid가 null이면 kid 없는 토큰용)
+     */
+    public void addKey(String kid, PublicKey publicKey) throws GeneralSecurityException {
+        if (!(publicKey instanceof ECPublicKey)
+                || !isP256(((ECPublicKey) publicKey).getParams())) {
+            throw new InvalidKeyException("P-256 EC 공개키가 아닙니다");
+        }
+        VerificationKey key = new VerificationKey(kid, publicKey, signatureAlgorithm, provider);
+        VerificationKey previous = keys.put(kid != null ? kid : NO_KID, key);
+        if (previous != null) {
+            previous.markRemoved();
+        }
+    }
+
+    /**
+     * JWK의 x, y 좌표(각 32바이트)로 검증 키 등록
+     */
+    public void addKey(String kid, byte[] x, byte[] y) throws GeneralSecurityException {
+        if (x == null || y == null || x.length != P256_COORDINATE_LENGTH || y.length != P256_COORDINATE_LENGTH) {
+            throw new InvalidKeyException("P-256 좌표 길이가 올바르지 않습니다");
+        }
+        ECPoint point = new ECPoint(new BigInteger(1, x), new BigInteger(1, y));
+        PublicKey publicKey = KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, p256()));
+        addKey(kid, publicKey);
+    }
+
+    /**
+     * 검증 키 제거 (kid가 null이면 kid 없는 토큰용 키)
+     */
+    public boolean removeKey(String kid) {
+        VerificationKey removed = keys.remove(kid != null ? kid : NO_KID);
+        if (removed == null) {
+            return false;
+        }
+        removed.markRemoved();
+        return true;
+    }
+
+    /**
+     * 등록된 kid 목록 (kid 없는 토큰용 키는 빈 문자열)
+     */
+    public Set<String> getKids() {
+        return Collections.unmodifiableSet(keys.keySet());
+    }
+
+    /**
+     * 현재 시각 기준 검증
+     */
+    public Status verify(CharSequence token) {
+        return verify(token, null);
+    }
+
+    /**
+     * 현재 시각 기준 검증, claims가 있으면 페이로드 클레임을 채움
+     */
+    public Status verify(CharSequence token, TokenClaims claims) {
+        if (token == null) {
+            return Status.MALFORMED;
+        }
+        int length = token.length();
+        Scratch s = scratch.get();
+        byte[] bytes = s.tokenBuffer(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return Status.MALFORMED;
+            }
+            bytes[i] = (byte) c;
+        }
+        return verify(bytes, 0, length, System.currentTimeMillis() / 1000, claims);
+    }
+
+    /**
+     * token[offset, offset+length)의 ASCII 토큰을 nowSeconds 기준으로 검증
+     * claims가 null이면 스레드별 내부 객체를 사용
+     */
+    public Status verify(byte[] token, int offset, int length, long nowSeconds, TokenClaims claims) {
+        int end = offset + length;
+
+        // 1. header.payload.signature (정확히 점 두 개, 빈 구간 없음)
+        int firstDot = indexOfDot(token, offset, end);
+        int secondDot = firstDot < 0 ? -1 : indexOfDot(token, firstDot + 1, end);
+        if (firstDot <= offset || secondDot <= firstDot + 1 || indexOfDot(token, secondDot + 1, end) >= 0) {
+            return Status.MALFORMED;
+        }
+        if (end - secondDot - 1 != EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH) {
+            return Status.MALFORMED;
+        }
+
+        Scratch s = scratch.get();
+        try {
+            // 2. 헤더 → 키
+            int headerLength = firstDot - offset;
+            VerificationKey key = s.lastKey;
+            if (key == null || key.isRemoved() || !key.matchesHeader(token, offset, headerLength)) {
+                Status status = resolveKey(token, offset, headerLength, s);
+                if (status != null) {
+                    return status;
+                }
+                key = s.lastKey;
+            }
+
+            // 3. 클레임 (시간 확인)
+            TokenClaims target = claims != null ? claims : s.claims;
+            int payloadLength = secondDot - firstDot - 1;
+            int decodedLength = Base64UrlCodec.decodedLength(payloadLength);
+            if (decodedLength < 0) {
+                return Status.MALFORMED;
+            }
+            Base64UrlCodec.decode(token, firstDot + 1, payloadLength, target.buffer(decodedLength), 0);
+            if (!target.parse(decodedLength)) {
+                return Status.MALFORMED;
+            }
+            if (target.hasExpiration() && nowSeconds >= target.getExpiration() + clockSkewSeconds) {
+                return Status.EXPIRED;
+            }
+            if ((target.hasNotBefore() && nowSeconds + clockSkewSeconds < target.getNotBefore())
+                    || (target.hasIssuedAt() && target.getIssuedAt() > nowSeconds + clockSkewSeconds)) {
+                return Status.NOT_YET_VALID;
+            }
+
+            // 4. 서명
+            Base64UrlCodec.decode(token, secondDot + 1, EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH,
+                    s.signature, 0);
+            return key.verify(token, offset, secondDot - offset, s.signature)
+                    ? Status.VALID
+                    : Status.INVALID_SIGNATURE;
+        } catch (IllegalArgumentException e) {
+            return Status.MALFORMED;
+        } catch (GeneralSecurityException e) {
+            return Status.INVALID_SIGNATURE;
+        }
+    }
+
+    /**
+     * 헤더를 디코딩해 kid로 키를 찾고 s.lastKey에 기록 (성공 시 null, 실패 시 상태 반환)
+     */
+    private Status resolveKey(byte[] token, int offset, int headerLength, Scratch s) {
+        int decodedLength = Base64UrlCodec.decodedLength(headerLength);
+        if (decodedLength < 0) {
+            return Status.MALFORMED;
+        }
+        byte[] header = s.headerBuffer(decodedLength);
+        Base64UrlCodec.decode(token, offset, headerLength, header, 0);
+
+        // {"alg":"ES256","typ":"JWT"} 또는 {"alg":"ES256","typ":"JWT","kid":"..."}
+        if (!startsWith(header, 0, decodedLength, HEADER_PREFIX)) {
+            return Status.UNSUPPORTED_HEADER;
+        }
+        String kid;
+        int pos = HEADER_PREFIX.length;
+        if (pos == decodedLength - 1 && header[pos] == '}') {
+            kid = NO_KID;
+        } else if (startsWith(header, pos, decodedLength, KID_FIELD)) {
+            int kidStart = pos + KID_FIELD.length;
+            int kidEnd = kidStart;
+            while (kidEnd < decodedLength && header[kidEnd] != '"') {
+                kidEnd++;
+            }
+            if (kidEnd != decodedLength - 2 || header[kidEnd + 1] != '}') {
+                return Status.UNSUPPORTED_HEADER;
+            }
+            kid = new String(header, kidStart, kidEnd - kidStart, StandardCharsets.US_ASCII);
+        } else {
+            return Status.UNSUPPORTED_HEADER;
+        }
+
+        VerificationKey key = keys.get(kid);
+        if (key == null) {
+            return Status.UNKNOWN_KEY;
+        }
+        // 같은 kid라도 헤더 전체가 발급 형식과 바이트 단위로 같아야 함
+        if (!key.matchesHeader(token, offset, headerLength)) {
+            return Status.UNSUPPORTED_HEADER;
+        }
+        s.lastKey = key;
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int end, byte[] prefix) {
+        if (end - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfDot(byte[] token, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (token[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isP256(ECParameterSpec params) {
+        try {
+            ECParameterSpec p256 = p256();
+            return params.getOrder().equals(p256.getOrder())
+                    && params.getCurve().equals(p256.getCurve())
+                    && params.getGenerator().equals(p256.getGenerator());
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    /**
+     * 스레드별 재사용 버퍼
+     */
+    private static final class Scratch {
+        private static final int INITIAL_CAPACITY = 512;
+
+        private byte[] token = new byte[INITIAL_CAPACITY];
+        private byte[] header = new byte[128];
+        private final byte[] signature = new byte[EcdsaSignatureTranscoder.JOSE_LENGTH];
+        private final TokenClaims claims = new TokenClaims();
+        private VerificationKey lastKey;
+
+        byte[] tokenBuffer(int length) {
+            if (token.length < length) {
+                token = new byte[Math.max(length, token.length * 2)];
+            }
+            return token;
+        }
+
+        byte[] headerBuffer(int length) {
+            if (header.length < length) {
+                header = new byte[length];
+            }
+            return header;
+        }
+    }
+}
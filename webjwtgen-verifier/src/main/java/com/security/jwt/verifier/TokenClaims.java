@@ -0,0 +1,379 @@
+package com.security.jwt.verifier;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 검증한 토큰의 클레임 (재사용 가능한 가변 객체)
+ * JwtVerifier.verify가 디코딩한 페이로드를 내부 버퍼에 두고 exp/nbf/iat만 바로 파싱
+ * iss/sub는 위치만 기록해 두었다가 getter 호출 시에만 문자열 생성
+ *
+ * 스레드 안전하지 않으므로 스레드(요청)별로 하나씩 사용
+ */
+public final class TokenClaims {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private byte[] payload = new byte[INITIAL_CAPACITY];
+    private int payloadLength;
+
+    private long expiration;
+    private long notBefore;
+    private long issuedAt;
+    private boolean hasExpiration;
+    private boolean hasNotBefore;
+    private boolean hasIssuedAt;
+    private int issuerStart;
+    private int issuerEnd;
+    private int subjectStart;
+    private int subjectEnd;
+
+    /**
+     * 페이로드 디코딩용 버퍼 (length 바이트 이상)
+     */
+    byte[] buffer(int length) {
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        return payload;
+    }
+
+    /**
+     * buffer()에 디코딩한 페이로드 JSON의 최상위 클레임 파싱 (형식 오류 시 false)
+     */
+    boolean parse(int length) {
+        payloadLength = length;
+        hasExpiration = false;
+        hasNotBefore = false;
+        hasIssuedAt = false;
+        issuerStart = -1;
+        subjectStart = -1;
+
+        int pos = skipWhitespace(0);
+        if (pos >= length || payload[pos] != '{') {
+            return false;
+        }
+        pos = skipWhitespace(pos + 1);
+        if (pos < length && payload[pos] == '}') {
+            return skipWhitespace(pos + 1) == length;
+        }
+
+        while (true) {
+            // 이름
+            if (pos >= length || payload[pos] != '"') {
+                return false;
+            }
+            int nameStart = pos + 1;
+            pos = skipString(pos);
+            if (pos < 0) {
+                return false;
+            }
+            int nameEnd = pos - 1;
+            pos = skipWhitespace(pos);
+            if (pos >= length || payload[pos] != ':') {
+                return false;
+            }
+            pos = skipWhitespace(pos + 1);
+
+            // 값
+            char name = claimName(nameStart, nameEnd);
+            if (name == 'e' || name == 'n' || name == 'i') {
+                pos = parseNumericDate(pos, name);
+            } else if (name == 'I' || name == 'S') {
+                int valueStart = pos + 1;
+                if (pos >= length || payload[pos] != '"') {
+                    return false;
+                }
+                pos = skipString(pos);
+                if (pos >= 0) {
+                    if (name == 'I') {
+                        issuerStart = valueStart;
+                        issuerEnd = pos - 1;
+                    } else {
+                        subjectStart = valueStart;
+                        subjectEnd = pos - 1;
+                    }
+                }
+            } else {
+                pos = skipValue(pos);
+            }
+            if (pos < 0) {
+                return false;
+            }
+
+            pos = skipWhitespace(pos);
+            if (pos >= length) {
+                return false;
+            }
+            if (payload[pos] == ',') {
+                pos = skipWhitespace(pos + 1);
+            } else if (payload[pos] == '}') {
+                return skipWhitespace(pos + 1) == length;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    public boolean hasExpiration() {
+        return hasExpiration;
+    }
+
+    /**
+     * exp (초), 없으면 0
+     */
+    public long getExpiration() {
+        return hasExpiration ? expiration : 0;
+    }
+
+    public boolean hasNotBefore() {
+        return hasNotBefore;
+    }
+
+    /**
+     * nbf (초), 없으면 0
+     */
+    public long getNotBefore() {
+        return hasNotBefore ? notBefore : 0;
+    }
+
+    public boolean hasIssuedAt() {
+        return hasIssuedAt;
+    }
+
+    /**
+     * iat (초), 없으면 0
+     */
+    public long getIssuedAt() {
+        return hasIssuedAt ? issuedAt : 0;
+    }
+
+    /**
+     * iss (없으면 null)
+     */
+    public String getIssuer() {
+        return issuerStart < 0 ? null : decodeString(issuerStart, issuerEnd);
+    }
+
+    /**
+     * sub (없으면 null)
+     */
+    public String getSubject() {
+        return subjectStart < 0 ? null : decodeString(subjectStart, subjectEnd);
+    }
+
+    /**
+     * 페이로드 JSON 원문 (다른 클레임이 필요할 때 호출자의 JSON 라이브러리로 파싱)
+     */
+    public String getPayloadJson() {
+        return new String(payload, 0, payloadLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 관심 클레임 이름 식별 (exp='e', nbf='n', iat='i', iss='I', sub='S', 그 외 0)
+     */
+    private char claimName(int start, int end) {
+        if (end - start != 3) {
+            return 0;
+        }
+        byte a = payload[start];
+        byte b = payload[start + 1];
+        byte c = payload[start + 2];
+        if (a == 'e' && b == 'x' && c == 'p') {
+            return 'e';
+        }
+        if (a == 'n' && b == 'b' && c == 'f') {
+            return 'n';
+        }
+        if (a == 'i' && b == 'a' && c == 't') {
+            return 'i';
+        }
+        if (a == 'i' && b == 's' && c == 's') {
+            return 'I';
+        }
+        if (a == 's' && b == 'u' && c == 'b') {
+            return 'S';
+        }
+        return 0;
+    }
+
+    /**
+     * NumericDate 파싱 (정수부만 사용, 소수부는 버림, 지수 표기는 형식 오류)
+     */
+    private int parseNumericDate(int pos, char name) {
+        int length = payloadLength;
+        boolean negative = pos < length && payload[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        int digitsStart = pos;
+        long value = 0;
+        while (pos < length && payload[pos] >= '0' && payload[pos] <= '9') {
+            value = value * 10 + (payload[pos] - '0');
+            pos++;
+        }
+        int digits = pos - digitsStart;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return -1;
+        }
+        if (pos < length && payload[pos] == '.') {
+            pos++;
+            int fractionStart = pos;
+            while (pos < length && payload[pos] >= '0' && payload[pos] <= '9') {
+                pos++;
+            }
+            if (pos == fractionStart) {
+                return -1;
+            }
+        }
+        if (pos < length && (payload[pos] == 'e' || payload[pos] == 'E')) {
+            return -1;
+        }
+
+        value = negative ? -value : value;
+        if (name == 'e') {
+            expiration = value;
+            hasExpiration = true;
+        } else if (name == 'n') {
+            notBefore = value;
+            hasNotBefore = true;
+        } else {
+            issuedAt = value;
+            hasIssuedAt = true;
+        }
+        return pos;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < payloadLength) {
+            byte b = payload[pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * payload[pos]의 '"'에서 시작하는 문자열을 건너뛰고 닫는 따옴표 다음 위치 반환 (오류 시 -1)
+     */
+    private int skipString(int pos) {
+        pos++;
+        while (pos < payloadLength) {
+            byte b = payload[pos];
+            if (b == '\\') {
+                pos += 2;
+            } else if (b == '"') {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 관심 없는 값(문자열, 숫자, 리터럴, 중첩 객체/배열)을 건너뛰고 다음 위치 반환 (오류 시 -1)
+     */
+    private int skipValue(int pos) {
+        if (pos >= payloadLength) {
+            return -1;
+        }
+        byte first = payload[pos];
+        if (first == '"') {
+            return skipString(pos);
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            while (pos < payloadLength) {
+                byte b = payload[pos];
+                if (b == '"') {
+                    pos = skipString(pos);
+                    if (pos < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        // 숫자, true, false, null
+        int start = pos;
+        while (pos < payloadLength) {
+            byte b = payload[pos];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos > start ? pos : -1;
+    }
+
+    /**
+     * JSON 문자열 내용(따옴표 제외) 디코딩 (이스케이프가 없으면 UTF-8 그대로)
+     */
+    private String decodeString(int start, int end) {
+        StringBuilder sb = null;
+        int runStart = start;
+        int pos = start;
+        while (pos < end) {
+            if (payload[pos] != '\\') {
+                pos++;
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(end - start);
+            }
+            sb.append(new String(payload, runStart, pos - runStart, StandardCharsets.UTF_8));
+            if (pos + 1 >= end) {
+                throw new IllegalStateException("JSON 이스케이프가 올바르지 않습니다");
+            }
+            byte escape = payload[pos + 1];
+            pos += 2;
+            switch (escape) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 4 > end) {
+                        throw new IllegalStateException("JSON 이스케이프가 올바르지 않습니다");
+                    }
+                    sb.append((char) Integer.parseInt(new String(payload, pos, 4, StandardCharsets.US_ASCII), 16));
+                    pos += 4;
+                    break;
+                default:
+                    // \" \\ \/
+                    sb.append((char) escape);
+                    break;
+            }
+            runStart = pos;
+        }
+        if (sb == null) {
+            return new String(payload, start, end - start, StandardCharsets.UTF_8);
+        }
+        sb.append(new String(payload, runStart, end - runStart, StandardCharsets.UTF_8));
+        return sb.toString();
+    }
+}
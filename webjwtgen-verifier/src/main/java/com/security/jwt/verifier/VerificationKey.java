@@ -0,0 +1,115 @@
+package com.security.jwt.verifier;
+
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * 키 캐시 항목
+ * kid별 공개키, 이 키로 발급된 토큰의 헤더 세그먼트, 스레드별로 initVerify 된 Signature를 보관
+ */
+final class VerificationKey {
+    /** r||s 서명을 DER 변환 없이 검증하는 알고리즘 (JDK SunEC 이름, BouncyCastle 이름 순) */
+    private static final String[] SIGNATURE_ALGORITHMS = { "SHA256withECDSAinP1363Format", "SHA256withPLAIN-ECDSA" };
+
+    private final String kid;
+    private final PublicKey publicKey;
+    private final String algorithm;
+    private final Provider provider;
+    private final byte[] headerSegment;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+    private volatile boolean removed;
+
+    VerificationKey(String kid, PublicKey publicKey, String algorithm, Provider provider)
+            throws GeneralSecurityException {
+        this.kid = kid;
+        this.publicKey = publicKey;
+        this.algorithm = algorithm;
+        this.provider = provider;
+        this.headerSegment = JwsHeader.encode(kid);
+
+        // 등록 시점에 키 검증 겸 현재 스레드용 인스턴스 준비
+        signatures.set(newSignature());
+    }
+
+    /**
+     * provider(null이면 JDK 기본 우선순위)가 지원하는 r||s 서명 알고리즘 이름
+     */
+    static String resolveAlgorithm(Provider provider) throws NoSuchAlgorithmException {
+        for (String algorithm : SIGNATURE_ALGORITHMS) {
+            try {
+                if (provider != null) {
+                    Signature.getInstance(algorithm, provider);
+                } else {
+                    Signature.getInstance(algorithm);
+                }
+                return algorithm;
+            } catch (NoSuchAlgorithmException e) {
+                // 다음 이름 시도
+            }
+        }
+        throw new NoSuchAlgorithmException("r||s 형식 ECDSA 검증을 지원하지 않는 Provider입니다: " + provider);
+    }
+
+    String getKid() {
+        return kid;
+    }
+
+    PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    boolean isRemoved() {
+        return removed;
+    }
+
+    void markRemoved() {
+        removed = true;
+    }
+
+    /**
+     * token[offset, offset+length)가 이 키의 헤더 세그먼트와 같은지 상수 시간 비교
+     * (길이가 다르면 바로 false: 길이는 kid 길이로 정해지는 공개 정보)
+     */
+    boolean matchesHeader(byte[] token, int offset, int length) {
+        if (length != headerSegment.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= headerSegment[i] ^ token[offset + i];
+        }
+        return diff == 0;
+    }
+
+    /**
+     * data[offset, offset+length)에 대한 r||s 서명 검증
+     */
+    boolean verify(byte[] data, int offset, int length, byte[] joseSignature) throws GeneralSecurityException {
+        Signature signature = signatures.get();
+        if (signature == null) {
+            signature = newSignature();
+            signatures.set(signature);
+        }
+        try {
+            signature.update(data, offset, length);
+            // verify() 호출 후 Signature는 initVerify 직후 상태로 돌아가므로 그대로 재사용 가능
+            return signature.verify(joseSignature);
+        } catch (SignatureException e) {
+            // 형식이 잘못된 서명: 상태를 알 수 없는 인스턴스는 폐기하고 검증 실패로 처리
+            signatures.remove();
+            return false;
+        }
+    }
+
+    private Signature newSignature() throws GeneralSecurityException {
+        Signature signature = provider != null
+                ? Signature.getInstance(algorithm, provider)
+                : Signature.getInstance(algorithm);
+        signature.initVerify(publicKey);
+        return signature;
+    }
+}
@@ -0,0 +1,105 @@
+package com.security.jwt.verifier;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Base64UrlCodec 검증 (JDK Base64 URL 인코더를 기준 구현으로 비교)
+ */
+public class Base64UrlCodecTest {
+    private static final Base64.Encoder REFERENCE = Base64.getUrlEncoder().withoutPadding();
+
+    @Test
+    public void encodeMatchesJdkEncoder() {
+        Random random = new Random(4648);
+        for (int length = 0; length <= 200; length++) {
+            byte[] src = new byte[length];
+            random.nextBytes(src);
+
+            byte[] dst = new byte[Base64UrlCodec.encodedLength(length) + 4];
+            int written = Base64UrlCodec.encode(src, 0, length, dst, 2);
+
+            assertEquals(Base64UrlCodec.encodedLength(length), written);
+            assertEquals(REFERENCE.encodeToString(src), new String(dst, 2, written, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void encodeInPlaceMatchesJdkEncoder() {
+        Random random = new Random(7515);
+        for (int length = 0; length <= 200; length++) {
+            byte[] src = new byte[length];
+            random.nextBytes(src);
+
+            int offset = 3;
+            int encodedLength = Base64UrlCodec.encodedLength(length);
+            byte[] buffer = new byte[offset + encodedLength];
+            System.arraycopy(src, 0, buffer, offset + encodedLength - length, length);
+            int written = Base64UrlCodec.encodeInPlace(buffer, offset, length);
+
+            assertEquals(encodedLength, written);
+            assertEquals(REFERENCE.encodeToString(src), new String(buffer, offset, written, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void decodeRoundTrips() {
+        Random random = new Random(7519);
+        for (int length = 0; length <= 200; length++) {
+            byte[] src = new byte[length];
+            random.nextBytes(src);
+            byte[] encoded = REFERENCE.encodeToString(src).getBytes(StandardCharsets.US_ASCII);
+
+            assertEquals(length, Base64UrlCodec.decodedLength(encoded.length));
+            byte[] decoded = new byte[length + 2];
+            int written = Base64UrlCodec.decode(encoded, 0, encoded.length, decoded, 1);
+
+            assertEquals(length, written);
+            assertArrayEquals(src, Arrays.copyOfRange(decoded, 1, 1 + length));
+        }
+    }
+
+    @Test
+    public void decodeRejectsNonCanonicalInput() {
+        // 남는 비트가 0이 아닌 인코딩 ("QQ"만 정규 형식, "QR"은 같은 바이트의 비정규 형식)
+        assertDecodes("QQ");
+        assertRejected("QR");
+        assertDecodes("QUE");
+        assertRejected("QUF");
+        // 불가능한 길이
+        assertRejected("A");
+        assertRejected("AAAAA");
+        // 패딩 및 표준 Base64 문자
+        assertRejected("QQ==");
+        assertRejected("ab+c");
+        assertRejected("ab/c");
+        assertRejected("ab c");
+        assertRejected(new byte[] { 'Q', (byte) 0xc3 });
+    }
+
+    private static void assertDecodes(String encoded) {
+        byte[] src = encoded.getBytes(StandardCharsets.US_ASCII);
+        byte[] dst = new byte[Base64UrlCodec.decodedLength(src.length)];
+        Base64UrlCodec.decode(src, 0, src.length, dst, 0);
+        assertEquals(encoded, REFERENCE.encodeToString(dst));
+    }
+
+    private static void assertRejected(String encoded) {
+        assertRejected(encoded.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void assertRejected(byte[] src) {
+        try {
+            Base64UrlCodec.decode(src, 0, src.length, new byte[src.length], 0);
+            fail("비정규/잘못된 Base64 URL 입력이 디코딩되었습니다: " + new String(src, StandardCharsets.ISO_8859_1));
+        } catch (IllegalArgumentException expected) {
+            // 정상
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.security.jwt.verifier;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.DERSequence;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * EcdsaSignatureTranscoder 검증
+ * 수동 DER 파서 결과를 BouncyCastle ASN1Sequence + BigInteger 기준 구현과 비교
+ *
+ * 기본 실행은 곡선마다 200회만 확인하며, 백만 회 왕복 검증은 시간이 걸리므로 지정할 때만 실행
+ * (mvn -pl webjwtgen-verifier test -Dverifier.test.roundTrips=1000000)
+ */
+public class EcdsaSignatureTranscoderTest {
+    private static final int ROUNDS = 200;
+    private static final int LONG_ROUNDS = Integer.getInteger("verifier.test.roundTrips", 0);
+    private static final byte[] MESSAGE = "header.payload".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void derToJoseMatchesAsn1ReferenceForGeneratedSignatures() throws Exception {
+        assertGeneratedSignatures("secp256r1", "SHA256withECDSA", 32);
+        assertGeneratedSignatures("secp384r1", "SHA384withECDSA", 48);
+        assertGeneratedSignatures("secp521r1", "SHA512withECDSA", 66);
+    }
+
+    @Test
+    public void derToJoseHandlesShortComponents() throws Exception {
+        Random random = new Random(7638);
+        for (int componentLength : new int[] { 32, 48, 66 }) {
+            int maxBits = componentLength == 66 ? 521 : componentLength * 8;
+            for (int i = 0; i < ROUNDS; i++) {
+                // 1비트부터 곡선 크기까지 (짧은 r/s, 부호용 0x00이 붙는 값 포함)
+                BigInteger r = new BigInteger(1 + random.nextInt(maxBits), random);
+                BigInteger s = new BigInteger(1 + random.nextInt(maxBits), random);
+                assertTranscodes(der(r, s), r, s, componentLength);
+            }
+            assertTranscodes(der(BigInteger.ONE, BigInteger.ONE), BigInteger.ONE, BigInteger.ONE, componentLength);
+            BigInteger max = BigInteger.ONE.shiftLeft(maxBits).subtract(BigInteger.ONE);
+            assertTranscodes(der(max, BigInteger.ONE), max, BigInteger.ONE, componentLength);
+        }
+    }
+
+    @Test
+    public void derToJoseStripsLeadingZeros() throws Exception {
+        // 비최소 인코딩 INTEGER (00 00 01): 선행 0을 제거하고 오른쪽 정렬
+        byte[] der = { 0x30, 0x09, 0x02, 0x03, 0x00, 0x00, 0x01, 0x02, 0x02, 0x00, (byte) 0x80 };
+        byte[] jose = new byte[64];
+        EcdsaSignatureTranscoder.derToJose(der, jose, 0);
+
+        byte[] expected = new byte[64];
+        expected[31] = 0x01;
+        expected[63] = (byte) 0x80;
+        assertArrayEquals(expected, jose);
+
+        // 0만 있는 INTEGER는 0
+        byte[] zeros = { 0x30, 0x08, 0x02, 0x02, 0x00, 0x00, 0x02, 0x02, 0x00, 0x00 };
+        EcdsaSignatureTranscoder.derToJose(zeros, jose, 0);
+        assertArrayEquals(new byte[64], jose);
+    }
+
+    @Test
+    public void derToJoseRejectsMalformedInput() {
+        BigInteger tooLarge = BigInteger.ONE.shiftLeft(256);
+        byte[] valid = der(BigInteger.TEN, BigInteger.TEN);
+        byte[] trailing = Arrays.copyOf(valid, valid.length + 1);
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+        byte[] notSequence = valid.clone();
+        notSequence[0] = 0x31;
+        byte[] notInteger = valid.clone();
+        notInteger[2] = 0x03;
+
+        assertRejected(null);
+        assertRejected(new byte[0]);
+        assertRejected(trailing);
+        assertRejected(truncated);
+        assertRejected(notSequence);
+        assertRejected(notInteger);
+        assertRejected(der(tooLarge, BigInteger.ONE));
+    }
+
+    @Test
+    public void derToJoseBase64UrlMatchesJdkEncoder() throws Exception {
+        KeyPair keyPair = keyPair("secp256r1");
+        for (int i = 0; i < ROUNDS; i++) {
+            byte[] der = sign(keyPair, "SHA256withECDSA");
+            byte[] jose = new byte[EcdsaSignatureTranscoder.JOSE_LENGTH];
+            EcdsaSignatureTranscoder.derToJose(der, jose, 0);
+
+            // 앞뒤에 다른 데이터가 있는 버퍼 중간에 기록
+            byte[] dst = new byte[EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH + 10];
+            Arrays.fill(dst, (byte) '.');
+            int written = EcdsaSignatureTranscoder.derToJoseBase64Url(der, dst, 5);
+
+            assertEquals(EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH, written);
+            assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(jose),
+                    new String(dst, 5, written, StandardCharsets.US_ASCII));
+            assertEquals('.', dst[4]);
+            assertEquals('.', dst[5 + written]);
+        }
+    }
+
+    @Test
+    public void plainToJoseMatchesDerPathAndVerifies() throws Exception {
+        KeyPair keyPair = keyPair("secp256r1");
+        for (int i = 0; i < ROUNDS; i++) {
+            byte[] plain = sign(keyPair, "SHA256withECDSAinP1363Format");
+            byte[] jose = new byte[EcdsaSignatureTranscoder.JOSE_LENGTH];
+            EcdsaSignatureTranscoder.plainToJose(plain, jose, 0);
+            assertArrayEquals(plain, jose);
+
+            // 같은 (r, s)를 DER로 바꿔 DER 경로와 결과가 같은지 확인
+            BigInteger r = new BigInteger(1, Arrays.copyOfRange(plain, 0, 32));
+            BigInteger s = new BigInteger(1, Arrays.copyOfRange(plain, 32, 64));
+            byte[] fromDer = new byte[EcdsaSignatureTranscoder.JOSE_LENGTH];
+            EcdsaSignatureTranscoder.derToJose(der(r, s), fromDer, 0);
+            assertArrayEquals(plain, fromDer);
+
+            byte[] encoded = new byte[EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH];
+            EcdsaSignatureTranscoder.plainToJoseBase64Url(plain, encoded, 0);
+            assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(plain),
+                    new String(encoded, StandardCharsets.US_ASCII));
+
+            Signature verifier = Signature.getInstance("SHA256withECDSAinP1363Format");
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(MESSAGE);
+            assertTrue(verifier.verify(jose));
+        }
+    }
+
+    /**
+     * DER -> JOSE -> DER 왕복 (-Dverifier.test.roundTrips=N일 때만 실행)
+     * 실제 P-256 서명과 짧은 r/s를 섞어 ASN.1 기준 구현 및 JDK Base64와 비교
+     */
+    @Test
+    public void derToJoseRoundTripsLongRun() throws Exception {
+        Assume.assumeTrue("-Dverifier.test.roundTrips=N으로 실행", LONG_ROUNDS > 0);
+        KeyPair keyPair = keyPair("secp256r1");
+        Random random = new Random(7515);
+        byte[] jose = new byte[EcdsaSignatureTranscoder.JOSE_LENGTH];
+        byte[] encoded = new byte[EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH];
+        for (int i = 0; i < LONG_ROUNDS; i++) {
+            byte[] der;
+            if (i % 4 == 0) {
+                BigInteger r = new BigInteger(1 + random.nextInt(256), random);
+                BigInteger s = new BigInteger(1 + random.nextInt(256), random);
+                der = der(r, s);
+            } else {
+                der = sign(keyPair, "SHA256withECDSA");
+            }
+            ASN1Sequence sequence = ASN1Sequence.getInstance(der);
+            BigInteger r = ASN1Integer.getInstance(sequence.getObjectAt(0)).getPositiveValue();
+            BigInteger s = ASN1Integer.getInstance(sequence.getObjectAt(1)).getPositiveValue();
+            assertTranscodes(der, r, s, 32);
+
+            // JOSE에서 다시 만든 DER이 원래 서명과 같은지 (최소 인코딩)
+            EcdsaSignatureTranscoder.derToJose(der, jose, 0);
+            assertArrayEquals("round " + i, der, der(new BigInteger(1, Arrays.copyOfRange(jose, 0, 32)),
+                    new BigInteger(1, Arrays.copyOfRange(jose, 32, 64))));
+
+            EcdsaSignatureTranscoder.derToJoseBase64Url(der, encoded, 0);
+            assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(jose),
+                    new String(encoded, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test(expected = SignatureException.class)
+    public void plainToJoseRejectsWrongLength() throws Exception {
+        EcdsaSignatureTranscoder.plainToJose(new byte[63], new byte[64], 0);
+    }
+
+    private static void assertGeneratedSignatures(String curve, String algorithm, int componentLength)
+            throws Exception {
+        KeyPair keyPair = keyPair(curve);
+        for (int i = 0; i < ROUNDS; i++) {
+            byte[] der = sign(keyPair, algorithm);
+            ASN1Sequence sequence = ASN1Sequence.getInstance(der);
+            BigInteger r = ASN1Integer.getInstance(sequence.getObjectAt(0)).getPositiveValue();
+            BigInteger s = ASN1Integer.getInstance(sequence.getObjectAt(1)).getPositiveValue();
+            assertTranscodes(der, r, s, componentLength);
+        }
+    }
+
+    private static void assertTranscodes(byte[] der, BigInteger r, BigInteger s, int componentLength)
+            throws SignatureException {
+        byte[] jose = new byte[componentLength * 2];
+        Arrays.fill(jose, (byte) 0x5a);
+        EcdsaSignatureTranscoder.derToJose(der, jose, 0, componentLength);
+
+        byte[] expected = new byte[componentLength * 2];
+        copyUnsigned(r, expected, 0, componentLength);
+        copyUnsigned(s, expected, componentLength, componentLength);
+        assertArrayEquals(expected, jose);
+        assertEquals(r, new BigInteger(1, Arrays.copyOfRange(jose, 0, componentLength)));
+        assertEquals(s, new BigInteger(1, Arrays.copyOfRange(jose, componentLength, componentLength * 2)));
+    }
+
+    private static void assertRejected(byte[] der) {
+        try {
+            EcdsaSignatureTranscoder.derToJose(der, new byte[64], 0);
+            fail("잘못된 DER 서명이 변환되었습니다: " + Arrays.toString(der));
+        } catch (SignatureException expected) {
+            // 정상
+        }
+    }
+
+    private static void copyUnsigned(BigInteger value, byte[] dst, int offset, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > length ? bytes.length - length : 0;
+        int copied = bytes.length - start;
+        System.arraycopy(bytes, start, dst, offset + length - copied, copied);
+    }
+
+    private static byte[] der(BigInteger r, BigInteger s) {
+        try {
+            return new DERSequence(new ASN1Integer[] { new ASN1Integer(r), new ASN1Integer(s) }).getEncoded();
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair keyPair(String curve) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator.generateKeyPair();
+    }
+
+    private static byte[] sign(KeyPair keyPair, String algorithm) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(algorithm);
+        signature.initSign(keyPair.getPrivate());
+        signature.update(MESSAGE);
+        return signature.sign();
+    }
+}
@@ -0,0 +1,43 @@
+package com.security.jwt;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import com.security.jwt.service.BatchProcessor;
+import com.security.jwt.service.KeyRotationService;
+import com.security.jwt.service.KeystoreWatcher;
+import com.security.jwt.service.PreSigningPool;
+import com.security.jwt.service.SigningExecutor;
+import com.security.jwt.service.WarmupService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 웹 애플리케이션 시작/종료 처리
+ * 시작 시 예열(Stateless 모드 잠금 해제 포함), Keystore 파일 감시, 키 교체 확인, 사전 서명 풀 시작,
+ * 종료 시 백그라운드/서명/배치 작업 스레드 정리
+ */
+public class AppLifecycleListener implements ServletContextListener {
+    private static final Logger logger = LogManager.getLogger(AppLifecycleListener.class);
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        logger.info("=== webjwtgen 시작 ===");
+        String webappPath = event.getServletContext().getRealPath("/");
+        WarmupService.start(webappPath);
+        KeystoreWatcher.start(webappPath);
+        KeyRotationService.start();
+        PreSigningPool.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        logger.info("=== webjwtgen 종료: 작업 스레드 정리 ===");
+        WarmupService.shutdown();
+        KeystoreWatcher.stop();
+        KeyRotationService.shutdown();
+        PreSigningPool.shutdown();
+        SigningExecutor.shutdown();
+        BatchProcessor.shutdown();
+    }
+}
@@ -0,0 +1,282 @@
+package com.security.jwt;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.*;
+
+/**
+ * 비동기 작업용 응답 버퍼
+ * 작업 스레드는 상태/헤더/본문을 이 버퍼에만 기록하고, 응답 소유권을 얻은 쪽(시간 초과와 경쟁하여
+ * finished CAS에 성공한 쪽)만 commitTo로 실제 응답에 반영
+ * 시간 초과 후에 작업이 끝나도 이미 재사용된 실제 응답에는 아무것도 쓰지 않음
+ * 출력은 메모리 버퍼이므로 항상 쓸 수 있는 상태이며, WriteListener는 등록 즉시 onWritePossible을 호출
+ */
+class BufferedResponse extends HttpServletResponseWrapper {
+    private static final Charset DEFAULT_CHARSET = StandardCharsets.ISO_8859_1;
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+    private int status = SC_OK;
+    private String contentType;
+    private String characterEncoding;
+    private String redirectLocation;
+    private String errorMessage;
+    private boolean error;
+    private PrintWriter writer;
+    private ServletOutputStream outputStream;
+
+    BufferedResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * 버퍼 내용을 실제 응답에 기록 (응답 소유권을 얻은 스레드에서 한 번만 호출)
+     */
+    void commitTo(HttpServletResponse response) throws IOException {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+        if (redirectLocation != null) {
+            response.sendRedirect(redirectLocation);
+            return;
+        }
+        if (error) {
+            response.sendError(status, errorMessage);
+            return;
+        }
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        if (characterEncoding != null) {
+            response.setCharacterEncoding(characterEncoding);
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        if (body.size() > 0) {
+            response.setContentLength(body.size());
+            body.writeTo(response.getOutputStream());
+        }
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        status = sc;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        resetBuffer();
+        status = sc;
+        errorMessage = msg;
+        error = true;
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        resetBuffer();
+        status = SC_FOUND;
+        redirectLocation = location;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        headers.put(name, values);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, httpDate(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, httpDate(date));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values != null ? new ArrayList<>(values) : Collections.emptyList();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return new ArrayList<>(headers.keySet());
+    }
+
+    @Override
+    public void setContentType(String type) {
+        contentType = type;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        characterEncoding = charset;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        if (characterEncoding != null) {
+            return characterEncoding;
+        }
+        String fromType = charsetOf(contentType);
+        return fromType != null ? fromType : DEFAULT_CHARSET.name();
+    }
+
+    @Override
+    public void setContentLength(int len) {
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다");
+        }
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    body.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    Objects.requireNonNull(writeListener, "writeListener");
+                    // 버퍼는 막히지 않으므로 바로 쓰기 가능 알림 (isReady()는 항상 true)
+                    try {
+                        writeListener.onWritePossible();
+                    } catch (IOException | RuntimeException e) {
+                        writeListener.onError(e);
+                    }
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+        contentType = null;
+        characterEncoding = null;
+        redirectLocation = null;
+        errorMessage = null;
+        error = false;
+    }
+
+    private static String httpDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+
+    private static String charsetOf(String type) {
+        if (type == null) {
+            return null;
+        }
+        int index = type.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        String charset = type.substring(index + "charset=".length()).trim();
+        int end = charset.indexOf(';');
+        return end >= 0 ? charset.substring(0, end).trim() : charset;
+    }
+}
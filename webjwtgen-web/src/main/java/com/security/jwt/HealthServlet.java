@@ -0,0 +1,43 @@
+package com.security.jwt;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.gson.JsonObject;
+import com.security.jwt.service.WarmupService;
+
+/**
+ * 상태 확인 서블릿 (Kubernetes 프로브용)
+ * - GET /health/live: 웹앱이 요청을 처리하고 있으면 항상 200
+ * - GET /health/ready: 시작 시 예열(WarmupService)이 끝나면 200, 그 전에는 503
+ * kubelet이 클러스터 내부에서 HTTP(8080)로 접근하므로 web.xml에서 HTTPS 리다이렉션 제외
+ */
+@WebServlet(name = "HealthServlet", urlPatterns = { "/health/live", "/health/ready" })
+public class HealthServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final String READY_PATH = "/health/ready";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        JsonObject body;
+        int status;
+        if (READY_PATH.equals(request.getServletPath())) {
+            body = WarmupService.getStatus();
+            status = WarmupService.isReady() ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        } else {
+            body = new JsonObject();
+            body.addProperty("status", "live");
+            status = HttpServletResponse.SC_OK;
+        }
+        response.setContentType("application/json; charset=UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        response.setStatus(status);
+        response.getWriter().write(body.toString());
+    }
+}
@@ -0,0 +1,98 @@
+package com.security.jwt;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.security.jwt.service.ConfigService;
+import com.security.jwt.service.JwkService;
+import com.security.jwt.service.KeyMaterialStore;
+import com.security.jwt.service.ResponseService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * JWK Set 서블릿 (GET /.well-known/jwks.json)
+ * 현재 스냅샷의 active/next/retired 공개키를 미리 직렬화된 바이트 그대로 응답
+ * 스냅샷이 아직 없으면(재시작 후 잠금 해제 전) 비밀번호 없이 디스크 Keystore의 인증서로 만든 JWK Set을 응답
+ * 검증자는 ETag로 조건부 요청(If-None-Match)하여 변경이 없으면 304만 받음
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.jwks.maxAgeSeconds / JWT_JWKS_MAX_AGE_SECONDS: Cache-Control max-age (기본값: 300)
+ */
+@WebServlet(name = "JwksServlet", urlPatterns = { "/.well-known/jwks.json" })
+public class JwksServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LogManager.getLogger(JwksServlet.class);
+    private static final String CONTENT_TYPE = "application/jwk-set+json";
+    private static final String CACHE_CONTROL = "public, max-age="
+            + ConfigService.getNonNegativeInt("jwt.jwks.maxAgeSeconds", "JWT_JWKS_MAX_AGE_SECONDS", 300);
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static final String KEYSTORE_FILE = "keystore.jks";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        response.setHeader("Access-Control-Allow-Origin", "*");
+
+        JwkService.JwkSet jwkSet;
+        try {
+            jwkSet = KeyMaterialStore.jwkSet(getServletContext().getRealPath("/") + KEYSTORE_FILE);
+        } catch (Exception e) {
+            logger.error("JWK Set 생성 실패: {}", e.getMessage(), e);
+            response.setHeader("Cache-Control", "no-store");
+            ResponseService.sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    "JWK Set을 만들 수 없습니다");
+            return;
+        }
+        if (jwkSet == null) {
+            // 초기 설정 전 (Keystore 또는 서명 키 없음)
+            logger.warn("JWK Set 요청 - 서명 키 없음");
+            response.setHeader("Cache-Control", "no-store");
+            response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            ResponseService.sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "서명 키가 아직 생성되지 않았습니다");
+            return;
+        }
+
+        response.setHeader("ETag", jwkSet.getEtag());
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+
+        if (matches(request.getHeader("If-None-Match"), jwkSet.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = jwkSet.getBody();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * If-None-Match 비교 (RFC 7232 약한 비교: W/ 접두사 무시, 쉼표 목록 및 * 지원)
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
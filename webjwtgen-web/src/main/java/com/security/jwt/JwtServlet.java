@@ -0,0 +1,493 @@
+package com.security.jwt;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.*;
+import javax.servlet.annotation.*;
+import javax.servlet.http.*;
+
+import com.google.gson.JsonObject;
+import com.security.jwt.service.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * JWT 생성/검증 서블릿 (서명 알고리즘은 현재 키의 알고리즘: ES256, ES384, ES512, EdDSA)
+ * exp, iss, sub를 입력받아 JWT 토큰 생성, 발급한 토큰의 서명과 유효 기간 검증
+ * 요청마다 RequestTrace로 단계별 소요 시간을 모아 JSON 이벤트 한 줄로 기록 (단계별 로그는 DEBUG)
+ * 같은 단계 구분(session, keys, password, params, sign, respond)을 Server-Timing 응답 헤더로도 전달
+ */
+@WebServlet(name = "JwtServlet", urlPatterns = { "/generate", "/generate/batch", "/verify",
+        "/verify/batch" }, asyncSupported = true)
+public class JwtServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LogManager.getLogger(JwtServlet.class);
+    private static final String BATCH_PATH = "/generate/batch";
+    private static final String VERIFY_PATH = "/verify";
+    private static final String VERIFY_BATCH_PATH = "/verify/batch";
+    private static final long ASYNC_TIMEOUT_MILLIS = 30_000L;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    @Override
+    public void init() throws ServletException {
+        // BouncyCastle Security Provider 등록 (한 번만 수행, CryptoProviders)
+        CryptoProviders.bouncyCastle();
+    }
+
+    /**
+     * 키 로드 (Keystore에서)
+     * 이미 발행된 스냅샷이 있으면 그대로 사용하고, 없으면 세션의 비밀번호로 한 스레드만 로드
+     * Stateless 모드에서는 세션 대신 배포 환경의 비밀번호 사용 (StatelessUnlockService)
+     */
+    private KeyMaterial loadKeys(HttpSession session) throws Exception {
+        KeyMaterial keys = KeyMaterialStore.current();
+        if (keys != null) {
+            return keys;
+        }
+
+        logger.debug("=== loadKeys START ===");
+        String webappPath = getServletContext().getRealPath("/");
+        String keystorePath = webappPath + "keystore.jks";
+
+        logger.debug("keystorePath: {}", keystorePath);
+
+        if (!Files.exists(Paths.get(keystorePath))) {
+            logger.error("Keystore 파일 없음: {}", keystorePath);
+            throw new RuntimeException("Keystore를 찾을 수 없습니다. 초기 설정을 먼저 진행하세요.");
+        }
+
+        try {
+            String keystorePassword;
+            if (StatelessUnlockService.isEnabled()) {
+                logger.debug("Getting keystore password from stateless unlock source");
+                keystorePassword = StatelessUnlockService.getPassword();
+            } else {
+                logger.debug("Getting keystore password from session");
+                keystorePassword = PasswordService.getKeystorePasswordFromSession(session);
+            }
+
+            if (keystorePassword == null) {
+                logger.error("Keystore password not found");
+                throw new RuntimeException("Keystore 비밀번호를 찾을 수 없습니다. 초기 설정을 다시 진행하세요.");
+            }
+
+            keys = KeyMaterialStore.getOrLoad(keystorePath, keystorePassword);
+            logger.debug("=== loadKeys END (SUCCESS, generation: {}) ===", keys.getGeneration());
+            return keys;
+        } catch (Exception e) {
+            logger.error("=== loadKeys END (ERROR) ===", e);
+            throw new RuntimeException("키 로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 세션 확인, 키 로드, Keystore 비밀번호 검증 (Step 1~3)
+     * Stateless 모드에서는 세션 확인을 생략 (세션을 만들지도 않음)
+     * 실패 시 에러 응답을 보내고 null 반환
+     */
+    private KeyMaterial authorize(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        logger.debug("Step 1: 세션 확인");
+        boolean stateless = StatelessUnlockService.isEnabled();
+        HttpSession session = stateless ? null : request.getSession(false);
+        if (session == null && !stateless) {
+            logger.debug("Step 1.1: 세션 없음");
+            ResponseService.sendError(response, 400, "세션이 없습니다. 초기 설정을 진행하세요.");
+            return null;
+        }
+
+        RequestTrace.step("session");
+
+        KeyMaterial keys;
+        logger.debug("Step 2: 키 스냅샷 확인");
+        long keyLoadStart = System.nanoTime();
+        try {
+            keys = loadKeys(session);
+            logger.debug("Step 2.1: 키 스냅샷 사용 (generation: {})", keys.getGeneration());
+        } catch (RuntimeException e) {
+            logger.error("Step 2.2: 키 로드 실패", e);
+            ResponseService.sendKeystoreNotFoundError(response);
+            return null;
+        } finally {
+            MetricsService.KEY_LOAD.recordSince(keyLoadStart);
+        }
+
+        RequestTrace.step("keys");
+
+        // Keystore 비밀번호 검증
+        String password = request.getParameter("password");
+        logger.debug("Step 3: Keystore 비밀번호 검증");
+
+        if (password == null || password.isEmpty()) {
+            logger.debug("Step 3.1: 비밀번호 미제공");
+            ResponseService.sendError(response, 400, "Keystore 비밀번호를 입력해주세요");
+            return null;
+        }
+
+        try {
+            if (!KeystoreCredentialVerifier.verify(keys.getKeystorePath(), password)) {
+                logger.debug("Step 3.2: 비밀번호 검증 실패");
+                ResponseService.sendError(response, 401, "Keystore 비밀번호가 일치하지 않습니다");
+                return null;
+            }
+            logger.debug("Step 3.3: 비밀번호 검증 성공");
+        } catch (Exception e) {
+            logger.error("Step 3.4: 비밀번호 검증 중 오류", e);
+            ResponseService.sendError(response, 401, "비밀번호 검증 실패");
+            return null;
+        }
+        RequestTrace.step("password");
+        RequestTrace.tag("kid", keys.getKid());
+        return keys;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        boolean verify = VERIFY_PATH.equals(request.getServletPath());
+        RequestTrace trace = RequestTrace.begin(request);
+        response.setHeader(REQUEST_ID_HEADER, trace.getRequestId());
+        if (!request.isAsyncSupported()) {
+            trace.bind();
+            try {
+                handle(verify, request, response);
+            } finally {
+                trace.end(response);
+                RequestTrace.unbind();
+            }
+            return;
+        }
+
+        // 컨테이너 스레드는 바로 반환하고 키 로드/서명/검증은 서명 실행기에서 수행
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MILLIS);
+        AtomicBoolean finished = new AtomicBoolean(false);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (finished.compareAndSet(false, true)) {
+                    logger.warn("JWT {} 요청 시간 초과", verify ? "검증" : "생성");
+                    HttpServletResponse timedOut = (HttpServletResponse) event.getAsyncContext().getResponse();
+                    timedOut.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                    ResponseService.sendError(timedOut, 503, "요청 처리 시간이 초과되었습니다");
+                    trace.end(timedOut);
+                    event.getAsyncContext().complete();
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                // 클라이언트 연결 끊김 등: 작업 결과는 버리고 다른 종료 경로와 같이 기록 후 완료
+                if (finished.compareAndSet(false, true)) {
+                    Throwable cause = event.getThrowable();
+                    logger.warn("JWT {} 비동기 처리 오류: {}", verify ? "검증" : "생성",
+                            cause != null ? cause.getMessage() : "unknown");
+                    trace.end(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                    event.getAsyncContext().complete();
+                }
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        try {
+            SigningExecutor.submit(() -> {
+                if (finished.get()) {
+                    return;
+                }
+                // 작업은 버퍼에만 기록하고, 시간 초과/오류 경로보다 먼저 끝난 경우에만 실제 응답에 반영
+                HttpServletResponse asyncResponse = (HttpServletResponse) asyncContext.getResponse();
+                BufferedResponse buffered = new BufferedResponse(asyncResponse);
+                trace.bind();
+                RequestTrace.step("queue");
+                try {
+                    handle(verify, (HttpServletRequest) asyncContext.getRequest(), buffered);
+                } catch (Exception e) {
+                    logger.error("비동기 JWT {} 처리 실패", verify ? "검증" : "생성", e);
+                    RequestTrace.fail(e.getMessage());
+                } finally {
+                    RequestTrace.unbind();
+                    if (finished.compareAndSet(false, true)) {
+                        try {
+                            trace.end(buffered);
+                            buffered.commitTo(asyncResponse);
+                        } catch (Exception e) {
+                            logger.error("비동기 JWT {} 응답 전송 실패", verify ? "검증" : "생성", e);
+                        } finally {
+                            asyncContext.complete();
+                        }
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 서명 대기열 포화: 요청을 쌓지 않고 즉시 거부
+            logger.warn("서명 대기열 포화로 요청 거부 (queueDepth: {}, rejected: {})",
+                    SigningExecutor.getQueueDepth(), SigningExecutor.getRejectedCount());
+            if (finished.compareAndSet(false, true)) {
+                response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                ResponseService.sendError(response, 503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+                trace.end(response);
+                asyncContext.complete();
+            }
+        }
+    }
+
+    private void handle(boolean verify, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (verify) {
+            verify(request, response);
+        } else {
+            generate(request, response);
+        }
+    }
+
+    /**
+     * JWT 생성 (Step 1~5)
+     */
+    private void generate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.debug("=== JWT 생성 요청 START ===");
+        try {
+            KeyMaterial keys = authorize(request, response);
+            if (keys == null) {
+                return;
+            }
+
+            // 발급 프로필: 고정 클레임은 프로필에서, sub/ttl/추가 클레임은 요청에서
+            String profile = request.getParameter("profile");
+            if (profile != null && !profile.isEmpty()) {
+                generateWithProfile(profile, keys, request, response);
+                return;
+            }
+
+            // 파라미터 검증 (exp 대신 ttl을 주면 exp = 발급 시각 + ttl초)
+            String exp = request.getParameter("exp");
+            String ttl = request.getParameter("ttl");
+            String iss = request.getParameter("iss");
+            String sub = request.getParameter("sub");
+            boolean useTtl = (exp == null || exp.isEmpty()) && ttl != null && !ttl.isEmpty();
+            logger.debug("Step 4: JWT 파라미터 검증 - exp: {}, ttl: {}, iss: {}, sub: {}", exp, ttl, iss, sub);
+
+            if (useTtl ? !JWTService.validateTtlParams(ttl, iss, sub) : !JWTService.validateJWTParams(exp, iss, sub)) {
+                logger.debug("Step 4.1: JWT 파라미터 검증 실패");
+                ResponseService.sendError(response, 400, "exp(또는 ttl), iss, sub 파라미터는 필수입니다");
+                return;
+            }
+            RequestTrace.step("params");
+
+            // JWT 생성
+            logger.debug("Step 5: JWT 생성 시작");
+            String jwt = useTtl
+                    ? JWTService.generateJWTWithTtl(ttl, iss, sub, keys.getSigner())
+                    : JWTService.generateJWT(exp, iss, sub, keys.getSigner());
+            RequestTrace.step("sign");
+            logger.debug("Step 5.1: JWT 생성 성공");
+            // includePublicKey=false: PEM 생략 (검증자는 /.well-known/jwks.json에서 kid로 키 조회)
+            boolean includePublicKey = !"false".equalsIgnoreCase(request.getParameter("includePublicKey"));
+            ResponseService.sendJWTResponse(response, jwt, keys.getKid(),
+                    includePublicKey ? keys.getPublicKeyPem() : null);
+            RequestTrace.step("respond");
+            logger.debug("=== JWT 생성 요청 END (SUCCESS) ===");
+
+        } catch (Exception e) {
+            logger.error("=== JWT 생성 요청 END (ERROR) ===", e);
+            ResponseService.sendError(response, 500, "JWT 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 발급 프로필로 JWT 생성 (Step 4~5)
+     * POST JSON 본문 {"sub", "ttl", "claims": {추가 클레임}} 또는 쿼리 파라미터 sub, ttl (추가 클레임 없음)
+     */
+    private void generateWithProfile(String profile, KeyMaterial keys, HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+        logger.debug("Step 4: 발급 프로필 요청 확인 - profile: {}", profile);
+        RequestTrace.tag("profile", profile);
+        ClaimTemplate template = IssuanceProfileService.find(profile);
+        if (template == null) {
+            logger.debug("Step 4.1: 알 수 없는 발급 프로필");
+            ResponseService.sendError(response, 400, "알 수 없는 발급 프로필입니다: " + profile);
+            return;
+        }
+
+        IssuanceProfileService.ProfileRequest profileRequest;
+        try {
+            if ("POST".equals(request.getMethod()) && isJson(request.getContentType())) {
+                if (request.getCharacterEncoding() == null) {
+                    request.setCharacterEncoding("UTF-8");
+                }
+                profileRequest = IssuanceProfileService.fromJson(template, request.getReader());
+            } else {
+                profileRequest = IssuanceProfileService.fromParameters(template, request.getParameter("sub"),
+                        request.getParameter("ttl"));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.debug("Step 4.2: 발급 프로필 요청 검증 실패 - {}", e.getMessage());
+            ResponseService.sendError(response, 400, e.getMessage());
+            return;
+        }
+        RequestTrace.step("params");
+
+        logger.debug("Step 5: JWT 생성 시작 (profile: {})", profile);
+        String jwt = JWTService.generateJWT(profileRequest, keys.getSigner());
+        RequestTrace.step("sign");
+        logger.debug("Step 5.1: JWT 생성 성공");
+        boolean includePublicKey = !"false".equalsIgnoreCase(request.getParameter("includePublicKey"));
+        ResponseService.sendJWTResponse(response, jwt, keys.getKid(),
+                includePublicKey ? keys.getPublicKeyPem() : null);
+        RequestTrace.step("respond");
+        logger.debug("=== JWT 생성 요청 END (SUCCESS) ===");
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("application/json");
+    }
+
+    /**
+     * JWT 검증 (Step 1~4)
+     * 서명이 틀리거나 만료된 토큰도 200으로 {"valid": false, "reason", "error"} 응답
+     */
+    private void verify(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.debug("=== JWT 검증 요청 START ===");
+        try {
+            KeyMaterial keys = authorize(request, response);
+            if (keys == null) {
+                return;
+            }
+
+            String token = request.getParameter("token");
+            logger.debug("Step 4: JWT 검증 시작");
+            if (token == null || token.isEmpty()) {
+                logger.debug("Step 4.1: 토큰 미제공");
+                ResponseService.sendError(response, 400, "token 파라미터는 필수입니다");
+                return;
+            }
+
+            JsonObject result = TokenVerificationService.verify(token.trim(), keys);
+            RequestTrace.step("verify");
+            boolean valid = result.get("valid").getAsBoolean();
+            String reason = valid ? null : result.get("reason").getAsString();
+            logger.debug("Step 4.2: JWT 검증 완료 - valid: {}, reason: {}", valid, reason);
+            RequestTrace.tag("valid", valid);
+            RequestTrace.tag("reason", reason);
+            ResponseService.sendJson(response, 200, result);
+            RequestTrace.step("respond");
+            logger.debug("=== JWT 검증 요청 END (SUCCESS) ===");
+
+        } catch (Exception e) {
+            logger.error("=== JWT 검증 요청 END (ERROR) ===", e);
+            ResponseService.sendError(response, 500, "JWT 검증 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String path = request.getServletPath();
+        if (!BATCH_PATH.equals(path) && !VERIFY_BATCH_PATH.equals(path)) {
+            doGet(request, response);
+            return;
+        }
+
+        // 배치는 컨테이너 스레드에서 스트리밍 처리 (요청 전체를 이벤트 하나로 기록)
+        RequestTrace trace = RequestTrace.begin(request);
+        response.setHeader(REQUEST_ID_HEADER, trace.getRequestId());
+        trace.bind();
+        try {
+            if (BATCH_PATH.equals(path)) {
+                doBatch(request, response);
+            } else {
+                doVerifyBatch(request, response);
+            }
+        } finally {
+            trace.end(response);
+            RequestTrace.unbind();
+        }
+    }
+
+    /**
+     * 대량 발급 (POST /generate/batch)
+     * 요청 본문: NDJSON 또는 JSON 배열 [{exp, iss, sub}, ...]
+     * 응답 본문: 입력 항목마다 {"index", "success", "jwt" | "error"} 한 줄 (완료 순서)
+     */
+    private void doBatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        logger.debug("=== JWT 대량 생성 요청 START ===");
+        try {
+            // 인증은 배치 전체에 대해 한 번만 수행 (배치 도중 키가 바뀌어도 같은 스냅샷으로 서명)
+            KeyMaterial keys = authorize(request, response);
+            if (keys == null) {
+                return;
+            }
+
+            if (request.getCharacterEncoding() == null) {
+                request.setCharacterEncoding("UTF-8");
+            }
+            response.setContentType("application/x-ndjson; charset=UTF-8");
+            response.setStatus(200);
+            // 결과 줄을 쓰는 동안 응답이 커밋되므로 스트리밍 시작 전에 Server-Timing 설정 (인증까지의 시간)
+            RequestTrace.writeServerTiming(response);
+
+            BatchProcessor.BatchResult result = BatchIssuanceService.issue(
+                    request.getReader(), response.getWriter(), keys.getSigner());
+            RequestTrace.step("batch");
+            RequestTrace.tag("total", result.getTotal());
+            RequestTrace.tag("failed", result.getFailed());
+            logger.debug("=== JWT 대량 생성 요청 END (total: {}, failed: {}) ===",
+                    result.getTotal(), result.getFailed());
+        } catch (Exception e) {
+            logger.error("=== JWT 대량 생성 요청 END (ERROR) ===", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                ResponseService.sendError(response, 500, "JWT 대량 생성 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 대량 검증 (POST /verify/batch)
+     * 요청 본문: NDJSON(한 줄에 토큰 하나) 또는 JSON 배열 ["token", {"token": ...}, ...]
+     * 응답 본문: 입력 항목마다 {"index", "valid", ...} 한 줄 (완료 순서)
+     */
+    private void doVerifyBatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        logger.debug("=== JWT 대량 검증 요청 START ===");
+        try {
+            KeyMaterial keys = authorize(request, response);
+            if (keys == null) {
+                return;
+            }
+
+            if (request.getCharacterEncoding() == null) {
+                request.setCharacterEncoding("UTF-8");
+            }
+            response.setContentType("application/x-ndjson; charset=UTF-8");
+            response.setStatus(200);
+            // 결과 줄을 쓰는 동안 응답이 커밋되므로 스트리밍 시작 전에 Server-Timing 설정 (인증까지의 시간)
+            RequestTrace.writeServerTiming(response);
+
+            BatchProcessor.BatchResult result = TokenVerificationService.verifyBatch(
+                    request.getReader(), response.getWriter(), keys);
+            RequestTrace.step("batch");
+            RequestTrace.tag("total", result.getTotal());
+            RequestTrace.tag("invalid", result.getFailed());
+            logger.debug("=== JWT 대량 검증 요청 END (total: {}, invalid: {}) ===",
+                    result.getTotal(), result.getFailed());
+        } catch (Exception e) {
+            logger.error("=== JWT 대량 검증 요청 END (ERROR) ===", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                ResponseService.sendError(response, 500, "JWT 대량 검증 실패: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.security.jwt;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.security.jwt.service.MetricsService;
+
+/**
+ * 운영 지표 서블릿 (GET /metrics)
+ * MetricsService의 지표를 Prometheus 텍스트 형식(0.0.4)으로 응답
+ * 스크레이퍼가 클러스터 내부에서 HTTP(8080)로 접근하므로 web.xml에서 HTTPS 리다이렉션 제외
+ */
+@WebServlet(name = "MetricsServlet", urlPatterns = { "/metrics" })
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        byte[] body = MetricsService.scrape().getBytes(StandardCharsets.UTF_8);
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,91 @@
+package com.security.jwt;
+
+import java.io.IOException;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.security.jwt.service.MetricsService;
+
+/**
+ * 요청 지표 필터
+ * 엔드포인트별 요청 처리 시간과 상태 코드를 MetricsService에 기록
+ * 비동기 처리(서명 실행기) 요청은 AsyncListener로 응답 완료 시점에 기록
+ */
+@WebFilter(filterName = "RequestMetricsFilter", urlPatterns = { "/generate", "/generate/batch", "/verify",
+        "/verify/batch", "/setup", "/.well-known/jwks.json" }, asyncSupported = true)
+public class RequestMetricsFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // 설정 없음
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        String path = httpRequest.getServletPath();
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(path, startNanos));
+            } else {
+                MetricsService.recordRequest(path, failed ? 500 : httpResponse.getStatus(),
+                        System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // 정리할 자원 없음
+    }
+
+    /**
+     * 비동기 요청 완료 시 기록 (시간 초과/오류도 onComplete로 한 번만 기록)
+     */
+    private static final class CompletionListener implements AsyncListener {
+        private final String path;
+        private final long startNanos;
+
+        private CompletionListener(String path, long startNanos) {
+            this.path = path;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            int status = ((HttpServletResponse) event.getSuppliedResponse()).getStatus();
+            MetricsService.recordRequest(path, status, System.nanoTime() - startNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete에서 기록
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete에서 기록
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작 없음
+        }
+    }
+}
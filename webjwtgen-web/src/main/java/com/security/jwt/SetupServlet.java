@@ -8,22 +8,41 @@ import javax.servlet.annotation.*;
 import javax.servlet.http.*;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.security.jwt.service.CryptoProviders;
+import com.security.jwt.service.IssuanceCache;
+import com.security.jwt.service.IssuanceProfileService;
+import com.security.jwt.service.KeyGenerationService;
+import com.security.jwt.service.KeyMaterial;
+import com.security.jwt.service.KeyMaterialStore;
+import com.security.jwt.service.PreSigningPool;
+import com.security.jwt.service.ProviderCalibration;
+import com.security.jwt.service.RequestTrace;
 import com.security.jwt.service.SetupActionHandler;
 import com.security.jwt.service.SetupSessionManager;
 import com.security.jwt.service.SetupValidator;
+import com.security.jwt.service.SigningAlgorithm;
+import com.security.jwt.service.SigningExecutor;
+import com.security.jwt.service.SigningKey;
+import com.security.jwt.service.SlowRequestSampler;
+import com.security.jwt.service.StatelessUnlockService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 /**
  * JWT 초기 설정 서블릿
- * 요청 라우팅, Keystore 관리, EC256 키쌍 생성
+ * 요청 라우팅, Keystore 관리, 서명 키쌍 생성 (초기 설정/강제 초기화의 algorithm 파라미터: ES256, ES384, ES512, EdDSA)
  * 
  * 각 기능은 별도 서비스 클래스로 분리:
- * - SetupActionHandler: 각 action 처리 (backup, restore, etc)
+ * - SetupActionHandler: 각 action 처리 (backup, restore, rotate, etc)
  * - SetupValidator: 입력 검증
  * - SetupSessionManager: 세션 관리
+ *
+ * 인증 없이 조회할 수 있는 것은 초기화 완료 여부(GET)뿐이며, 내부 상태(키 kid, 서명 실행기/캐시/사전 서명 풀/Provider 통계,
+ * 느린 요청 기록)는 관리자 비밀번호와 함께 POST action=status / action=slowRequests로만 조회
+ *
+ * 요청마다 RequestTrace로 검증(validate), 처리(action 이름), 응답(respond) 단계 시간을 기록하고 Server-Timing 헤더로 전달
  */
 @WebServlet(name = "SetupServlet", urlPatterns = { "/setup" })
 public class SetupServlet extends HttpServlet {
@@ -32,13 +51,12 @@ public class SetupServlet extends HttpServlet {
     private static final Gson gson = new Gson();
     private static final String SETUP_FLAG_FILE = "setup-completed.flag";
     private static final Logger logger = LogManager.getLogger(SetupServlet.class);
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
 
     @Override
     public void init() throws ServletException {
-        // Bouncy Castle 보안 제공자 추가
-        if (Security.getProvider("BC") == null) {
-            Security.addProvider(new BouncyCastleProvider());
-        }
+        // Bouncy Castle 보안 제공자 등록 (한 번만 수행)
+        CryptoProviders.bouncyCastle();
     }
 
     /**
@@ -78,6 +96,9 @@ public class SetupServlet extends HttpServlet {
         logger.info("GET 요청 - action: {}", action);
 
         response.setContentType("application/json; charset=UTF-8");
+        RequestTrace trace = RequestTrace.begin(request);
+        response.setHeader(REQUEST_ID_HEADER, trace.getRequestId());
+        trace.bind();
 
         try {
             if ("backup".equals(action)) {
@@ -89,6 +110,9 @@ public class SetupServlet extends HttpServlet {
             logger.error("GET 요청 처리 중 예외: {}", e.getMessage(), e);
             sendError(response, 500, "요청 처리 중 오류 발생: " + e.getMessage());
         } finally {
+            RequestTrace.step("respond");
+            trace.end(response);
+            RequestTrace.unbind();
             logger.info("=== doGet END ===");
         }
     }
@@ -101,11 +125,15 @@ public class SetupServlet extends HttpServlet {
         response.setContentType("application/json; charset=UTF-8");
         String action = request.getParameter("action");
         logger.info("POST 요청 - action: {}", action);
+        RequestTrace trace = RequestTrace.begin(request);
+        response.setHeader(REQUEST_ID_HEADER, trace.getRequestId());
+        trace.bind();
 
         try {
             String webappPath = getServletContext().getRealPath("/");
             SetupActionHandler handler = new SetupActionHandler(webappPath);
-            HttpSession session = request.getSession(true);
+            // Stateless 모드는 세션에 아무것도 저장하지 않으므로 세션(및 JSESSIONID 쿠키)을 만들지 않음
+            HttpSession session = StatelessUnlockService.isEnabled() ? null : request.getSession(true);
             SetupSessionManager sessionManager = new SetupSessionManager(session);
 
             if ("backup".equals(action)) {
@@ -116,6 +144,10 @@ public class SetupServlet extends HttpServlet {
                 handleChangePassword(request, response, handler, sessionManager);
             } else if ("forceReset".equals(action)) {
                 handleForceReset(request, response, handler, sessionManager);
+            } else if ("rotate".equals(action)) {
+                handleRotate(request, response, handler);
+            } else if ("status".equals(action) || "slowRequests".equals(action)) {
+                handleDiagnostics(request, response, handler, action);
             } else {
                 handleInitialSetup(request, response, handler, sessionManager);
             }
@@ -123,6 +155,9 @@ public class SetupServlet extends HttpServlet {
             logger.error("POST 요청 처리 중 예외: {}", e.getMessage(), e);
             sendError(response, 500, "요청 처리 중 오류 발생: " + e.getMessage());
         } finally {
+            RequestTrace.step("respond");
+            trace.end(response);
+            RequestTrace.unbind();
             logger.info("=== doPost END ===");
         }
     }
@@ -153,7 +188,7 @@ public class SetupServlet extends HttpServlet {
     }
 
     /**
-     * 설정 상태 확인 처리
+     * 설정 상태 확인 처리 (인증 없이 초기화 완료 여부만 응답)
      */
     private void handleStatusCheck(HttpServletResponse response) throws IOException {
         logger.info("설정 상태 확인");
@@ -162,9 +197,68 @@ public class SetupServlet extends HttpServlet {
 
         JsonObject result = new JsonObject();
         result.addProperty("setupCompleted", isSetupCompleted);
+        RequestTrace.step("status");
+        response.getWriter().write(result.toString());
+    }
+
+    /**
+     * 관리자 진단 정보 조회 처리 (status: 키/내부 통계, slowRequests: 느린 요청 기록)
+     */
+    private void handleDiagnostics(HttpServletRequest request, HttpServletResponse response,
+            SetupActionHandler handler, String action) throws Exception {
+        logger.info("진단 정보 조회 요청 처리 - action: {}", action);
+
+        String adminPassword = request.getParameter("adminPassword");
+
+        // 검증
+        SetupValidator.ValidationResult validationResult = SetupValidator.validateAdminPassword(adminPassword);
+        if (!validationResult.isSuccess()) {
+            sendError(response, 400, validationResult.getMessage());
+            return;
+        }
+        if (!handler.verifyAdminPassword(adminPassword)) {
+            logger.warn("관리자 비밀번호 검증 실패");
+            sendError(response, 401, "관리자 비밀번호가 일치하지 않습니다");
+            return;
+        }
+
+        RequestTrace.step("validate");
+        if ("slowRequests".equals(action)) {
+            response.getWriter().write(SlowRequestSampler.getSnapshot().toString());
+            return;
+        }
+
+        JsonObject result = new JsonObject();
+        result.addProperty("setupCompleted", isSetupCompleted());
+        result.add("signingExecutor", SigningExecutor.getStats());
+        result.add("issuanceCache", IssuanceCache.getStats());
+        result.add("preSigningPool", PreSigningPool.getStats());
+        result.add("issuanceProfiles", IssuanceProfileService.describe());
+        result.add("cryptoProvider", ProviderCalibration.getStats());
+        KeyMaterial keys = KeyMaterialStore.current();
+        if (keys != null) {
+            result.add("keys", getKeyStatus(keys));
+        }
+        RequestTrace.step("status");
         response.getWriter().write(result.toString());
     }
 
+    /**
+     * 키 수명 주기 상태 (kid, 상태, 생성 시각)
+     */
+    private JsonArray getKeyStatus(KeyMaterial keys) {
+        JsonArray array = new JsonArray();
+        for (SigningKey key : keys.getVerificationKeys()) {
+            JsonObject item = new JsonObject();
+            item.addProperty("kid", key.getKid());
+            item.addProperty("alg", key.getAlgorithm().getJwsName());
+            item.addProperty("state", key.getState().name().toLowerCase());
+            item.addProperty("createdAt", key.getCreatedAt());
+            array.add(item);
+        }
+        return array;
+    }
+
     /**
      * 백업 처리
      */
@@ -179,10 +273,12 @@ public class SetupServlet extends HttpServlet {
             return;
         }
 
+        RequestTrace.step("validate");
         try {
             String webappPath = getServletContext().getRealPath("/");
             SetupActionHandler handler = new SetupActionHandler(webappPath);
             JsonObject result = handler.backupKeystore(password);
+            RequestTrace.step("backup");
             response.getWriter().write(result.toString());
         } catch (Exception e) {
             logger.error("백업 실패: {}", e.getMessage());
@@ -223,8 +319,9 @@ public class SetupServlet extends HttpServlet {
                 return;
             }
 
+            RequestTrace.step("validate");
             handler.restoreKeystore(base64Data, password, sessionManager);
-            sessionManager.resetCache(getServletContext());
+            RequestTrace.step("restore");
 
             JsonObject result = new JsonObject();
             result.addProperty("success", true);
@@ -260,9 +357,10 @@ public class SetupServlet extends HttpServlet {
             return;
         }
 
+        RequestTrace.step("validate");
         try {
             handler.changeKeystorePassword(currentPassword, newPassword, sessionManager);
-            sessionManager.resetCache(getServletContext());
+            RequestTrace.step("changePassword");
 
             JsonObject result = new JsonObject();
             result.addProperty("success", true);
@@ -284,6 +382,7 @@ public class SetupServlet extends HttpServlet {
         String adminPassword = request.getParameter("adminPassword");
         String newPassword = request.getParameter("password");
         String confirmPassword = request.getParameter("confirmPassword");
+        String algorithm = request.getParameter("algorithm");
 
         // 검증
         SetupValidator.ValidationResult validationResult = SetupValidator.validateAdminPassword(adminPassword);
@@ -298,9 +397,16 @@ public class SetupServlet extends HttpServlet {
             return;
         }
 
+        validationResult = SetupValidator.validateAlgorithm(algorithm);
+        if (!validationResult.isSuccess()) {
+            sendError(response, 400, validationResult.getMessage());
+            return;
+        }
+
+        RequestTrace.step("validate");
         try {
-            handler.forceReset(adminPassword, newPassword, sessionManager);
-            sessionManager.resetCache(getServletContext());
+            handler.forceReset(adminPassword, newPassword, resolveAlgorithm(algorithm), sessionManager);
+            RequestTrace.step("forceReset");
 
             JsonObject result = new JsonObject();
             result.addProperty("success", true);
@@ -312,6 +418,37 @@ public class SetupServlet extends HttpServlet {
         }
     }
 
+    /**
+     * 서명 키 교체 처리
+     */
+    private void handleRotate(HttpServletRequest request, HttpServletResponse response,
+            SetupActionHandler handler) throws Exception {
+        logger.info("서명 키 교체 요청 처리");
+
+        String adminPassword = request.getParameter("adminPassword");
+
+        // 검증
+        SetupValidator.ValidationResult validationResult = SetupValidator.validateAdminPassword(adminPassword);
+        if (!validationResult.isSuccess()) {
+            sendError(response, 400, validationResult.getMessage());
+            return;
+        }
+
+        RequestTrace.step("validate");
+        try {
+            JsonObject result = handler.rotateKeys(adminPassword);
+            RequestTrace.step("rotate");
+            response.getWriter().write(result.toString());
+        } catch (IllegalStateException e) {
+            // 다음 키가 아직 준비되지 않음
+            logger.warn("서명 키 교체 보류: {}", e.getMessage());
+            sendError(response, 409, e.getMessage());
+        } catch (Exception e) {
+            logger.error("서명 키 교체 실패: {}", e.getMessage());
+            sendError(response, 500, "키 교체 실패: " + e.getMessage());
+        }
+    }
+
     /**
      * 초기 설정 처리
      */
@@ -328,6 +465,7 @@ public class SetupServlet extends HttpServlet {
 
         String password = request.getParameter("password");
         String confirmPassword = request.getParameter("confirmPassword");
+        String algorithm = request.getParameter("algorithm");
 
         // 검증
         SetupValidator.ValidationResult validationResult = SetupValidator.validatePassword(password, confirmPassword);
@@ -336,9 +474,16 @@ public class SetupServlet extends HttpServlet {
             return;
         }
 
+        validationResult = SetupValidator.validateAlgorithm(algorithm);
+        if (!validationResult.isSuccess()) {
+            sendError(response, 400, validationResult.getMessage());
+            return;
+        }
+
+        RequestTrace.step("validate");
         try {
-            handler.performInitialSetup(password, sessionManager);
-            sessionManager.resetCache(getServletContext());
+            handler.performInitialSetup(password, resolveAlgorithm(algorithm), sessionManager);
+            RequestTrace.step("setup");
 
             JsonObject result = new JsonObject();
             result.addProperty("success", true);
@@ -350,10 +495,19 @@ public class SetupServlet extends HttpServlet {
         }
     }
 
+    /**
+     * 요청의 서명 키 알고리즘 (비어 있으면 jwt.keys.algorithm 설정, 없으면 ES256)
+     */
+    private SigningAlgorithm resolveAlgorithm(String algorithm) {
+        SigningAlgorithm selected = SigningAlgorithm.fromName(algorithm);
+        return selected != null ? selected : KeyGenerationService.configuredAlgorithm(SigningAlgorithm.ES256);
+    }
+
     /**
      * 에러 응답 전송
      */
     private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        RequestTrace.fail(message);
         response.setStatus(status);
         JsonObject error = new JsonObject();
         error.addProperty("success", false);
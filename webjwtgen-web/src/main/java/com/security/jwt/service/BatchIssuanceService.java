@@ -0,0 +1,58 @@
+package com.security.jwt.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * 대량 JWT 발급 서비스
+ * NDJSON(한 줄에 {exp, iss, sub} 하나) 또는 JSON 배열 입력을 BatchProcessor로 병렬 서명하고,
+ * 완료되는 순서대로 한 줄씩 결과를 출력
+ */
+public class BatchIssuanceService {
+
+    /**
+     * 입력을 끝까지 읽으며 결과 라인을 out에 기록하고, 처리 요약 반환
+     */
+    public static BatchProcessor.BatchResult issue(BufferedReader in, Writer out, SignerEngine signer)
+            throws IOException {
+        return BatchProcessor.run(in, out, (index, element, failed) -> issueOne(index, element, signer, failed),
+                false);
+    }
+
+    /**
+     * 한 항목 서명 (예외를 던지지 않고 결과 라인으로 반환)
+     */
+    private static String issueOne(long index, JsonElement element, SignerEngine signer, AtomicLong failed) {
+        JsonObject result = new JsonObject();
+        result.addProperty("index", index);
+        try {
+            if (element == null || !element.isJsonObject()) {
+                throw new IllegalArgumentException("JSON 객체가 아닙니다");
+            }
+            JsonObject claims = element.getAsJsonObject();
+            String exp = getString(claims, "exp");
+            String iss = getString(claims, "iss");
+            String sub = getString(claims, "sub");
+            if (!JWTService.validateJWTParams(exp, iss, sub)) {
+                throw new IllegalArgumentException("exp, iss, sub 파라미터는 필수입니다");
+            }
+            result.addProperty("success", true);
+            result.addProperty("jwt", JWTService.generateJWT(exp, iss, sub, signer));
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            result.addProperty("success", false);
+            result.addProperty("error", e.getMessage());
+        }
+        return result.toString();
+    }
+
+    private static String getString(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        return (value != null && value.isJsonPrimitive()) ? value.getAsString() : null;
+    }
+}
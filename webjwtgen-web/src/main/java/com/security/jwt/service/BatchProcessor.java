@@ -0,0 +1,246 @@
+package com.security.jwt.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 배치 스트리밍 처리기 (대량 발급/검증 공용)
+ * NDJSON(한 줄에 항목 하나) 또는 JSON 배열 입력을 스트리밍으로 읽어 코어 수만큼 병렬 처리하고,
+ * 완료되는 순서대로 한 줄씩 결과를 출력
+ *
+ * 동시에 처리 중인 항목 수를 MAX_IN_FLIGHT로 제한하므로 배치 크기와 관계없이 힙 사용량이 일정함
+ */
+public class BatchProcessor {
+    private static final Logger logger = LogManager.getLogger(BatchProcessor.class);
+    private static final int MAX_IN_FLIGHT = 1024;
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), new BatchThreadFactory());
+
+    /**
+     * 항목 처리기
+     */
+    public interface ItemHandler {
+        /**
+         * 항목 하나를 처리하고 결과 라인 반환 (예외를 던지지 않고, 실패하면 failed 증가)
+         */
+        String process(long index, JsonElement element, AtomicLong failed);
+    }
+
+    /**
+     * 입력을 끝까지 읽으며 결과 라인을 out에 기록하고, 처리 요약 반환
+     * bareLines가 true이면 NDJSON에서 JSON 값이 아닌 줄({, [, " 로 시작하지 않는 줄)을 문자열 항목으로 처리
+     */
+    public static BatchResult run(BufferedReader in, Writer out, ItemHandler handler, boolean bareLines)
+            throws IOException {
+        logger.info("=== batch run START ===");
+        BatchRun run = new BatchRun(out, handler, bareLines);
+        try {
+            int first = skipWhitespace(in);
+            if (first == '[') {
+                run.readArray(in);
+            } else {
+                run.readLines(in);
+            }
+            run.drain(0);
+        } catch (IOException e) {
+            // 스트림 자체를 더 읽을 수 없으면 남은 작업만 마무리하고 종료 라인 기록
+            logger.error("배치 입력 읽기 실패: {}", e.getMessage());
+            run.drain(0);
+            JsonObject error = new JsonObject();
+            error.addProperty("success", false);
+            error.addProperty("error", "입력을 읽을 수 없습니다: " + e.getMessage());
+            out.write(error.toString());
+            out.write('\n');
+        }
+        out.flush();
+        logger.info("=== batch run END (total: {}, failed: {}) ===", run.submitted, run.failed.get());
+        return new BatchResult(run.submitted, run.failed.get());
+    }
+
+    /**
+     * 배치 작업 스레드 종료 (웹앱 종료 시)
+     */
+    public static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 첫 번째 공백이 아닌 문자를 확인하고 그 위치로 되돌림
+     */
+    private static int skipWhitespace(BufferedReader in) throws IOException {
+        int c;
+        do {
+            in.mark(1);
+            c = in.read();
+        } while (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\uFEFF');
+        in.reset();
+        return c;
+    }
+
+    /**
+     * 요청 하나에 대한 배치 진행 상태
+     */
+    private static class BatchRun {
+        private final Writer out;
+        private final ItemHandler handler;
+        private final boolean bareLines;
+        private final CompletionService<String> completion = new ExecutorCompletionService<>(executor);
+        private int inFlight;
+        private long submitted;
+        private final AtomicLong failed = new AtomicLong();
+
+        BatchRun(Writer out, ItemHandler handler, boolean bareLines) {
+            this.out = out;
+            this.handler = handler;
+            this.bareLines = bareLines;
+        }
+
+        void readLines(BufferedReader in) throws IOException {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                char first = trimmed.charAt(0);
+                if (bareLines && first != '{' && first != '[' && first != '"') {
+                    submit(new JsonPrimitive(trimmed));
+                    continue;
+                }
+                JsonElement element;
+                try {
+                    element = JsonParser.parseString(line);
+                } catch (JsonParseException e) {
+                    writeParseError(submitted++, e);
+                    continue;
+                }
+                submit(element);
+            }
+        }
+
+        void readArray(BufferedReader in) throws IOException {
+            JsonReader reader = new JsonReader(in);
+            try {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    submit(JsonParser.parseReader(reader));
+                }
+                reader.endArray();
+                if (reader.peek() != JsonToken.END_DOCUMENT) {
+                    throw new JsonParseException("배열 뒤에 불필요한 데이터가 있습니다");
+                }
+            } catch (JsonParseException | IllegalStateException | MalformedJsonException e) {
+                // 배열 구조가 깨지면 이후 항목 경계를 알 수 없으므로 중단
+                writeParseError(submitted++, e);
+            }
+        }
+
+        void submit(JsonElement element) throws IOException {
+            drain(MAX_IN_FLIGHT - 1);
+            final long index = submitted++;
+            completion.submit(() -> handler.process(index, element, failed));
+            inFlight++;
+            // 이미 끝난 결과는 기다리지 않고 바로 출력
+            Future<String> done;
+            while ((done = completion.poll()) != null) {
+                write(done);
+            }
+        }
+
+        /**
+         * 처리 중인 항목이 limit 이하가 될 때까지 결과를 기다려 출력
+         */
+        void drain(int limit) throws IOException {
+            if (inFlight > limit) {
+                // 대기 전에 지금까지의 결과를 클라이언트로 내보냄
+                out.flush();
+            }
+            while (inFlight > limit) {
+                try {
+                    write(completion.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("배치 처리가 중단되었습니다", e);
+                }
+            }
+        }
+
+        private void write(Future<String> done) throws IOException {
+            inFlight--;
+            String line;
+            try {
+                line = done.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IOException("배치 결과를 가져올 수 없습니다", e);
+            }
+            out.write(line);
+            out.write('\n');
+        }
+
+        private void writeParseError(long index, Exception e) throws IOException {
+            failed.incrementAndGet();
+            JsonObject result = new JsonObject();
+            result.addProperty("index", index);
+            result.addProperty("success", false);
+            result.addProperty("error", "JSON 파싱 실패: " + e.getMessage());
+            out.write(result.toString());
+            out.write('\n');
+        }
+    }
+
+    /**
+     * 배치 처리 결과 요약
+     */
+    public static class BatchResult {
+        private final long total;
+        private final long failed;
+
+        BatchResult(long total, long failed) {
+            this.total = total;
+            this.failed = failed;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+    }
+
+    /**
+     * 배치 작업 스레드 (데몬, 웹앱 종료를 막지 않음)
+     */
+    private static class BatchThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jwt-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
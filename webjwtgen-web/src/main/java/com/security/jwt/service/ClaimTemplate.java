@@ -0,0 +1,135 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.security.jwt.verifier.Base64UrlCodec;
+
+/**
+ * 컴파일된 발급 프로필 (클레임 템플릿)
+ * 고정 클레임을 프로필 로드 시 한 번만 JSON 이스케이프 + UTF-8 인코딩 + Base64 URL 인코딩해 두고,
+ * 발급 시에는 요청마다 달라지는 클레임(sub, exp, iat, nbf, 추가 클레임)만 인코딩
+ *
+ * 페이로드 레이아웃: {고정 클레임,<공백 패딩>"sub":..,"exp":..,"iat":..[,"nbf":..][,추가 클레임]}
+ * 고정 부분을 공백(JSON 허용 공백)으로 3바이트 배수에 맞추므로 Base64 경계가 맞아 미리 인코딩한 세그먼트를
+ * 그대로 이어 붙일 수 있음
+ */
+public final class ClaimTemplate {
+    /** 요청/추가 클레임으로 지정할 수 없는 등록 클레임 */
+    private static final Set<String> RESERVED = new HashSet<>(Arrays.asList("iss", "sub", "aud", "exp", "nbf",
+            "iat", "jti"));
+
+    private final String name;
+    private final byte[] encodedPrefix;
+    private final Set<String> fixedClaims;
+    private final long defaultTtlSeconds;
+    private final long maxTtlSeconds;
+    private final boolean notBefore;
+    private final long notBeforeOffsetSeconds;
+
+    private ClaimTemplate(String name, byte[] encodedPrefix, Set<String> fixedClaims, long defaultTtlSeconds,
+            long maxTtlSeconds, boolean notBefore, long notBeforeOffsetSeconds) {
+        this.name = name;
+        this.encodedPrefix = encodedPrefix;
+        this.fixedClaims = fixedClaims;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.notBefore = notBefore;
+        this.notBeforeOffsetSeconds = notBeforeOffsetSeconds;
+    }
+
+    /**
+     * 프로필 정의 컴파일 (잘못된 정의면 IllegalArgumentException)
+     * {"claims": {고정 클레임}, "ttlSeconds": 기본 ttl, "maxTtlSeconds": 최대 ttl, "notBeforeSeconds": nbf = iat + 값}
+     */
+    static ClaimTemplate compile(String name, JsonObject definition, long ttlLimitSeconds) {
+        JsonObject claims = new JsonObject();
+        JsonElement claimsElement = definition.get("claims");
+        if (claimsElement != null) {
+            if (!claimsElement.isJsonObject()) {
+                throw new IllegalArgumentException("claims는 JSON 객체여야 합니다");
+            }
+            claims = claimsElement.getAsJsonObject();
+        }
+        for (String claim : claims.keySet()) {
+            if (!"iss".equals(claim) && !"aud".equals(claim) && RESERVED.contains(claim)) {
+                throw new IllegalArgumentException("고정 클레임으로 지정할 수 없습니다: " + claim);
+            }
+        }
+
+        long maxTtl = getLong(definition, "maxTtlSeconds", ttlLimitSeconds);
+        long defaultTtl = getLong(definition, "ttlSeconds", Math.min(3600, maxTtl));
+        if (maxTtl <= 0 || maxTtl > ttlLimitSeconds || defaultTtl <= 0 || defaultTtl > maxTtl) {
+            throw new IllegalArgumentException("ttlSeconds/maxTtlSeconds 범위가 올바르지 않습니다");
+        }
+        boolean notBefore = definition.has("notBeforeSeconds");
+        long notBeforeOffset = getLong(definition, "notBeforeSeconds", 0);
+
+        // {"iss":..,"aud":..,"groups":[..], 뒤에 공백을 붙여 3바이트 배수로 맞춘 뒤 미리 Base64 URL 인코딩
+        String json = claims.toString();
+        StringBuilder prefix = new StringBuilder(json.length() + 3);
+        prefix.append(json, 0, json.length() - 1);
+        if (claims.size() > 0) {
+            prefix.append(',');
+        }
+        byte[] raw = prefix.toString().getBytes(StandardCharsets.UTF_8);
+        int padded = (raw.length + 2) / 3 * 3;
+        byte[] aligned = Arrays.copyOf(raw, padded);
+        Arrays.fill(aligned, raw.length, padded, (byte) ' ');
+        byte[] encoded = new byte[Base64UrlCodec.encodedLength(padded)];
+        Base64UrlCodec.encode(aligned, 0, padded, encoded, 0);
+
+        return new ClaimTemplate(name, encoded, Collections.unmodifiableSet(new HashSet<>(claims.keySet())),
+                defaultTtl, maxTtl, notBefore, notBeforeOffset);
+    }
+
+    /**
+     * 요청 추가 클레임으로 쓸 수 있는 이름인지 (등록 클레임, 고정 클레임과 겹치지 않음)
+     */
+    boolean isExtraClaimAllowed(String claim) {
+        return !RESERVED.contains(claim) && !fixedClaims.contains(claim);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 고정 클레임 부분의 Base64 URL 인코딩 (길이가 4의 배수, 패딩 없음)
+     */
+    byte[] getEncodedPrefix() {
+        return encodedPrefix;
+    }
+
+    public long getDefaultTtlSeconds() {
+        return defaultTtlSeconds;
+    }
+
+    public long getMaxTtlSeconds() {
+        return maxTtlSeconds;
+    }
+
+    public boolean hasNotBefore() {
+        return notBefore;
+    }
+
+    public long getNotBeforeOffsetSeconds() {
+        return notBeforeOffsetSeconds;
+    }
+
+    private static long getLong(JsonObject object, String name, long defaultValue) {
+        JsonElement value = object.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+            throw new IllegalArgumentException(name + "는 정수여야 합니다");
+        }
+        return value.getAsLong();
+    }
+}
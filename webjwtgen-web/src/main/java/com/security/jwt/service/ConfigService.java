@@ -0,0 +1,82 @@
+package com.security.jwt.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 실행 설정 조회 서비스
+ * 시스템 프로퍼티(-Dname=value)를 우선하고, 없으면 환경 변수를 사용
+ */
+public class ConfigService {
+    private static final Logger logger = LogManager.getLogger(ConfigService.class);
+
+    /**
+     * 문자열 설정 조회
+     */
+    public static String get(String property, String env, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isEmpty()) {
+            value = System.getenv(env);
+        }
+        return (value != null && !value.isEmpty()) ? value : defaultValue;
+    }
+
+    /**
+     * 양의 정수 설정 조회 (잘못된 값이면 기본값)
+     */
+    public static int getPositiveInt(String property, String env, int defaultValue) {
+        String value = get(property, env, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            logger.warn("잘못된 설정값 무시 ({}={})", property, value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 0 이상의 정수 설정 조회 (잘못된 값이면 기본값)
+     */
+    public static int getNonNegativeInt(String property, String env, int defaultValue) {
+        String value = get(property, env, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed >= 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            logger.warn("잘못된 설정값 무시 ({}={})", property, value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 0.0 ~ 1.0 비율 설정 조회 (잘못된 값이면 기본값)
+     */
+    public static double getRatio(String property, String env, double defaultValue) {
+        String value = get(property, env, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            return (parsed >= 0.0 && parsed <= 1.0) ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            logger.warn("잘못된 설정값 무시 ({}={})", property, value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * true/false 설정 조회
+     */
+    public static boolean getBoolean(String property, String env, boolean defaultValue) {
+        String value = get(property, env, null);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+}
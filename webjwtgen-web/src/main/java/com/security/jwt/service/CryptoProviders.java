@@ -0,0 +1,67 @@
+package com.security.jwt.service;
+
+import java.security.Provider;
+import java.security.Security;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+/**
+ * 보안 Provider 등록 / 서명·검증 Provider 선택
+ * BouncyCastle Provider는 클래스 로드 시 한 번만 등록하고 서블릿/서명/검증/키 생성에서 같은 인스턴스 사용
+ * (이미 다른 곳에서 등록되어 있으면 그 인스턴스 사용)
+ *
+ * 서명/검증 엔진이 사용할 Provider는 시작 시 ProviderCalibration이 선택하며, 선택 전에는 BouncyCastle 사용
+ * 선택된 Provider가 키의 알고리즘을 지원하지 않으면(JDK 11의 SunEC와 Ed25519 등) BouncyCastle 사용
+ */
+public final class CryptoProviders {
+    /** JDK 내장 EC Provider 이름 */
+    public static final String SUN_EC = "SunEC";
+
+    private static final Provider BOUNCY_CASTLE = registerBouncyCastle();
+    private static volatile Provider ecdsa = BOUNCY_CASTLE;
+
+    private CryptoProviders() {
+    }
+
+    /**
+     * 등록된 BouncyCastle Provider
+     */
+    public static Provider bouncyCastle() {
+        return BOUNCY_CASTLE;
+    }
+
+    /**
+     * 서명/검증 엔진이 사용할 Provider
+     */
+    public static Provider ecdsa() {
+        return ecdsa;
+    }
+
+    /**
+     * 서명/검증 Provider 교체 (ProviderCalibration에서 호출, 이후 생성되는 엔진부터 적용)
+     */
+    static void selectEcdsa(Provider provider) {
+        ecdsa = provider;
+    }
+
+    /**
+     * 서명 알고리즘에 사용할 Provider (선택된 Provider가 지원하지 않으면 BouncyCastle)
+     */
+    public static Provider forAlgorithm(SigningAlgorithm algorithm) {
+        Provider selected = ecdsa;
+        if (selected.getService("Signature", algorithm.getSignatureAlgorithm()) != null
+                && selected.getService("Signature", algorithm.getPlainSignatureAlgorithm(selected)) != null) {
+            return selected;
+        }
+        return BOUNCY_CASTLE;
+    }
+
+    private static synchronized Provider registerBouncyCastle() {
+        Provider bc = Security.getProvider(BouncyCastleProvider.PROVIDER_NAME);
+        if (bc == null) {
+            bc = new BouncyCastleProvider();
+            Security.addProvider(bc);
+        }
+        return bc;
+    }
+}
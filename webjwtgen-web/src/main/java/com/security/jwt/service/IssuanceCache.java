@@ -0,0 +1,229 @@
+package com.security.jwt.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 서명된 JWT 캐시
+ * iat는 초 단위이므로 같은 초에 같은 (iss, sub, exp)로 발급한 토큰은 서명 외에는 동일함
+ * (kid, 클레임) 기준으로 서명된 토큰을 잠시 보관하여 반복 요청에 ECDSA 서명을 다시 하지 않음
+ * 발급 프로필 토큰은 (kid, 프로필, exp, sub, 추가 클레임)을 키로 사용 (고정 클레임과 nbf는 프로필에서 결정됨)
+ *
+ * - 조회는 ConcurrentHashMap에서 잠금 없이 수행하고, 서명은 캐시 밖에서 수행 (빈 단위 잠금만 사용)
+ * - 항목 수명은 TTL, 발급한 초의 끝, 토큰 exp 중 가장 빠른 쪽
+ *   (반환되는 토큰의 iat는 항상 현재 초이며, 만료된 토큰은 반환하지 않음)
+ * - 가득 차면 한 스레드만 정리: 만료 항목 제거 후에도 넘치면 임의 항목을 제거하여 90%로 축소
+ * - 키 스냅샷이 바뀌면 전체 폐기 (KeyMaterialStore)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.cache.enabled / JWT_CACHE_ENABLED: 사용 여부 (기본값: true)
+ * - jwt.cache.maxEntries / JWT_CACHE_MAX_ENTRIES: 최대 항목 수 (기본값: 10000)
+ * - jwt.cache.ttlMillis / JWT_CACHE_TTL_MILLIS: 항목 최대 수명 (기본값: 1000, 발급한 초를 넘기지 않음)
+ */
+public class IssuanceCache {
+    private static final Logger logger = LogManager.getLogger(IssuanceCache.class);
+
+    private static final boolean ENABLED = ConfigService.getBoolean("jwt.cache.enabled", "JWT_CACHE_ENABLED", true);
+    private static final int MAX_ENTRIES = ConfigService.getPositiveInt("jwt.cache.maxEntries",
+            "JWT_CACHE_MAX_ENTRIES", 10_000);
+    private static final long TTL_MILLIS = ConfigService.getPositiveInt("jwt.cache.ttlMillis",
+            "JWT_CACHE_TTL_MILLIS", 1000);
+
+    private static final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private static final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder expirations = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder purges = new LongAdder();
+
+    /**
+     * 캐시된 토큰 조회 (없거나 만료되었으면 null)
+     */
+    public static String get(String kid, long exp, String iss, String sub) {
+        return get(kid, exp, null, iss, sub, null);
+    }
+
+    /**
+     * 발급 프로필로 서명한 토큰 조회 (없거나 만료되었으면 null)
+     */
+    public static String get(String kid, long exp, ClaimTemplate template, String sub, String extraClaims) {
+        return get(kid, exp, template, null, sub, extraClaims);
+    }
+
+    private static String get(String kid, long exp, ClaimTemplate template, String iss, String sub,
+            String extraClaims) {
+        if (!ENABLED || kid == null) {
+            return null;
+        }
+        Key key = new Key(kid, exp, template, iss, sub, extraClaims);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.token;
+    }
+
+    /**
+     * 서명한 토큰 저장 (issuedAtMillis 기준 TTL, 발급한 초의 끝, exp 중 가장 빠른 시각에 만료)
+     */
+    public static void put(String kid, long exp, String iss, String sub, String token, long issuedAtMillis) {
+        put(new Key(kid, exp, null, iss, sub, null), token, issuedAtMillis);
+    }
+
+    /**
+     * 발급 프로필로 서명한 토큰 저장
+     */
+    public static void put(String kid, long exp, ClaimTemplate template, String sub, String extraClaims,
+            String token, long issuedAtMillis) {
+        put(new Key(kid, exp, template, null, sub, extraClaims), token, issuedAtMillis);
+    }
+
+    private static void put(Key key, String token, long issuedAtMillis) {
+        if (!ENABLED || key.kid == null) {
+            return;
+        }
+        long expMillis = key.exp > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : key.exp * 1000;
+        // iat는 issuedAtMillis / 1000이므로 다음 초부터는 새로 서명해야 iat가 현재 초와 일치함
+        long secondEnd = (issuedAtMillis / 1000 + 1) * 1000;
+        long expiresAt = Math.min(Math.min(issuedAtMillis + TTL_MILLIS, secondEnd), expMillis);
+        if (expiresAt <= issuedAtMillis) {
+            // 이미 만료된 토큰은 캐시하지 않음
+            return;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            sweep(issuedAtMillis);
+        }
+        entries.put(key, new Entry(token, expiresAt));
+    }
+
+    /**
+     * 전체 폐기 (키 스냅샷 변경 시)
+     */
+    public static void purge() {
+        if (!entries.isEmpty()) {
+            entries.clear();
+            purges.increment();
+            logger.info("JWT 캐시 폐기 (키 변경)");
+        }
+    }
+
+    /**
+     * 캐시 상태 (항목 수, 적중/실패/제거 수)
+     */
+    public static JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("enabled", ENABLED);
+        stats.addProperty("size", entries.size());
+        stats.addProperty("maxEntries", MAX_ENTRIES);
+        stats.addProperty("ttlMillis", TTL_MILLIS);
+        stats.addProperty("hits", hits.sum());
+        stats.addProperty("misses", misses.sum());
+        stats.addProperty("expirations", expirations.sum());
+        stats.addProperty("evictions", evictions.sum());
+        stats.addProperty("purges", purges.sum());
+        return stats;
+    }
+
+    /**
+     * 가득 찬 캐시 정리 (동시에 한 스레드만, 나머지는 기다리지 않고 저장)
+     */
+    private static void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int removed = 0;
+            for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+                if (now >= it.next().getValue().expiresAt) {
+                    it.remove();
+                    expirations.increment();
+                    removed++;
+                }
+            }
+
+            // 만료 항목만으로 부족하면 임의 항목 제거 (해시 순서이므로 특정 키에 치우치지 않음)
+            int target = MAX_ENTRIES - MAX_ENTRIES / 10;
+            for (Iterator<Key> it = entries.keySet().iterator(); it.hasNext() && entries.size() > target;) {
+                it.next();
+                it.remove();
+                evictions.increment();
+                removed++;
+            }
+            logger.debug("JWT 캐시 정리 ({}개 제거, 남은 항목: {})", removed, entries.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * 캐시 키 (kid + 정규화된 클레임, iat 제외)
+     * 프로필은 로드 후 바뀌지 않으므로 같은 인스턴스인지로 비교
+     */
+    private static final class Key {
+        private final String kid;
+        private final long exp;
+        private final ClaimTemplate template;
+        private final String iss;
+        private final String sub;
+        private final String extraClaims;
+        private final int hash;
+
+        Key(String kid, long exp, ClaimTemplate template, String iss, String sub, String extraClaims) {
+            this.kid = kid;
+            this.exp = exp;
+            this.template = template;
+            this.iss = iss;
+            this.sub = sub;
+            this.extraClaims = extraClaims;
+            this.hash = Objects.hash(kid, exp, template, iss, sub, extraClaims);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return exp == other.exp && template == other.template && kid.equals(other.kid)
+                    && Objects.equals(iss, other.iss) && Objects.equals(sub, other.sub)
+                    && Objects.equals(extraClaims, other.extraClaims);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final String token;
+        private final long expiresAt;
+
+        Entry(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.security.jwt.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 이름 있는 발급 프로필 서비스
+ * 프로필 파일({"이름": {"claims": {...}, "ttlSeconds", "maxTtlSeconds", "notBeforeSeconds"}, ...})을 시작 시
+ * 한 번 읽어 ClaimTemplate으로 컴파일하고, 요청 본문 {"sub", "ttl", "claims": {추가 클레임}}을
+ * 스트리밍 JsonReader로 읽어 발급 요청으로 변환 (트리를 만들지 않고 추가 클레임을 바로 직렬화)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.profiles.path / JWT_PROFILES_PATH: 프로필 파일 경로 (기본값: 클래스패스의 jwt-profiles.json)
+ */
+public class IssuanceProfileService {
+    private static final Logger logger = LogManager.getLogger(IssuanceProfileService.class);
+    private static final String DEFAULT_RESOURCE = "jwt-profiles.json";
+    /** 추가 클레임 직렬화 최대 길이 (문자) */
+    private static final int MAX_EXTRA_CLAIMS_LENGTH = 8192;
+    /** 추가 클레임 값의 최대 중첩 깊이 */
+    private static final int MAX_DEPTH = 16;
+
+    private static final Map<String, ClaimTemplate> profiles = load();
+
+    /**
+     * 이름으로 프로필 조회 (없으면 null)
+     */
+    public static ClaimTemplate find(String name) {
+        return name == null ? null : profiles.get(name);
+    }
+
+    /**
+     * 등록된 프로필 목록 (이름, 기본/최대 ttl)
+     */
+    public static JsonArray describe() {
+        JsonArray array = new JsonArray();
+        for (ClaimTemplate template : profiles.values()) {
+            JsonObject item = new JsonObject();
+            item.addProperty("name", template.getName());
+            item.addProperty("ttlSeconds", template.getDefaultTtlSeconds());
+            item.addProperty("maxTtlSeconds", template.getMaxTtlSeconds());
+            array.add(item);
+        }
+        return array;
+    }
+
+    /**
+     * 쿼리 파라미터(sub, ttl)로 발급 요청 생성 (추가 클레임 없음, 잘못된 값이면 IllegalArgumentException)
+     */
+    public static ProfileRequest fromParameters(ClaimTemplate template, String sub, String ttl) {
+        long ttlSeconds;
+        if (ttl == null || ttl.isEmpty()) {
+            ttlSeconds = template.getDefaultTtlSeconds();
+        } else {
+            try {
+                ttlSeconds = Long.parseLong(ttl);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("ttl은 정수여야 합니다");
+            }
+        }
+        return validate(template, sub, ttlSeconds, null);
+    }
+
+    /**
+     * 요청 본문 {"sub": "...", "ttl": 초, "claims": {...}} 을 스트리밍으로 읽어 발급 요청 생성
+     * (형식 오류, 알 수 없는 필드, 프로필과 겹치는 클레임이면 IllegalArgumentException)
+     */
+    public static ProfileRequest fromJson(ClaimTemplate template, Reader body) throws IOException {
+        String sub = null;
+        long ttlSeconds = template.getDefaultTtlSeconds();
+        String extraClaims = null;
+
+        JsonReader reader = new JsonReader(body);
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String field = reader.nextName();
+                switch (field) {
+                    case "sub":
+                        if (reader.peek() != JsonToken.STRING) {
+                            throw new IllegalArgumentException("sub는 문자열이어야 합니다");
+                        }
+                        sub = reader.nextString();
+                        break;
+                    case "ttl":
+                        if (reader.peek() != JsonToken.NUMBER) {
+                            throw new IllegalArgumentException("ttl은 정수여야 합니다");
+                        }
+                        ttlSeconds = reader.nextLong();
+                        break;
+                    case "claims":
+                        extraClaims = readExtraClaims(template, reader);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 필드입니다: " + field);
+                }
+            }
+            reader.endObject();
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new IllegalArgumentException("JSON 객체 뒤에 불필요한 데이터가 있습니다");
+            }
+        } catch (IllegalStateException | NumberFormatException | MalformedJsonException | EOFException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+        return validate(template, sub, ttlSeconds, extraClaims);
+    }
+
+    /**
+     * claims 객체를 "name":value,... 형태로 바로 직렬화 (등록/고정 클레임 이름과 중복 이름은 거부)
+     */
+    private static String readExtraClaims(ClaimTemplate template, JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new JsonWriter(out);
+        Set<String> seen = new HashSet<>();
+        writer.beginObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String claim = reader.nextName();
+            if (!template.isExtraClaimAllowed(claim)) {
+                throw new IllegalArgumentException("추가 클레임으로 지정할 수 없습니다: " + claim);
+            }
+            if (!seen.add(claim)) {
+                throw new IllegalArgumentException("중복된 클레임입니다: " + claim);
+            }
+            writer.name(claim);
+            copyValue(reader, writer, 0);
+            if (out.getBuffer().length() > MAX_EXTRA_CLAIMS_LENGTH) {
+                throw new IllegalArgumentException("추가 클레임이 너무 큽니다");
+            }
+        }
+        reader.endObject();
+        writer.endObject();
+        writer.flush();
+
+        // 바깥 중괄호를 떼어 페이로드에 이어 붙일 멤버 목록만 반환
+        StringBuffer json = out.getBuffer();
+        return json.length() > 2 ? json.substring(1, json.length() - 1) : null;
+    }
+
+    private static void copyValue(JsonReader reader, JsonWriter writer, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("추가 클레임의 중첩이 너무 깊습니다");
+        }
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                writer.beginObject();
+                while (reader.hasNext()) {
+                    writer.name(reader.nextName());
+                    copyValue(reader, writer, depth + 1);
+                }
+                reader.endObject();
+                writer.endObject();
+                break;
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                writer.beginArray();
+                while (reader.hasNext()) {
+                    copyValue(reader, writer, depth + 1);
+                }
+                reader.endArray();
+                writer.endArray();
+                break;
+            case STRING:
+                writer.value(reader.nextString());
+                break;
+            case NUMBER:
+                // 숫자 원문 유지 (JsonReader가 숫자 형식을 이미 검사함)
+                writer.jsonValue(reader.nextString());
+                break;
+            case BOOLEAN:
+                writer.value(reader.nextBoolean());
+                break;
+            case NULL:
+                reader.nextNull();
+                writer.nullValue();
+                break;
+            default:
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다");
+        }
+    }
+
+    private static ProfileRequest validate(ClaimTemplate template, String sub, long ttlSeconds, String extraClaims) {
+        if (sub == null || sub.isEmpty()) {
+            throw new IllegalArgumentException("sub는 필수입니다");
+        }
+        if (ttlSeconds <= 0 || ttlSeconds > template.getMaxTtlSeconds()) {
+            throw new IllegalArgumentException("ttl은 1 ~ " + template.getMaxTtlSeconds() + "초여야 합니다");
+        }
+        return new ProfileRequest(template, sub, ttlSeconds, extraClaims);
+    }
+
+    /**
+     * 프로필 파일 로드 및 컴파일 (잘못된 프로필은 건너뛰고 기록)
+     */
+    private static Map<String, ClaimTemplate> load() {
+        String path = ConfigService.get("jwt.profiles.path", "JWT_PROFILES_PATH", null);
+        Map<String, ClaimTemplate> loaded = new LinkedHashMap<>();
+        try (Reader in = open(path)) {
+            if (in == null) {
+                logger.info("발급 프로필 파일 없음");
+                return Collections.emptyMap();
+            }
+            JsonElement root = JsonParser.parseReader(in);
+            if (!root.isJsonObject()) {
+                logger.error("발급 프로필 파일이 JSON 객체가 아닙니다: {}", path);
+                return Collections.emptyMap();
+            }
+            for (Map.Entry<String, JsonElement> entry : root.getAsJsonObject().entrySet()) {
+                try {
+                    if (!entry.getValue().isJsonObject()) {
+                        throw new IllegalArgumentException("프로필 정의는 JSON 객체여야 합니다");
+                    }
+                    loaded.put(entry.getKey(), ClaimTemplate.compile(entry.getKey(),
+                            entry.getValue().getAsJsonObject(), JWTService.MAX_TTL_SECONDS));
+                } catch (IllegalArgumentException e) {
+                    logger.error("발급 프로필 무시 ({}): {}", entry.getKey(), e.getMessage());
+                }
+            }
+            logger.info("발급 프로필 로드 완료: {}", loaded.keySet());
+        } catch (Exception e) {
+            logger.error("발급 프로필 파일 로드 실패 ({}): {}", path, e.getMessage(), e);
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private static Reader open(String path) throws IOException {
+        if (path != null) {
+            return Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8);
+        }
+        InputStream resource = IssuanceProfileService.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+        return resource == null ? null : new InputStreamReader(resource, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 검증된 프로필 발급 요청
+     */
+    public static final class ProfileRequest {
+        private final ClaimTemplate template;
+        private final String sub;
+        private final long ttlSeconds;
+        private final String extraClaims;
+
+        ProfileRequest(ClaimTemplate template, String sub, long ttlSeconds, String extraClaims) {
+            this.template = template;
+            this.sub = sub;
+            this.ttlSeconds = ttlSeconds;
+            this.extraClaims = extraClaims;
+        }
+
+        public ClaimTemplate getTemplate() {
+            return template;
+        }
+
+        public String getSub() {
+            return sub;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        /**
+         * 직렬화된 추가 클레임 ("name":value,... 또는 null)
+         */
+        public String getExtraClaims() {
+            return extraClaims;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+import com.security.jwt.verifier.EcdsaSignatureTranscoder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.util.encoders.Base64;
+
+/**
+ * JWT 생성 및 검증 서비스
+ */
+public class JWTService {
+    private static final Logger logger = LogManager.getLogger(JWTService.class);
+    /** ttl 파라미터 최대값 (10년) */
+    static final long MAX_TTL_SECONDS = 10L * 365 * 24 * 3600;
+
+    // 워커 스레드별 JWT 조립 버퍼
+    private static final ThreadLocal<JwtTokenAssembler> assemblers = ThreadLocal.withInitial(JwtTokenAssembler::new);
+
+    /**
+     * JWT 토큰 생성
+     * 현재 키 스냅샷의 개인키면 스냅샷의 서명 엔진을 사용하고, 다른 키면 이번 호출에만 쓸 엔진을 만듦
+     */
+    public static String generateJWT(String exp, String iss, String sub, PrivateKey privateKey) throws Exception {
+        KeyMaterial keys = KeyMaterialStore.current();
+        SignerEngine signer = keys != null && keys.getSigner().getPrivateKey() == privateKey
+                ? keys.getSigner()
+                : new SignerEngine(privateKey);
+        return generateJWT(exp, iss, sub, signer);
+    }
+
+    /**
+     * JWT 토큰 생성 (키 스냅샷의 서명 엔진 사용)
+     */
+    public static String generateJWT(String exp, String iss, String sub, SignerEngine signer) throws Exception {
+        logger.debug("=== generateJWT START ===");
+        logger.debug("JWT 파라미터 - exp: {}, iss: {}, sub: {}", exp, iss, sub);
+        try {
+            // 같은 키와 클레임으로 방금 서명한 토큰이 있으면 재사용
+            long expSeconds = Long.parseLong(exp);
+            String cached = IssuanceCache.get(signer.getKid(), expSeconds, iss, sub);
+            if (cached != null) {
+                RequestTrace.tag("cache", "hit");
+                logger.debug("JWT 캐시 적중");
+                logger.debug("=== generateJWT END ===");
+                return cached;
+            }
+
+            // 스레드별 재사용 버퍼에 header.payload.signature를 바이트 단위로 조립
+            long now = System.currentTimeMillis();
+            String jwt = assemblers.get().assemble(expSeconds, iss, sub, now / 1000, signer);
+            IssuanceCache.put(signer.getKid(), expSeconds, iss, sub, jwt, now);
+            logger.debug("JWT 토큰 생성 완료");
+            logger.debug("=== generateJWT END ===");
+            return jwt;
+        } catch (Exception e) {
+            logger.error("JWT 생성 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * JWT 토큰 생성 (exp = 발급 시각 + ttl초)
+     * 자주 요청되는 (iss, sub, ttl)은 사전 서명 풀에서 바로 꺼내 응답
+     */
+    public static String generateJWTWithTtl(String ttl, String iss, String sub, SignerEngine signer)
+            throws Exception {
+        long ttlSeconds = Long.parseLong(ttl);
+        String pooled = PreSigningPool.take(signer.getKid(), iss, sub, ttlSeconds);
+        if (pooled != null) {
+            RequestTrace.tag("cache", "presigned");
+            logger.debug("사전 서명 풀 적중 - ttl: {}, iss: {}, sub: {}", ttl, iss, sub);
+            return pooled;
+        }
+        return generateJWT(String.valueOf(System.currentTimeMillis() / 1000 + ttlSeconds), iss, sub, signer);
+    }
+
+    /**
+     * 발급 프로필 템플릿으로 JWT 토큰 생성 (exp = 발급 시각 + ttl초)
+     */
+    public static String generateJWT(IssuanceProfileService.ProfileRequest request, SignerEngine signer)
+            throws Exception {
+        ClaimTemplate template = request.getTemplate();
+        logger.debug("=== generateJWT START (profile: {}) ===", template.getName());
+        logger.debug("JWT 파라미터 - sub: {}, ttl: {}", request.getSub(), request.getTtlSeconds());
+        try {
+            long now = System.currentTimeMillis();
+            long exp = now / 1000 + request.getTtlSeconds();
+            String cached = IssuanceCache.get(signer.getKid(), exp, template, request.getSub(),
+                    request.getExtraClaims());
+            if (cached != null) {
+                RequestTrace.tag("cache", "hit");
+                logger.debug("JWT 캐시 적중");
+                logger.debug("=== generateJWT END ===");
+                return cached;
+            }
+
+            // 고정 클레임은 미리 인코딩된 세그먼트를 복사하고 나머지만 조립
+            String jwt = assemblers.get().assemble(template, request.getSub(), exp, now / 1000,
+                    request.getExtraClaims(), signer);
+            IssuanceCache.put(signer.getKid(), exp, template, request.getSub(), request.getExtraClaims(), jwt, now);
+            logger.debug("JWT 토큰 생성 완료");
+            logger.debug("=== generateJWT END ===");
+            return jwt;
+        } catch (Exception e) {
+            logger.error("JWT 생성 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 공개키를 PEM 형식으로 변환
+     */
+    public static String convertPublicKeyToPem(PublicKey publicKey) {
+        logger.debug("=== convertPublicKeyToPem START ===");
+        try {
+            byte[] encoded = publicKey.getEncoded();
+            logger.debug("공개키 인코딩 크기: {} bytes", encoded.length);
+
+            String base64Encoded = Base64.toBase64String(encoded);
+
+            StringBuilder pem = new StringBuilder();
+            pem.append("-----BEGIN PUBLIC KEY-----\n");
+
+            // 64자씩 줄바꿈
+            for (int i = 0; i < base64Encoded.length(); i += 64) {
+                int end = Math.min(i + 64, base64Encoded.length());
+                pem.append(base64Encoded.substring(i, end)).append("\n");
+            }
+
+            pem.append("-----END PUBLIC KEY-----");
+            logger.debug("PEM 형식 변환 완료");
+            logger.debug("=== convertPublicKeyToPem END ===");
+            return pem.toString();
+        } catch (Exception e) {
+            logger.error("PEM 형식 변환 실패: {}", e.getMessage(), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * ECDSA DER 서명을 JWT 형식(r||s)으로 변환
+     */
+    public static String ecdsaSignatureToJwt(byte[] derSignature) throws Exception {
+        byte[] encoded = new byte[EcdsaSignatureTranscoder.JOSE_BASE64_LENGTH];
+        int length = EcdsaSignatureTranscoder.derToJoseBase64Url(derSignature, encoded, 0);
+        return new String(encoded, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Base64 URL 인코딩
+     */
+    public static String base64UrlEncode(String data) {
+        return base64UrlEncode(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String base64UrlEncode(byte[] data) {
+        return java.util.Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(data);
+    }
+
+    /**
+     * 파라미터 유효성 검사 (ttl: 1초 ~ 10년)
+     */
+    public static boolean validateTtlParams(String ttl, String iss, String sub) {
+        if (ttl == null || ttl.isEmpty())
+            return false;
+        if (iss == null || iss.isEmpty())
+            return false;
+        if (sub == null || sub.isEmpty())
+            return false;
+
+        try {
+            long seconds = Long.parseLong(ttl);
+            return seconds > 0 && seconds <= MAX_TTL_SECONDS;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 파라미터 유효성 검사
+     */
+    public static boolean validateJWTParams(String exp, String iss, String sub) {
+        if (exp == null || exp.isEmpty())
+            return false;
+        if (iss == null || iss.isEmpty())
+            return false;
+        if (sub == null || sub.isEmpty())
+            return false;
+
+        try {
+            Long.parseLong(exp);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
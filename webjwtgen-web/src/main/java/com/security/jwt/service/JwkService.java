@@ -0,0 +1,142 @@
+package com.security.jwt.service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * JWK(JSON Web Key) 변환 서비스
+ * 공개키의 JWK 멤버 인코딩(EC 좌표, Ed25519 x), RFC 7638 thumbprint(kid) 계산, JWK Set 직렬화
+ * kty/crv와 좌표 길이는 키의 SigningAlgorithm에서 결정 (EC: P-256/P-384/P-521, OKP: Ed25519)
+ */
+public class JwkService {
+    /** Ed25519 SubjectPublicKeyInfo 인코딩 중 공개키 앞부분 (AlgorithmIdentifier 등) 길이 */
+    private static final int ED25519_SPKI_PREFIX_LENGTH = 12;
+
+    /**
+     * RFC 7638 JWK thumbprint (SHA-256, Base64 URL)
+     * 필수 멤버만 사전순으로 공백 없이 직렬화: EC는 {"crv","kty","x","y"}, OKP는 {"crv","kty","x"}
+     */
+    public static String thumbprint(PublicKey publicKey) throws NoSuchAlgorithmException {
+        SigningAlgorithm algorithm = SigningAlgorithm.of(publicKey);
+        StringBuilder canonical = new StringBuilder(160)
+                .append("{\"crv\":\"").append(algorithm.getJwkCurve())
+                .append("\",\"kty\":\"").append(algorithm.getJwkKeyType());
+        if (algorithm.isEcdsa()) {
+            ECPublicKey ecKey = (ECPublicKey) publicKey;
+            canonical.append("\",\"x\":\"").append(coordinateX(ecKey))
+                    .append("\",\"y\":\"").append(coordinateY(ecKey));
+        } else {
+            canonical.append("\",\"x\":\"").append(edwardsX(publicKey));
+        }
+        canonical.append("\"}");
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return JWTService.base64UrlEncode(digest);
+    }
+
+    /**
+     * 검증 키 목록을 JWK Set(RFC 7517)으로 직렬화
+     * 스냅샷마다 한 번만 만들어 두고 응답 시 바이트를 그대로 기록
+     */
+    public static JwkSet buildJwkSet(List<SigningKey> keys) throws NoSuchAlgorithmException {
+        JsonArray array = new JsonArray();
+        for (SigningKey key : keys) {
+            SigningAlgorithm algorithm = key.getAlgorithm();
+            JsonObject jwk = new JsonObject();
+            jwk.addProperty("kty", algorithm.getJwkKeyType());
+            jwk.addProperty("crv", algorithm.getJwkCurve());
+            if (algorithm.isEcdsa()) {
+                ECPublicKey publicKey = (ECPublicKey) key.getPublicKey();
+                jwk.addProperty("x", coordinateX(publicKey));
+                jwk.addProperty("y", coordinateY(publicKey));
+            } else {
+                jwk.addProperty("x", edwardsX(key.getPublicKey()));
+            }
+            jwk.addProperty("use", "sig");
+            jwk.addProperty("alg", algorithm.getJwsName());
+            jwk.addProperty("kid", key.getKid());
+            array.add(jwk);
+        }
+        JsonObject set = new JsonObject();
+        set.add("keys", array);
+
+        byte[] body = set.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+        return new JwkSet(body, "\"" + JWTService.base64UrlEncode(digest) + "\"");
+    }
+
+    /**
+     * x 좌표 (곡선 크기의 고정 길이, Base64 URL)
+     */
+    public static String coordinateX(ECPublicKey publicKey) {
+        return encodeCoordinate(publicKey.getW().getAffineX(), coordinateLength(publicKey));
+    }
+
+    /**
+     * y 좌표 (곡선 크기의 고정 길이, Base64 URL)
+     */
+    public static String coordinateY(ECPublicKey publicKey) {
+        return encodeCoordinate(publicKey.getW().getAffineY(), coordinateLength(publicKey));
+    }
+
+    /**
+     * Ed25519 공개키 x (RFC 8037, 32바이트 원본, Base64 URL)
+     * JDK/BouncyCastle 키 모두 X.509 SubjectPublicKeyInfo로 인코딩되므로 끝의 32바이트 사용
+     */
+    public static String edwardsX(PublicKey publicKey) {
+        byte[] encoded = publicKey.getEncoded();
+        int length = SigningAlgorithm.EDDSA.getComponentLength();
+        if (encoded == null || encoded.length != ED25519_SPKI_PREFIX_LENGTH + length) {
+            throw new IllegalArgumentException("Ed25519 공개키 인코딩이 올바르지 않습니다");
+        }
+        return JWTService.base64UrlEncode(Arrays.copyOfRange(encoded, ED25519_SPKI_PREFIX_LENGTH, encoded.length));
+    }
+
+    private static int coordinateLength(ECPublicKey publicKey) {
+        return (publicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+    }
+
+    private static String encodeCoordinate(BigInteger value, int coordinateLength) {
+        byte[] bytes = value.toByteArray();
+        byte[] padded = new byte[coordinateLength];
+        int length = Math.min(bytes.length, coordinateLength);
+        System.arraycopy(bytes, bytes.length - length, padded, coordinateLength - length, length);
+        return JWTService.base64UrlEncode(padded);
+    }
+
+    /**
+     * 직렬화된 JWK Set과 강한 ETag (불변)
+     */
+    public static final class JwkSet {
+        private final byte[] body;
+        private final String etag;
+
+        JwkSet(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        /**
+         * 응답 본문 (UTF-8 JSON, 호출자가 수정하지 않아야 함)
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * 본문 SHA-256 기반 강한 ETag (따옴표 포함)
+         */
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
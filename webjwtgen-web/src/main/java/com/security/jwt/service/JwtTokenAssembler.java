@@ -0,0 +1,268 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+import com.security.jwt.verifier.Base64UrlCodec;
+import com.security.jwt.verifier.JwsHeader;
+
+/**
+ * JWT 바이트 조립기
+ * 헤더는 서명 엔진(키)별로 미리 인코딩된 세그먼트를 복사하고, 클레임은 JSON 이스케이프 + UTF-8 인코딩하여
+ * 재사용 버퍼에 직접 기록한 뒤 제자리 Base64 URL 인코딩 → 같은 바이트로 서명
+ *
+ * 인스턴스는 스레드 안전하지 않으므로 스레드별로 하나씩 사용 (JWTService 참고)
+ * kid가 없는 키의 출력은 기존 Gson JsonObject 기반 구현과 바이트 단위로 동일
+ */
+public final class JwtTokenAssembler {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_CAPACITY = 512;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    /**
+     * exp, iss, sub, iat 클레임으로 서명된 JWT 생성
+     */
+    public String assemble(long exp, String iss, String sub, long iat, SignerEngine signer)
+            throws GeneralSecurityException {
+        long startNanos = System.nanoTime();
+        // 1. 헤더 세그먼트 (키별 상수)
+        writeHeader(signer);
+
+        // 2. 페이로드 JSON을 UTF-8로 기록 (필드 순서: exp, iss, sub, iat)
+        int payloadStart = position;
+        writeAscii("{\"exp\":");
+        writeLong(exp);
+        writeAscii(",\"iss\":");
+        writeJsonString(iss);
+        writeAscii(",\"sub\":");
+        writeJsonString(sub);
+        writeAscii(",\"iat\":");
+        writeLong(iat);
+        writeByte('}');
+
+        // 3~4. 인코딩 후 서명
+        return encodeAndSign(payloadStart, startNanos, signer);
+    }
+
+    /**
+     * 발급 프로필 템플릿으로 서명된 JWT 생성
+     * 고정 클레임은 미리 인코딩된 세그먼트를 복사하고 sub, exp, iat, nbf, 추가 클레임만 인코딩
+     * extraClaims는 이미 직렬화된 "name":value 목록(앞뒤 쉼표 없음, 없으면 null)
+     */
+    public String assemble(ClaimTemplate template, String sub, long exp, long iat, String extraClaims,
+            SignerEngine signer) throws GeneralSecurityException {
+        long startNanos = System.nanoTime();
+        writeHeader(signer);
+
+        // 고정 클레임 (3바이트 경계에 맞춰 미리 인코딩됨)
+        byte[] prefix = template.getEncodedPrefix();
+        ensureCapacity(prefix.length);
+        System.arraycopy(prefix, 0, buffer, position, prefix.length);
+        position += prefix.length;
+
+        int payloadStart = position;
+        writeAscii("\"sub\":");
+        writeJsonString(sub);
+        writeAscii(",\"exp\":");
+        writeLong(exp);
+        writeAscii(",\"iat\":");
+        writeLong(iat);
+        if (template.hasNotBefore()) {
+            writeAscii(",\"nbf\":");
+            writeLong(iat + template.getNotBeforeOffsetSeconds());
+        }
+        if (extraClaims != null && !extraClaims.isEmpty()) {
+            writeByte(',');
+            writeUtf8(extraClaims);
+        }
+        writeByte('}');
+
+        return encodeAndSign(payloadStart, startNanos, signer);
+    }
+
+    /**
+     * 페이로드 인코딩 후 서명 (페이로드 구성/서명 단계 소요 시간 기록)
+     */
+    private String encodeAndSign(int payloadStart, long startNanos, SignerEngine signer)
+            throws GeneralSecurityException {
+        encodePayload(payloadStart);
+        long encodedNanos = System.nanoTime();
+        MetricsService.PAYLOAD_BUILD.recordNanos(encodedNanos - startNanos);
+        String token = sign(signer);
+        MetricsService.SIGN.recordSince(encodedNanos);
+        return token;
+    }
+
+    private void writeHeader(SignerEngine signer) {
+        byte[] header = signer.getHeaderSegment();
+        position = 0;
+        ensureCapacity(header.length + 1);
+        System.arraycopy(header, 0, buffer, 0, header.length);
+        position = header.length;
+        buffer[position++] = '.';
+    }
+
+    /**
+     * payloadStart 이후의 원문을 인코딩 길이에 맞춰 뒤로 민 뒤 제자리 Base64 URL 인코딩
+     */
+    private void encodePayload(int payloadStart) {
+        int rawLength = position - payloadStart;
+        int encodedLength = Base64UrlCodec.encodedLength(rawLength);
+        ensureCapacity(encodedLength - rawLength);
+        System.arraycopy(buffer, payloadStart, buffer, payloadStart + encodedLength - rawLength, rawLength);
+        position = payloadStart + Base64UrlCodec.encodeInPlace(buffer, payloadStart, rawLength);
+    }
+
+    /**
+     * header.payload 바이트에 서명 후 JWS 서명 세그먼트 기록 (ECDSA는 r||s로 변환)
+     */
+    private String sign(SignerEngine signer) throws GeneralSecurityException {
+        SigningAlgorithm algorithm = signer.getAlgorithm();
+        byte[] signature = signer.sign(buffer, 0, position);
+        ensureCapacity(1 + algorithm.getSignatureBase64Length());
+        buffer[position++] = '.';
+        position += algorithm.encodeSignature(signature, buffer, position);
+
+        return new String(buffer, 0, position, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 이미 이스케이프된 JSON 조각을 UTF-8로 기록
+     */
+    private void writeUtf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeAscii(String s) {
+        int length = s.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii("-9223372036854775808");
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * Gson JsonWriter(htmlSafe=false)와 같은 규칙으로 이스케이프하며 UTF-8 기록
+     */
+    private void writeJsonString(String s) {
+        int length = s.length();
+        // 최악의 경우 문자당 6바이트(\\u00XX)
+        ensureCapacity(length * 6 + 2);
+        byte[] buf = buffer;
+        int p = position;
+        buf[p++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buf[p++] = (byte) c;
+                    continue;
+                }
+                buf[p++] = '\\';
+                switch (c) {
+                    case '"':
+                        buf[p++] = '"';
+                        break;
+                    case '\\':
+                        buf[p++] = '\\';
+                        break;
+                    case '\t':
+                        buf[p++] = 't';
+                        break;
+                    case '\b':
+                        buf[p++] = 'b';
+                        break;
+                    case '\n':
+                        buf[p++] = 'n';
+                        break;
+                    case '\r':
+                        buf[p++] = 'r';
+                        break;
+                    case '\f':
+                        buf[p++] = 'f';
+                        break;
+                    default:
+                        buf[p++] = 'u';
+                        buf[p++] = '0';
+                        buf[p++] = '0';
+                        buf[p++] = HEX[c >> 4];
+                        buf[p++] = HEX[c & 0xf];
+                }
+            } else if (c < 0x800) {
+                buf[p++] = (byte) (0xc0 | (c >> 6));
+                buf[p++] = (byte) (0x80 | (c & 0x3f));
+            } else if (c == '\u2028' || c == '\u2029') {
+                buf[p++] = '\\';
+                buf[p++] = 'u';
+                buf[p++] = '2';
+                buf[p++] = '0';
+                buf[p++] = '2';
+                buf[p++] = HEX[c & 0xf];
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buf[p++] = (byte) (0xf0 | (cp >> 18));
+                buf[p++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                buf[p++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                buf[p++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 String.getBytes(UTF-8)과 동일하게 '?'로 대체
+                buf[p++] = '?';
+            } else {
+                buf[p++] = (byte) (0xe0 | (c >> 12));
+                buf[p++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[p++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        buf[p++] = '"';
+        position = p;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            byte[] grown = new byte[Math.max(required, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, position);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * {"alg":"...","typ":"JWT"[,"kid":"..."]} 의 Base64 URL 인코딩 (ES256은 검증 라이브러리와 같은 바이트)
+     * kid는 RFC 7638 thumbprint(Base64 URL 문자)이므로 이스케이프가 필요 없음
+     */
+    static byte[] encodeHeader(SigningAlgorithm algorithm, String kid) {
+        return JwsHeader.encode(algorithm.getJwsName(), kid);
+    }
+}
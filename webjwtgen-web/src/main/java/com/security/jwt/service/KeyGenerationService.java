@@ -0,0 +1,125 @@
+package com.security.jwt.service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+/**
+ * 서명 키 생성 서비스
+ * keytool 프로세스 없이 JVM 안에서 서명 알고리즘(SigningAlgorithm)별 키쌍과 자체 서명 인증서를 생성
+ * EC 키는 JDK 기본 Provider, Ed25519 키는 JDK 11에서도 동작하도록 BouncyCastle로 생성
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.keys.algorithm / JWT_KEYS_ALGORITHM: 새 키의 알고리즘 ES256, ES384, ES512, EdDSA
+ *   (기본값: 없음, 초기 설정은 요청에서 고른 값 또는 ES256, 다음 키는 현재 키와 같은 알고리즘)
+ */
+public class KeyGenerationService {
+    private static final Logger logger = LogManager.getLogger(KeyGenerationService.class);
+
+    /** 기존 keytool -dname 값과 동일 (ES256) */
+    public static final String DEFAULT_SUBJECT = "CN=JWT-EC256, OU=JWT, O=Dev, L=Seoul, ST=Seoul, C=KR";
+    /** 기존 keytool -validity 값과 동일 */
+    public static final int DEFAULT_VALIDITY_DAYS = 3650;
+
+    private static final String CONFIGURED_ALGORITHM = ConfigService.get("jwt.keys.algorithm",
+            "JWT_KEYS_ALGORITHM", null);
+
+    private static final SecureRandom random = new SecureRandom();
+
+    /**
+     * 설정한 새 키 알고리즘 (설정이 없거나 올바르지 않으면 fallback)
+     */
+    public static SigningAlgorithm configuredAlgorithm(SigningAlgorithm fallback) {
+        if (CONFIGURED_ALGORITHM == null) {
+            return fallback;
+        }
+        SigningAlgorithm algorithm = SigningAlgorithm.fromName(CONFIGURED_ALGORITHM);
+        if (algorithm == null) {
+            logger.warn("지원하지 않는 키 알고리즘 설정 무시: {} (사용: {})", CONFIGURED_ALGORITHM,
+                    fallback != null ? fallback.getJwsName() : null);
+            return fallback;
+        }
+        return algorithm;
+    }
+
+    /**
+     * EC P-256 키쌍 생성
+     */
+    public static KeyPair generateEC256KeyPair() throws GeneralSecurityException {
+        return generateKeyPair(SigningAlgorithm.ES256);
+    }
+
+    /**
+     * 서명 알고리즘의 키쌍 생성
+     */
+    public static KeyPair generateKeyPair(SigningAlgorithm algorithm) throws GeneralSecurityException {
+        AlgorithmParameterSpec spec = algorithm.getKeyGenParameterSpec();
+        KeyPairGenerator generator;
+        if (spec != null) {
+            generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+            generator.initialize(spec, random);
+        } else {
+            // Ed25519는 파라미터가 없는 고정 곡선
+            generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm(), CryptoProviders.bouncyCastle());
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+        logger.info("{} 키쌍 생성 완료 (Provider: {})", algorithm.getJwsName(), generator.getProvider().getName());
+        return keyPair;
+    }
+
+    /**
+     * 알고리즘별 인증서 Subject (ES256은 기존 keytool -dname 값 유지)
+     */
+    public static String defaultSubject(SigningAlgorithm algorithm) {
+        return algorithm == SigningAlgorithm.ES256 ? DEFAULT_SUBJECT
+                : DEFAULT_SUBJECT.replace("CN=JWT-EC256", "CN=JWT-" + algorithm.getJwsName());
+    }
+
+    /**
+     * 키쌍에 대한 자체 서명 X.509 v3 인증서 생성 (키 알고리즘으로 서명)
+     */
+    public static X509Certificate createSelfSignedCertificate(KeyPair keyPair, String subject, int validityDays)
+            throws GeneralSecurityException {
+        X500Name name = new X500Name(subject);
+        long now = System.currentTimeMillis();
+        Date notBefore = new Date(now);
+        Date notAfter = new Date(now + TimeUnit.DAYS.toMillis(validityDays));
+        // 양수 64비트 일련번호
+        BigInteger serial = new BigInteger(64, random);
+
+        X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, serial, notBefore, notAfter,
+                name, keyPair.getPublic());
+        try {
+            Provider bc = CryptoProviders.bouncyCastle();
+            String signatureAlgorithm = SigningAlgorithm.of(keyPair.getPublic()).getSignatureAlgorithm();
+            ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm)
+                    .setProvider(bc)
+                    .build(keyPair.getPrivate());
+            X509Certificate certificate = new JcaX509CertificateConverter()
+                    .setProvider(bc)
+                    .getCertificate(builder.build(signer));
+            certificate.verify(keyPair.getPublic());
+            logger.info("자체 서명 인증서 생성 완료 (Subject: {}, 유효기간: {}일)", subject, validityDays);
+            return certificate;
+        } catch (OperatorCreationException e) {
+            throw new GeneralSecurityException("인증서 서명기 생성 실패: " + e.getMessage(), e);
+        }
+    }
+}
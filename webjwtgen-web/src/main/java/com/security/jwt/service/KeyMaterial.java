@@ -0,0 +1,253 @@
+package com.security.jwt.service;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 키 스냅샷 (불변)
+ * 현재 키(active), 다음 키(next), 이전 키(retired)와 각 키의 PEM, kid, 서명 엔진을 한 번에 로드하여 함께 교체
+ */
+public final class KeyMaterial {
+    private final String keystorePath;
+    private final SigningKey active;
+    private final SigningKey next;
+    private final List<SigningKey> retired;
+    private final Map<String, SigningKey> keysByKid;
+    private final JwkService.JwkSet jwkSet;
+    private final byte[] keystoreDigest;
+    private final long generation;
+    private final long loadedAt;
+
+    private KeyMaterial(String keystorePath, SigningKey active, SigningKey next, List<SigningKey> retired,
+            byte[] keystoreDigest, long generation) throws NoSuchAlgorithmException {
+        this.keystorePath = keystorePath;
+        this.active = active;
+        this.next = next;
+        this.retired = Collections.unmodifiableList(retired);
+        List<SigningKey> verificationKeys = getVerificationKeys();
+        Map<String, SigningKey> byKid = new HashMap<>();
+        for (SigningKey key : verificationKeys) {
+            byKid.putIfAbsent(key.getKid(), key);
+        }
+        this.keysByKid = byKid;
+        this.jwkSet = JwkService.buildJwkSet(verificationKeys);
+        this.keystoreDigest = keystoreDigest;
+        this.generation = generation;
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Keystore에서 키를 로드하여 스냅샷 생성
+     */
+    static KeyMaterial load(String keystorePath, String password, long generation) throws Exception {
+        // 파일을 한 번만 읽어 키 로드와 변경 감지용 해시에 함께 사용
+        return load(keystorePath, Files.readAllBytes(Paths.get(keystorePath)), password, generation);
+    }
+
+    /**
+     * 메모리에 읽어 둔 Keystore 데이터로 스냅샷 생성
+     */
+    static KeyMaterial load(String keystorePath, byte[] keystoreData, String password, long generation)
+            throws Exception {
+        KeyStore keystore = KeystoreService.loadKeystore(keystoreData, password);
+        return new KeyMaterial(keystorePath,
+                loadSigningKey(keystore, KeystoreService.KEYSTORE_ALIAS, SigningKey.State.ACTIVE, password),
+                keystore.isKeyEntry(KeystoreService.NEXT_KEY_ALIAS)
+                        ? loadSigningKey(keystore, KeystoreService.NEXT_KEY_ALIAS, SigningKey.State.NEXT, password)
+                        : null,
+                loadRetiredKeys(keystore), digest(keystoreData), generation);
+    }
+
+    /**
+     * 비밀번호 없이 Keystore의 인증서만으로 JWK Set 생성 (현재 키가 없으면 null)
+     * 스냅샷과 같은 순서(active, next, retired)이므로 나중에 스냅샷을 로드해도 ETag가 같음
+     */
+    static JwkService.JwkSet loadJwkSet(byte[] keystoreData) throws Exception {
+        KeyStore keystore = KeystoreService.loadCertificates(keystoreData);
+        Certificate activeCertificate = keystore.getCertificate(KeystoreService.KEYSTORE_ALIAS);
+        if (activeCertificate == null) {
+            return null;
+        }
+        List<SigningKey> keys = new ArrayList<>();
+        keys.add(SigningKey.publicOnly(KeystoreService.KEYSTORE_ALIAS, SigningKey.State.ACTIVE, activeCertificate));
+        Certificate nextCertificate = keystore.getCertificate(KeystoreService.NEXT_KEY_ALIAS);
+        if (nextCertificate != null) {
+            keys.add(SigningKey.publicOnly(KeystoreService.NEXT_KEY_ALIAS, SigningKey.State.NEXT, nextCertificate));
+        }
+        keys.addAll(loadRetiredKeys(keystore));
+        return JwkService.buildJwkSet(keys);
+    }
+
+    private static SigningKey loadSigningKey(KeyStore keystore, String alias, SigningKey.State state,
+            String password) throws Exception {
+        PrivateKey privateKey = KeystoreService.loadKeyPair(keystore, alias, password).getPrivate();
+        return SigningKey.signing(alias, state, privateKey, keystore.getCertificate(alias));
+    }
+
+    private static List<SigningKey> loadRetiredKeys(KeyStore keystore) throws Exception {
+        List<SigningKey> keys = new ArrayList<>();
+        for (String alias : KeystoreService.getRetiredAliases(keystore)) {
+            Certificate certificate = keystore.getCertificate(alias);
+            if (certificate != null) {
+                keys.add(SigningKey.retired(alias, certificate));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 다음 키를 추가한 스냅샷 (Keystore에 저장한 데이터 기준)
+     */
+    KeyMaterial withNext(SigningKey nextKey, byte[] keystoreData, long generation) throws NoSuchAlgorithmException {
+        return new KeyMaterial(keystorePath, active, nextKey, new ArrayList<>(retired), digest(keystoreData),
+                generation);
+    }
+
+    /**
+     * 다음 키를 현재 키로 승격한 스냅샷 (이미 준비된 서명 엔진을 그대로 사용)
+     */
+    KeyMaterial promoteNext(long rotatedAt, int retiredMax, byte[] keystoreData, long generation)
+            throws NoSuchAlgorithmException {
+        List<SigningKey> keys = new ArrayList<>();
+        keys.add(active.retire(KeystoreService.RETIRED_KEY_ALIAS_PREFIX + rotatedAt));
+        keys.addAll(retired);
+        while (keys.size() > retiredMax) {
+            keys.remove(keys.size() - 1);
+        }
+        return new KeyMaterial(keystorePath, next.promote(), null, keys, digest(keystoreData), generation);
+    }
+
+    /**
+     * 모든 키의 서명/검증 엔진을 현재 선택된 Provider로 다시 만든 스냅샷
+     */
+    KeyMaterial withNewEngines(long generation) throws GeneralSecurityException {
+        List<SigningKey> keys = new ArrayList<>();
+        for (SigningKey key : retired) {
+            keys.add(key.withNewEngines());
+        }
+        return new KeyMaterial(keystorePath, active.withNewEngines(), next != null ? next.withNewEngines() : null,
+                keys, keystoreDigest, generation);
+    }
+
+    /**
+     * 서명 키가 인증서와 맞는 쌍인지 확인
+     */
+    void verifyKeyPair() throws GeneralSecurityException {
+        active.verifyKeyPair();
+        if (next != null) {
+            next.verifyKeyPair();
+        }
+    }
+
+    /**
+     * Keystore 파일 내용의 SHA-256
+     */
+    static byte[] digest(byte[] keystoreData) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(keystoreData);
+    }
+
+    /**
+     * 로드한 Keystore 파일과 내용이 같은지 확인
+     */
+    public boolean isSameKeystore(byte[] keystoreData) throws NoSuchAlgorithmException {
+        return MessageDigest.isEqual(keystoreDigest, digest(keystoreData));
+    }
+
+    public String getKeystorePath() {
+        return keystorePath;
+    }
+
+    /**
+     * 현재 서명 키
+     */
+    public SigningKey getActiveKey() {
+        return active;
+    }
+
+    /**
+     * 미리 생성된 다음 키 (없으면 null)
+     */
+    public SigningKey getNextKey() {
+        return next;
+    }
+
+    /**
+     * 교체된 이전 키 (최근 교체 순)
+     */
+    public List<SigningKey> getRetiredKeys() {
+        return retired;
+    }
+
+    /**
+     * 검증에 사용할 수 있는 모든 키 (active, next, retired 순)
+     */
+    public List<SigningKey> getVerificationKeys() {
+        List<SigningKey> keys = new ArrayList<>(retired.size() + 2);
+        keys.add(active);
+        if (next != null) {
+            keys.add(next);
+        }
+        keys.addAll(retired);
+        return keys;
+    }
+
+    /**
+     * kid로 검증 키 조회 (없으면 null)
+     */
+    public SigningKey findVerificationKey(String kid) {
+        return keysByKid.get(kid);
+    }
+
+    /**
+     * 검증 키 전체의 JWK Set (스냅샷 생성 시 한 번 직렬화)
+     */
+    public JwkService.JwkSet getJwkSet() {
+        return jwkSet;
+    }
+
+    public PrivateKey getPrivateKey() {
+        return active.getPrivateKey();
+    }
+
+    public PublicKey getPublicKey() {
+        return active.getPublicKey();
+    }
+
+    public String getPublicKeyPem() {
+        return active.getPublicKeyPem();
+    }
+
+    /**
+     * 현재 키의 RFC 7638 thumbprint
+     */
+    public String getKid() {
+        return active.getKid();
+    }
+
+    public SignerEngine getSigner() {
+        return active.getSigner();
+    }
+
+    /**
+     * 발행 순번 (스냅샷이 바뀔 때마다 증가)
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,279 @@
+package com.security.jwt.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 현재 서명 키 스냅샷 저장소 (애플리케이션 범위)
+ * 읽기는 잠금 없이 AtomicReference에서 가져오고, 로드는 한 스레드만 수행 (single-flight)
+ *
+ * - 스냅샷이 없으면: 첫 스레드가 로드하고 나머지는 완료를 기다린 뒤 같은 스냅샷 사용
+ * - 재발행(publish) 중에는: 기존 스냅샷을 계속 사용하다가 새 스냅샷으로 원자적 교체
+ * - 파일 변경 감지 시(reload): 잠금 해제에 사용한 비밀번호로 다시 읽어 검증 후 교체, 실패하면 폐기
+ * - 키 교체(rotate): 미리 생성된 다음 키를 Keystore에 승격 저장한 뒤 이미 준비된 서명 엔진으로 즉시 교체
+ * - 공개 JWK Set(jwkSet): 스냅샷이 없어도(잠금 해제 전) 디스크 Keystore의 인증서로 제공
+ */
+public class KeyMaterialStore {
+    private static final Logger logger = LogManager.getLogger(KeyMaterialStore.class);
+
+    private static final AtomicReference<KeyMaterial> current = new AtomicReference<>();
+    private static final AtomicLong generations = new AtomicLong();
+    private static final Object loadLock = new Object();
+    // 스냅샷이 없을 때 디스크 Keystore의 인증서로 만든 JWK Set (파일 내용이 같으면 재사용)
+    private static final AtomicReference<PublicJwkSet> publicJwkSet = new AtomicReference<>();
+    // 다른 복제본이 공유 볼륨의 Keystore를 바꿨을 때 백그라운드에서 다시 읽기 위한 비밀번호 (loadLock 안에서만 접근)
+    private static String unlockedPassword;
+
+    /**
+     * 파일 변경에 따른 재로드 결과
+     */
+    public enum ReloadResult {
+        /** 로드된 스냅샷이 없어 재로드하지 않음 (다음 요청에서 로드) */
+        NOT_LOADED,
+        /** 파일 내용이 현재 스냅샷과 같음 */
+        UNCHANGED,
+        /** 새 스냅샷으로 교체 */
+        RELOADED,
+        /** Keystore 파일이 없어 스냅샷 폐기 */
+        REMOVED,
+        /** 새 Keystore를 열 수 없거나 검증 실패하여 스냅샷 폐기 */
+        FAILED
+    }
+
+    /**
+     * 현재 스냅샷 (없으면 null)
+     */
+    public static KeyMaterial current() {
+        return current.get();
+    }
+
+    /**
+     * 공개 JWK Set
+     * 스냅샷이 있으면 스냅샷의 JWK Set을, 없으면 비밀번호 없이 디스크 Keystore의 인증서로 만든 JWK Set을 반환
+     * (Keystore가 없거나 아직 서명 키가 없으면 null)
+     */
+    public static JwkService.JwkSet jwkSet(String keystorePath) throws Exception {
+        KeyMaterial keys = current.get();
+        if (keys != null) {
+            return keys.getJwkSet();
+        }
+        byte[] keystoreData;
+        try {
+            keystoreData = Files.readAllBytes(Paths.get(keystorePath));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        byte[] digest = KeyMaterial.digest(keystoreData);
+        PublicJwkSet cached = publicJwkSet.get();
+        if (cached != null && MessageDigest.isEqual(cached.digest, digest)) {
+            return cached.jwkSet;
+        }
+        JwkService.JwkSet jwkSet = KeyMaterial.loadJwkSet(keystoreData);
+        publicJwkSet.set(new PublicJwkSet(digest, jwkSet));
+        return jwkSet;
+    }
+
+    /**
+     * 현재 스냅샷을 반환하고, 없으면 주어진 비밀번호로 로드 (동시에 한 스레드만 로드)
+     */
+    public static KeyMaterial getOrLoad(String keystorePath, String password) throws Exception {
+        KeyMaterial keys = current.get();
+        if (keys != null) {
+            return keys;
+        }
+        synchronized (loadLock) {
+            keys = current.get();
+            if (keys != null) {
+                // 기다리는 동안 다른 스레드가 로드 완료
+                return keys;
+            }
+            logger.info("키 스냅샷 없음, 로드 시작");
+            keys = KeyMaterial.load(keystorePath, password, generations.incrementAndGet());
+            install(keys, password);
+            return keys;
+        }
+    }
+
+    /**
+     * Keystore 변경 후 새 스냅샷 발행 (로드하는 동안 기존 스냅샷은 계속 사용됨)
+     */
+    public static KeyMaterial publish(String keystorePath, String password) throws Exception {
+        synchronized (loadLock) {
+            KeyMaterial keys = KeyMaterial.load(keystorePath, password, generations.incrementAndGet());
+            install(keys, password);
+            return keys;
+        }
+    }
+
+    /**
+     * Keystore 파일이 바뀌었으면 다시 읽어 검증한 뒤 교체 (KeystoreWatcher에서 호출)
+     * 로드/검증은 기존 스냅샷을 그대로 둔 채 수행하므로 진행 중인 서명은 막히지 않음
+     */
+    public static ReloadResult reload() {
+        synchronized (loadLock) {
+            KeyMaterial keys = current.get();
+            if (keys == null || unlockedPassword == null) {
+                return ReloadResult.NOT_LOADED;
+            }
+            Path path = Paths.get(keys.getKeystorePath());
+            byte[] keystoreData;
+            try {
+                keystoreData = Files.readAllBytes(path);
+            } catch (NoSuchFileException e) {
+                logger.warn("Keystore 파일이 삭제됨: {}", path);
+                invalidate();
+                return ReloadResult.REMOVED;
+            } catch (IOException e) {
+                logger.error("Keystore 파일 읽기 실패: {}", e.getMessage());
+                invalidate();
+                return ReloadResult.FAILED;
+            }
+
+            try {
+                if (keys.isSameKeystore(keystoreData)) {
+                    return ReloadResult.UNCHANGED;
+                }
+                KeyMaterial reloaded = KeyMaterial.load(keys.getKeystorePath(), keystoreData, unlockedPassword,
+                        generations.incrementAndGet());
+                reloaded.verifyKeyPair();
+                install(reloaded, unlockedPassword);
+                return ReloadResult.RELOADED;
+            } catch (Exception e) {
+                // 비밀번호가 바뀌었거나 파일이 쓰는 중이면 기존 키로 계속 서명하지 않도록 폐기
+                logger.warn("변경된 Keystore 재로드 실패, 스냅샷 폐기: {}", e.getMessage());
+                invalidate();
+                return ReloadResult.FAILED;
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 폐기 (다음 요청에서 다시 로드)
+     */
+    public static void invalidate() {
+        synchronized (loadLock) {
+            if (current.getAndSet(null) != null) {
+                logger.info("키 스냅샷 폐기");
+            }
+            unlockedPassword = null;
+            KeystoreCredentialVerifier.invalidate();
+            IssuanceCache.purge();
+            PreSigningPool.purge();
+        }
+    }
+
+    /**
+     * 서명/검증 Provider가 바뀐 뒤 현재 스냅샷의 엔진을 다시 만들어 교체 (ProviderCalibration에서 호출)
+     * Keystore는 다시 읽지 않으며, 로드된 스냅샷이 없으면 아무것도 하지 않음
+     */
+    public static void rebuildEngines() throws Exception {
+        synchronized (loadLock) {
+            KeyMaterial keys = current.get();
+            if (keys == null) {
+                return;
+            }
+            swap(keys.withNewEngines(generations.incrementAndGet()));
+        }
+    }
+
+    /**
+     * 미리 생성한 다음 키를 Keystore에 추가하고 스냅샷에 반영 (KeyRotationService에서 호출)
+     * 이미 다음 키가 있거나, 디스크의 Keystore가 스냅샷과 다르면(다른 복제본이 변경) 추가하지 않음
+     */
+    public static boolean addNextKey(PrivateKey privateKey, Certificate certificate) throws Exception {
+        synchronized (loadLock) {
+            KeyMaterial keys = current.get();
+            if (keys == null || keys.getNextKey() != null || unlockedPassword == null) {
+                return false;
+            }
+            KeyStore keystore = loadUnchangedKeystore(keys);
+            if (keystore == null) {
+                return false;
+            }
+            KeystoreService.setNextKeyEntry(keystore, privateKey, new Certificate[] { certificate },
+                    unlockedPassword);
+            SigningKey next = SigningKey.signing(KeystoreService.NEXT_KEY_ALIAS, SigningKey.State.NEXT, privateKey,
+                    certificate);
+            next.verifyKeyPair();
+            byte[] keystoreData = KeystoreService.writeKeystore(keys.getKeystorePath(), keystore, unlockedPassword);
+            swap(keys.withNext(next, keystoreData, generations.incrementAndGet()));
+            return true;
+        }
+    }
+
+    /**
+     * 다음 키를 현재 키로 승격 (키 생성 없이 Keystore 저장 + 스냅샷 교체만 수행)
+     */
+    public static KeyMaterial rotate(int retiredMax) throws Exception {
+        synchronized (loadLock) {
+            KeyMaterial keys = current.get();
+            if (keys == null || unlockedPassword == null) {
+                throw new IllegalStateException("로드된 서명 키가 없습니다");
+            }
+            if (keys.getNextKey() == null) {
+                throw new IllegalStateException("다음 서명 키가 아직 준비되지 않았습니다. 잠시 후 다시 시도해주세요");
+            }
+            KeyStore keystore = loadUnchangedKeystore(keys);
+            if (keystore == null) {
+                throw new IllegalStateException("Keystore가 다른 곳에서 변경되었습니다. 잠시 후 다시 시도해주세요");
+            }
+            long rotatedAt = System.currentTimeMillis();
+            KeystoreService.promoteNextKeyEntry(keystore, unlockedPassword, rotatedAt, retiredMax);
+            byte[] keystoreData = KeystoreService.writeKeystore(keys.getKeystorePath(), keystore, unlockedPassword);
+            KeyMaterial rotated = keys.promoteNext(rotatedAt, retiredMax, keystoreData, generations.incrementAndGet());
+            swap(rotated);
+            logger.info("서명 키 교체 (kid: {} -> {})", keys.getKid(), rotated.getKid());
+            return rotated;
+        }
+    }
+
+    /**
+     * 디스크의 Keystore가 스냅샷과 같을 때만 로드 (다르면 null, KeystoreWatcher가 재로드함)
+     */
+    private static KeyStore loadUnchangedKeystore(KeyMaterial keys) throws Exception {
+        byte[] keystoreData = Files.readAllBytes(Paths.get(keys.getKeystorePath()));
+        if (!keys.isSameKeystore(keystoreData)) {
+            logger.warn("디스크의 Keystore가 현재 스냅샷과 다름, 변경 보류");
+            return null;
+        }
+        return KeystoreService.loadKeystore(keystoreData, unlockedPassword);
+    }
+
+    private static void install(KeyMaterial keys, String password) throws Exception {
+        KeystoreCredentialVerifier.unlock(keys.getKeystorePath(), password);
+        unlockedPassword = password;
+        swap(keys);
+    }
+
+    private static void swap(KeyMaterial keys) {
+        KeyMaterial previous = current.getAndSet(keys);
+        IssuanceCache.purge();
+        PreSigningPool.purge();
+        logger.info("키 스냅샷 발행 (generation: {}, kid: {}, next: {}, retired: {}, 이전 generation: {})",
+                keys.getGeneration(), keys.getKid(),
+                keys.getNextKey() != null ? keys.getNextKey().getKid() : "없음", keys.getRetiredKeys().size(),
+                previous != null ? previous.getGeneration() : "없음");
+    }
+
+    private static final class PublicJwkSet {
+        private final byte[] digest;
+        private final JwkService.JwkSet jwkSet;
+
+        PublicJwkSet(byte[] digest, JwkService.JwkSet jwkSet) {
+            this.digest = digest;
+            this.jwkSet = jwkSet;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.security.jwt.service;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 서명 키 교체 서비스
+ * 백그라운드 스레드에서 다음 키(next)를 미리 생성해 두므로, 교체는 키 생성 없이 포인터 교체로 끝남
+ * 키를 로드하는 것만으로는 Keystore에 쓰지 않음 (읽기 전용/공유 볼륨, 여러 복제본이 동시에 로드해도 안전)
+ * 다음 키는 관리 작업(초기 설정, 강제 초기화, 키 교체) 뒤에만 만들고, 주기 확인에서 만들려면 jwt.keys.pregenerate 설정
+ * 다음 키 없이 교체를 요청하면 그 자리에서 만든 뒤 교체
+ * 다음 키는 현재 키와 같은 알고리즘으로 생성하며, jwt.keys.algorithm을 설정하면 그 알고리즘으로 생성
+ * (교체 한 번으로 알고리즘 전환, 이전 알고리즘 키는 retired로 남아 이미 발급된 토큰 검증)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.keys.checkIntervalSeconds / JWT_KEYS_CHECK_INTERVAL_SECONDS: 다음 키/자동 교체 확인 간격 (기본값: 60)
+ * - jwt.keys.rotationDays / JWT_KEYS_ROTATION_DAYS: 현재 키를 자동 교체할 사용 일수 (기본값: 0, 자동 교체 안 함)
+ * - jwt.keys.retiredMax / JWT_KEYS_RETIRED_MAX: 검증용으로 보관할 이전 키 수 (기본값: 2)
+ * - jwt.keys.pregenerate / JWT_KEYS_PREGENERATE: 주기 확인에서 다음 키가 없으면 생성하여 Keystore에 추가 (기본값: false)
+ *   Keystore를 쓰는 복제본 하나에서만 켤 것
+ */
+public class KeyRotationService {
+    private static final Logger logger = LogManager.getLogger(KeyRotationService.class);
+
+    private static final int CHECK_INTERVAL_SECONDS = ConfigService.getPositiveInt("jwt.keys.checkIntervalSeconds",
+            "JWT_KEYS_CHECK_INTERVAL_SECONDS", 60);
+    private static final int ROTATION_DAYS = ConfigService.getNonNegativeInt("jwt.keys.rotationDays",
+            "JWT_KEYS_ROTATION_DAYS", 0);
+    private static final int RETIRED_MAX = ConfigService.getNonNegativeInt("jwt.keys.retiredMax",
+            "JWT_KEYS_RETIRED_MAX", 2);
+    private static final boolean PREGENERATE = ConfigService.getBoolean("jwt.keys.pregenerate",
+            "JWT_KEYS_PREGENERATE", false);
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "jwt-key-rotation");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private static final AtomicBoolean started = new AtomicBoolean();
+    private static final AtomicBoolean nextKeyRequested = new AtomicBoolean();
+
+    /**
+     * 주기 확인 시작 (웹앱 시작 시)
+     */
+    public static void start() {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(KeyRotationService::check, CHECK_INTERVAL_SECONDS,
+                    CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            logger.info("키 교체 확인 시작 (간격: {}초, 자동 교체: {}일, retired 보관: {}개)",
+                    CHECK_INTERVAL_SECONDS, ROTATION_DAYS, RETIRED_MAX);
+        }
+    }
+
+    /**
+     * 다음 키 생성 요청 (중복 요청은 한 번만 실행)
+     */
+    public static void requestNextKey() {
+        if (!nextKeyRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                nextKeyRequested.set(false);
+                ensureNextKey();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            nextKeyRequested.set(false);
+        }
+    }
+
+    /**
+     * 즉시 키 교체 (다음 키가 없으면 먼저 생성, 다음 키 승격 후 새 다음 키 생성 요청)
+     */
+    public static KeyMaterial rotateNow() throws Exception {
+        KeyMaterial keys = KeyMaterialStore.current();
+        if (keys != null && keys.getNextKey() == null) {
+            addNextKey(keys);
+        }
+        KeyMaterial rotated = KeyMaterialStore.rotate(RETIRED_MAX);
+        requestNextKey();
+        return rotated;
+    }
+
+    /**
+     * 스레드 종료 (웹앱 종료 시)
+     */
+    public static void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 주기 확인: 다음 키 준비(jwt.keys.pregenerate) 및 자동 교체(jwt.keys.rotationDays)
+     */
+    private static void check() {
+        try {
+            if (PREGENERATE) {
+                ensureNextKey();
+            }
+            KeyMaterial keys = KeyMaterialStore.current();
+            if (ROTATION_DAYS > 0 && keys != null) {
+                long age = System.currentTimeMillis() - keys.getActiveKey().getCreatedAt();
+                if (age >= TimeUnit.DAYS.toMillis(ROTATION_DAYS)) {
+                    logger.warn("현재 키 사용 기간 {}일 초과, 자동 교체", ROTATION_DAYS);
+                    rotateNow();
+                }
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 이후 주기 실행이 중단되므로 기록만 함
+            logger.error("키 교체 확인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 스냅샷에 다음 키가 없으면 생성하여 Keystore에 추가
+     */
+    private static void ensureNextKey() {
+        KeyMaterial keys = KeyMaterialStore.current();
+        if (keys == null || keys.getNextKey() != null) {
+            return;
+        }
+        try {
+            addNextKey(keys);
+        } catch (Exception e) {
+            logger.error("다음 서명 키 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스냅샷의 현재 키 알고리즘(또는 jwt.keys.algorithm)으로 다음 키를 생성하여 Keystore에 추가
+     */
+    private static void addNextKey(KeyMaterial keys) throws Exception {
+        long started = System.nanoTime();
+        SigningAlgorithm algorithm = KeyGenerationService.configuredAlgorithm(keys.getActiveKey().getAlgorithm());
+        KeyPair keyPair = KeyGenerationService.generateKeyPair(algorithm);
+        X509Certificate certificate = KeyGenerationService.createSelfSignedCertificate(keyPair,
+                KeyGenerationService.defaultSubject(algorithm), KeyGenerationService.DEFAULT_VALIDITY_DAYS);
+        if (KeyMaterialStore.addNextKey(keyPair.getPrivate(), certificate)) {
+            logger.info("다음 서명 키 준비 완료 ({}, kid: {}, {}ms)", algorithm.getJwsName(),
+                    JwkService.thumbprint(keyPair.getPublic()),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+}
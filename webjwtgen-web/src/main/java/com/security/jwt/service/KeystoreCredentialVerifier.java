@@ -0,0 +1,112 @@
+package com.security.jwt.service;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keystore 비밀번호 메모리 검증기
+ * 잠금 해제(키 로드) 시 한 번만 Keystore 파일로 비밀번호를 확인하고,
+ * 이후에는 솔트 + PBKDF2 해시만 메모리에 보관하여 요청마다 상수 시간 비교 (파일 I/O 없음)
+ *
+ * 비밀번호 변경, 복원, 강제 초기화 시 invalidate()로 폐기
+ */
+public class KeystoreCredentialVerifier {
+    private static final Logger logger = LogManager.getLogger(KeystoreCredentialVerifier.class);
+    private static final String KDF_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_BITS = 256;
+    private static final int ITERATIONS = ConfigService.getPositiveInt("jwt.password.iterations",
+            "JWT_PASSWORD_ITERATIONS", 4096);
+
+    private static final SecureRandom random = new SecureRandom();
+    private static final AtomicReference<Credential> current = new AtomicReference<>();
+
+    /**
+     * Keystore 파일로 확인된 비밀번호로 검증기 등록
+     */
+    public static void unlock(String keystorePath, String password) throws GeneralSecurityException {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        current.set(new Credential(keystorePath, salt, derive(password, salt)));
+        logger.info("Keystore 비밀번호 검증기 등록");
+    }
+
+    /**
+     * 비밀번호 검증
+     * 등록된 검증기가 없으면 Keystore 파일로 한 번 확인한 뒤 등록
+     */
+    public static boolean verify(String keystorePath, String password) {
+        if (password == null || password.isEmpty()) {
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return verifyPassword(keystorePath, password);
+        } finally {
+            MetricsService.PASSWORD_VERIFY.recordSince(startNanos);
+        }
+    }
+
+    private static boolean verifyPassword(String keystorePath, String password) {
+        Credential credential = current.get();
+        try {
+            if (credential != null && credential.keystorePath.equals(keystorePath)) {
+                return MessageDigest.isEqual(credential.hash, derive(password, credential.salt));
+            }
+
+            logger.debug("등록된 검증기 없음, Keystore 파일로 비밀번호 확인");
+            if (!KeystoreService.verifyKeystorePassword(keystorePath, password)) {
+                return false;
+            }
+            // 확인하는 동안 무효화되지 않았을 때만 등록
+            byte[] salt = new byte[SALT_LENGTH];
+            random.nextBytes(salt);
+            current.compareAndSet(credential, new Credential(keystorePath, salt, derive(password, salt)));
+            return true;
+        } catch (GeneralSecurityException e) {
+            logger.error("비밀번호 해시 계산 실패: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 검증기 폐기 (비밀번호 변경, 복원, 강제 초기화 시)
+     */
+    public static void invalidate() {
+        if (current.getAndSet(null) != null) {
+            logger.info("Keystore 비밀번호 검증기 폐기");
+        }
+    }
+
+    private static byte[] derive(String password, byte[] salt) throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, ITERATIONS, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(KDF_ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * 등록된 비밀번호 검증 정보 (불변)
+     */
+    private static class Credential {
+        private final String keystorePath;
+        private final byte[] salt;
+        private final byte[] hash;
+
+        Credential(String keystorePath, byte[] salt, byte[] hash) {
+            this.keystorePath = keystorePath;
+            this.salt = salt;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.security.jwt.service;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keystore 관리 서비스
+ *
+ * 키 별칭 규칙:
+ * - ec256-jwt: 현재 서명 키 (active)
+ * - ec256-jwt.next: 미리 생성해 둔 다음 서명 키 (next, 검증자가 미리 캐시할 수 있도록 공개)
+ * - ec256-jwt.retired.{교체 시각 ms}: 교체된 이전 키의 인증서 (retired, 검증 전용, 개인키 없음)
+ *
+ * 별칭은 기존 Keystore와의 호환을 위해 알고리즘과 관계없이 유지하며,
+ * 각 키의 서명 알고리즘(ES256, ES384, ES512, EdDSA)은 저장된 키 자체로 결정 (SigningAlgorithm.of)
+ */
+public class KeystoreService {
+    private static final Logger logger = LogManager.getLogger(KeystoreService.class);
+    public static final String KEYSTORE_ALIAS = "ec256-jwt";
+    public static final String NEXT_KEY_ALIAS = KEYSTORE_ALIAS + ".next";
+    public static final String RETIRED_KEY_ALIAS_PREFIX = KEYSTORE_ALIAS + ".retired.";
+
+    /**
+     * Keystore 생성
+     */
+    public static void createKeystore(String keystorePath, String password) throws Exception {
+        logger.debug("=== createKeystore START ===");
+        logger.debug("Keystore 경로: {}", keystorePath);
+        try {
+            KeyStore keystore = KeyStore.getInstance("JKS");
+            keystore.load(null, password.toCharArray());
+            logger.debug("새 JKS Keystore 인스턴스 생성");
+
+            // 기존 파일을 지우지 않고 원자적으로 교체 (다른 복제본이 파일 없음 상태를 보지 않도록)
+            writeKeystore(keystorePath, keystore, password);
+            logger.debug("=== createKeystore END ===");
+        } catch (Exception e) {
+            logger.error("Keystore 생성 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Keystore 로드
+     */
+    public static KeyStore loadKeystore(String keystorePath, String password) throws Exception {
+        logger.debug("=== loadKeystore START ===");
+        logger.debug("Keystore 경로: {}", keystorePath);
+        try {
+            KeyStore keystore = KeyStore.getInstance("JKS");
+            try (FileInputStream fis = new FileInputStream(keystorePath)) {
+                keystore.load(fis, password.toCharArray());
+            }
+            logger.debug("Keystore 로드 완료");
+            logger.debug("=== loadKeystore END ===");
+            return keystore;
+        } catch (Exception e) {
+            logger.error("Keystore 로드 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 개인키 로드
+     */
+    public static PrivateKey getPrivateKey(String keystorePath, String keystorePassword, String keyPassword)
+            throws Exception {
+        logger.debug("=== getPrivateKey START ===");
+        logger.debug("Keystore 경로: {}, KeyAlias: {}", keystorePath, KEYSTORE_ALIAS);
+        try {
+            KeyStore keystore = loadKeystore(keystorePath, keystorePassword);
+            PrivateKey privateKey = (PrivateKey) keystore.getKey(KEYSTORE_ALIAS, keyPassword.toCharArray());
+            if (privateKey == null) {
+                logger.error("Keystore에서 개인키를 찾을 수 없음: {}", KEYSTORE_ALIAS);
+                throw new Exception("Keystore에서 개인키를 찾을 수 없습니다: " + KEYSTORE_ALIAS);
+            }
+            logger.debug("개인키 로드 완료 (KeyType: {})", privateKey.getAlgorithm());
+            logger.debug("=== getPrivateKey END ===");
+            return privateKey;
+        } catch (Exception e) {
+            logger.error("개인키 로드 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 공개키 로드
+     */
+    public static PublicKey getPublicKey(String keystorePath, String keystorePassword) throws Exception {
+        logger.debug("=== getPublicKey START ===");
+        logger.debug("Keystore 경로: {}, CertAlias: {}", keystorePath, KEYSTORE_ALIAS);
+        try {
+            KeyStore keystore = loadKeystore(keystorePath, keystorePassword);
+            Certificate cert = keystore.getCertificate(KEYSTORE_ALIAS);
+            if (cert == null) {
+                logger.error("Keystore에서 인증서를 찾을 수 없음: {}", KEYSTORE_ALIAS);
+                throw new Exception("Keystore에서 인증서를 찾을 수 없습니다: " + KEYSTORE_ALIAS);
+            }
+            PublicKey publicKey = cert.getPublicKey();
+            logger.debug("공개키 로드 완료 (KeyType: {})", publicKey.getAlgorithm());
+            logger.debug("=== getPublicKey END ===");
+            return publicKey;
+        } catch (Exception e) {
+            logger.error("공개키 로드 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 개인키 + 공개키 로드 (Keystore 파일을 한 번만 읽음)
+     */
+    public static KeyPair loadKeyPair(String keystorePath, String keystorePassword, String keyPassword)
+            throws Exception {
+        return loadKeyPair(Files.readAllBytes(Paths.get(keystorePath)), keystorePassword, keyPassword);
+    }
+
+    /**
+     * 메모리에 읽어 둔 Keystore 데이터에서 개인키 + 공개키 로드
+     */
+    public static KeyPair loadKeyPair(byte[] keystoreData, String keystorePassword, String keyPassword)
+            throws Exception {
+        return loadKeyPair(loadKeystore(keystoreData, keystorePassword), KEYSTORE_ALIAS, keyPassword);
+    }
+
+    /**
+     * 메모리에 읽어 둔 Keystore 데이터 로드
+     */
+    public static KeyStore loadKeystore(byte[] keystoreData, String password) throws Exception {
+        KeyStore keystore = KeyStore.getInstance("JKS");
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(keystoreData)) {
+            keystore.load(bais, password.toCharArray());
+        }
+        return keystore;
+    }
+
+    /**
+     * 비밀번호 없이 Keystore 로드 (무결성 확인을 생략하므로 인증서만 사용하고 개인키는 읽을 수 없음)
+     */
+    public static KeyStore loadCertificates(byte[] keystoreData) throws Exception {
+        KeyStore keystore = KeyStore.getInstance("JKS");
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(keystoreData)) {
+            keystore.load(bais, null);
+        }
+        return keystore;
+    }
+
+    /**
+     * 로드된 Keystore에서 지정한 별칭의 개인키 + 공개키 로드
+     */
+    public static KeyPair loadKeyPair(KeyStore keystore, String alias, String keyPassword) throws Exception {
+        logger.debug("=== loadKeyPair START ===");
+        logger.debug("KeyAlias: {}", alias);
+        try {
+            PrivateKey privateKey = (PrivateKey) keystore.getKey(alias, keyPassword.toCharArray());
+            if (privateKey == null) {
+                logger.error("Keystore에서 개인키를 찾을 수 없음: {}", alias);
+                throw new Exception("Keystore에서 개인키를 찾을 수 없습니다: " + alias);
+            }
+            Certificate cert = keystore.getCertificate(alias);
+            if (cert == null) {
+                logger.error("Keystore에서 인증서를 찾을 수 없음: {}", alias);
+                throw new Exception("Keystore에서 인증서를 찾을 수 없습니다: " + alias);
+            }
+            logger.debug("키쌍 로드 완료 (KeyType: {})", privateKey.getAlgorithm());
+            logger.debug("=== loadKeyPair END ===");
+            return new KeyPair(cert.getPublicKey(), privateKey);
+        } catch (Exception e) {
+            logger.error("키쌍 로드 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 교체된 이전 키 별칭 목록 (최근 교체 순)
+     */
+    public static List<String> getRetiredAliases(KeyStore keystore) throws KeyStoreException {
+        List<String> aliases = new ArrayList<>();
+        for (String alias : Collections.list(keystore.aliases())) {
+            if (alias.startsWith(RETIRED_KEY_ALIAS_PREFIX)) {
+                aliases.add(alias);
+            }
+        }
+        aliases.sort(Comparator.comparingLong(KeystoreService::retiredAt).reversed());
+        return aliases;
+    }
+
+    /**
+     * 교체 시각 (retired 별칭의 접미사, 형식이 다르면 0)
+     */
+    public static long retiredAt(String alias) {
+        try {
+            return Long.parseLong(alias.substring(RETIRED_KEY_ALIAS_PREFIX.length()));
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 다음 서명 키 등록 (메모리의 Keystore만 변경, 저장은 writeKeystore)
+     */
+    public static void setNextKeyEntry(KeyStore keystore, PrivateKey privateKey, Certificate[] chain,
+            String keyPassword) throws KeyStoreException {
+        keystore.setKeyEntry(NEXT_KEY_ALIAS, privateKey, keyPassword.toCharArray(), chain);
+        logger.info("다음 서명 키 등록 완료");
+    }
+
+    /**
+     * 다음 키를 현재 키로 승격하고, 현재 키는 인증서만 retired로 보관
+     * 오래된 retired 키는 retiredMax개만 남기고 삭제 (메모리의 Keystore만 변경, 저장은 writeKeystore)
+     */
+    public static void promoteNextKeyEntry(KeyStore keystore, String keyPassword, long rotatedAt, int retiredMax)
+            throws Exception {
+        PrivateKey nextKey = (PrivateKey) keystore.getKey(NEXT_KEY_ALIAS, keyPassword.toCharArray());
+        Certificate[] nextChain = keystore.getCertificateChain(NEXT_KEY_ALIAS);
+        if (nextKey == null || nextChain == null) {
+            throw new Exception("Keystore에 다음 서명 키가 없습니다: " + NEXT_KEY_ALIAS);
+        }
+
+        Certificate activeCert = keystore.getCertificate(KEYSTORE_ALIAS);
+        if (activeCert != null) {
+            keystore.setCertificateEntry(RETIRED_KEY_ALIAS_PREFIX + rotatedAt, activeCert);
+        }
+        keystore.setKeyEntry(KEYSTORE_ALIAS, nextKey, keyPassword.toCharArray(), nextChain);
+        keystore.deleteEntry(NEXT_KEY_ALIAS);
+
+        List<String> retired = getRetiredAliases(keystore);
+        for (int i = retiredMax; i < retired.size(); i++) {
+            keystore.deleteEntry(retired.get(i));
+            logger.info("오래된 retired 키 삭제: {}", retired.get(i));
+        }
+        logger.info("다음 서명 키 승격 완료 (retired: {})", Math.min(retired.size(), retiredMax));
+    }
+
+    /**
+     * Keystore를 임시 파일에 쓴 뒤 원자적으로 교체하고, 저장한 바이트 반환
+     * (공유 볼륨의 다른 복제본이 쓰는 중인 파일을 읽지 않도록)
+     */
+    public static byte[] writeKeystore(String keystorePath, KeyStore keystore, String password) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        keystore.store(baos, password.toCharArray());
+        byte[] keystoreData = baos.toByteArray();
+        writeKeystoreData(keystorePath, keystoreData);
+        return keystoreData;
+    }
+
+    /**
+     * 이미 직렬화된 Keystore 바이트(복원 파일 등)를 임시 파일에 쓴 뒤 원자적으로 교체
+     */
+    public static void writeKeystoreData(String keystorePath, byte[] keystoreData) throws IOException {
+        Path target = Paths.get(keystorePath);
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), ".keystore", ".tmp");
+        try {
+            Files.write(temp, keystoreData);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        logger.info("Keystore 저장 완료 ({} bytes)", keystoreData.length);
+    }
+
+    /**
+     * Keystore에 키 저장
+     */
+    public static void storeKeyEntry(String keystorePath, String keystorePassword,
+            PrivateKey privateKey, java.security.cert.Certificate[] chain,
+            String keyPassword) throws Exception {
+        logger.debug("=== storeKeyEntry START ===");
+        logger.debug("Keystore 경로: {}, KeyAlias: {}, CertChainLength: {}", keystorePath, KEYSTORE_ALIAS, chain.length);
+        try {
+            KeyStore keystore = loadKeystore(keystorePath, keystorePassword);
+            keystore.setKeyEntry(KEYSTORE_ALIAS, privateKey, keyPassword.toCharArray(), chain);
+            logger.debug("키 엔트리 설정 완료");
+
+            writeKeystore(keystorePath, keystore, keystorePassword);
+            logger.debug("=== storeKeyEntry END ===");
+        } catch (Exception e) {
+            logger.error("키 저장 실패: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 키 엔트리의 비밀번호 변경 (현재 키와 다음 키 모두)
+     */
+    public static void changeKeyPassword(String keystorePath, String keystorePassword,
+            String oldKeyPassword, String newKeyPassword) throws Exception {
+        KeyStore keystore = loadKeystore(keystorePath, keystorePassword);
+        changeKeyPassword(keystore, oldKeyPassword, newKeyPassword);
+
+        // Keystore 저장 (임시 파일 + 원자적 교체)
+        writeKeystore(keystorePath, keystore, keystorePassword);
+    }
+
+    /**
+     * 메모리의 Keystore에서 키 엔트리 비밀번호 변경 (저장하지 않음, 저장은 writeKeystore로 한 번에)
+     */
+    public static void changeKeyPassword(KeyStore keystore, String oldKeyPassword, String newKeyPassword)
+            throws Exception {
+        for (String alias : Collections.list(keystore.aliases())) {
+            if (!keystore.isKeyEntry(alias)) {
+                // retired 키는 인증서만 있으므로 비밀번호 없음
+                continue;
+            }
+            // 기존 키 엔트리 가져오기
+            PrivateKey privateKey = (PrivateKey) keystore.getKey(alias, oldKeyPassword.toCharArray());
+            if (privateKey == null) {
+                throw new Exception("Keystore에서 개인키를 찾을 수 없습니다: " + alias);
+            }
+
+            // 인증서 가져오기
+            java.security.cert.Certificate[] chain = keystore.getCertificateChain(alias);
+            if (chain == null) {
+                throw new Exception("Keystore에서 인증서 체인을 찾을 수 없습니다: " + alias);
+            }
+
+            // 새 비밀번호로 키 엔트리 다시 저장
+            keystore.setKeyEntry(alias, privateKey, newKeyPassword.toCharArray(), chain);
+        }
+    }
+
+    /**
+     * Keystore 비밀번호 검증 (실제 Keystore 파일로 검증)
+     */
+    public static boolean verifyKeystorePassword(String keystorePath, String password) {
+        logger.debug("=== verifyKeystorePassword START ===");
+        logger.debug("Keystore 경로: {}", keystorePath);
+        try {
+            KeyStore keystore = KeyStore.getInstance("JKS");
+            try (FileInputStream fis = new FileInputStream(keystorePath)) {
+                keystore.load(fis, password.toCharArray());
+            }
+            logger.debug("Keystore 비밀번호 검증 성공");
+            logger.debug("=== verifyKeystorePassword END ===");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Keystore 비밀번호 검증 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
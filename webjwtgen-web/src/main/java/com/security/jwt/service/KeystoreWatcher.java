@@ -0,0 +1,221 @@
+package com.security.jwt.service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keystore 파일 감시기
+ * 여러 복제본이 같은 볼륨을 공유할 때 다른 복제본이 keystore.jks / setup-completed.flag를 바꾸면
+ * 백그라운드 스레드에서 감지하여 키 스냅샷을 다시 로드 (요청 처리 경로에서는 파일을 보지 않음)
+ *
+ * - 짧은 시간에 몰리는 변경 이벤트는 debounce 후 한 번만 처리
+ * - NFS 등 원격 변경이 이벤트로 오지 않는 볼륨을 위해 주기적으로 수정 시각/크기도 비교
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.keystore.watch / JWT_KEYSTORE_WATCH: 감시 사용 여부 (기본값: true)
+ * - jwt.keystore.watchDebounceMillis / JWT_KEYSTORE_WATCH_DEBOUNCE_MILLIS: debounce 시간 (기본값: 500)
+ * - jwt.keystore.watchPollSeconds / JWT_KEYSTORE_WATCH_POLL_SECONDS: 주기 비교 간격 (기본값: 5)
+ */
+public class KeystoreWatcher implements Runnable {
+    private static final Logger logger = LogManager.getLogger(KeystoreWatcher.class);
+    private static final String KEYSTORE_FILE = "keystore.jks";
+    private static final String SETUP_FLAG_FILE = "setup-completed.flag";
+
+    private static final boolean ENABLED = ConfigService.getBoolean("jwt.keystore.watch", "JWT_KEYSTORE_WATCH", true);
+    private static final long DEBOUNCE_MILLIS = ConfigService.getPositiveInt("jwt.keystore.watchDebounceMillis",
+            "JWT_KEYSTORE_WATCH_DEBOUNCE_MILLIS", 500);
+    private static final long POLL_MILLIS = TimeUnit.SECONDS.toMillis(ConfigService.getPositiveInt(
+            "jwt.keystore.watchPollSeconds", "JWT_KEYSTORE_WATCH_POLL_SECONDS", 5));
+
+    private static KeystoreWatcher instance;
+
+    private final Path directory;
+    private final Path keystorePath;
+    private final Path flagPath;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private KeystoreWatcher(Path directory) throws IOException {
+        this.directory = directory;
+        this.keystorePath = directory.resolve(KEYSTORE_FILE);
+        this.flagPath = directory.resolve(SETUP_FLAG_FILE);
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = new Thread(this, "keystore-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 웹앱 디렉토리 감시 시작 (웹앱 시작 시)
+     */
+    public static synchronized void start(String webappPath) {
+        if (!ENABLED) {
+            logger.info("Keystore 파일 감시 사용 안 함");
+            return;
+        }
+        if (instance != null || webappPath == null) {
+            return;
+        }
+        try {
+            instance = new KeystoreWatcher(Paths.get(webappPath));
+            instance.thread.start();
+            logger.info("Keystore 파일 감시 시작: {} (debounce: {}ms, poll: {}ms)",
+                    webappPath, DEBOUNCE_MILLIS, POLL_MILLIS);
+        } catch (IOException e) {
+            logger.error("Keystore 파일 감시 시작 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 감시 종료 (웹앱 종료 시)
+     */
+    public static synchronized void stop() {
+        if (instance == null) {
+            return;
+        }
+        instance.running = false;
+        try {
+            instance.watchService.close();
+            instance.thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (IOException e) {
+            logger.warn("Keystore 파일 감시 종료 중 오류: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        instance = null;
+        logger.info("Keystore 파일 감시 종료");
+    }
+
+    @Override
+    public void run() {
+        String lastFingerprint = fingerprint();
+        long lastEventAt = 0;
+        boolean pending = false;
+
+        while (running) {
+            long timeout = pending ? Math.max(1, DEBOUNCE_MILLIS - (System.currentTimeMillis() - lastEventAt))
+                    : POLL_MILLIS;
+            WatchKey key;
+            try {
+                key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (ClosedWatchServiceException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (key != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (isRelevant(event)) {
+                        pending = true;
+                        lastEventAt = System.currentTimeMillis();
+                    }
+                }
+                if (!key.reset()) {
+                    logger.error("웹앱 디렉토리를 더 이상 감시할 수 없음: {}", directory);
+                    break;
+                }
+            } else if (!pending) {
+                // 이벤트 없이 poll 간격이 지남: 원격 변경 여부를 수정 시각/크기로 확인
+                String fingerprint = fingerprint();
+                if (!fingerprint.equals(lastFingerprint)) {
+                    pending = true;
+                    lastEventAt = System.currentTimeMillis();
+                }
+            }
+
+            if (pending && System.currentTimeMillis() - lastEventAt >= DEBOUNCE_MILLIS) {
+                pending = false;
+                lastFingerprint = fingerprint();
+                reload();
+            }
+        }
+    }
+
+    private boolean isRelevant(WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            return true;
+        }
+        Object context = event.context();
+        return context instanceof Path
+                && (KEYSTORE_FILE.equals(context.toString()) || SETUP_FLAG_FILE.equals(context.toString()));
+    }
+
+    /**
+     * 변경 확정 후 재로드하고 결과와 수렴 시간(파일 수정 → 교체 완료) 기록
+     */
+    private void reload() {
+        long started = System.nanoTime();
+        KeyMaterialStore.ReloadResult result;
+        if (!Files.exists(flagPath)) {
+            // 다른 복제본에서 강제 초기화됨: 기존 키로 계속 서명하지 않도록 폐기
+            boolean loaded = KeyMaterialStore.current() != null;
+            KeyMaterialStore.invalidate();
+            result = loaded ? KeyMaterialStore.ReloadResult.REMOVED : KeyMaterialStore.ReloadResult.NOT_LOADED;
+        } else {
+            result = KeyMaterialStore.reload();
+        }
+        long reloadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        switch (result) {
+            case RELOADED:
+                KeyMaterial keys = KeyMaterialStore.current();
+                logger.warn("Keystore 변경 반영 (generation: {}, kid: {}, 재로드: {}ms, 수렴 시간: {}ms)",
+                        keys != null ? keys.getGeneration() : "-", keys != null ? keys.getKid() : "-",
+                        reloadMillis, convergenceMillis());
+                break;
+            case REMOVED:
+            case FAILED:
+                logger.warn("Keystore 변경 감지, 키 스냅샷 폐기 ({}, 재로드: {}ms, 수렴 시간: {}ms)",
+                        result, reloadMillis, convergenceMillis());
+                break;
+            default:
+                logger.info("Keystore 변경 감지, 교체 없음 ({})", result);
+        }
+    }
+
+    /**
+     * 파일 수정 시각부터 지금까지의 시간 (파일이 없으면 -1)
+     */
+    private long convergenceMillis() {
+        long modified = -1;
+        for (Path path : new Path[] { keystorePath, flagPath }) {
+            try {
+                modified = Math.max(modified, Files.getLastModifiedTime(path).toMillis());
+            } catch (IOException e) {
+                // 삭제된 파일은 제외
+            }
+        }
+        return modified < 0 ? -1 : System.currentTimeMillis() - modified;
+    }
+
+    private String fingerprint() {
+        return fingerprint(keystorePath) + "|" + fingerprint(flagPath);
+    }
+
+    private static String fingerprint(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path);
+        } catch (NoSuchFileException e) {
+            return "none";
+        } catch (IOException e) {
+            return "error";
+        }
+    }
+}
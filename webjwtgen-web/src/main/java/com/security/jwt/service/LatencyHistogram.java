@@ -0,0 +1,83 @@
+package com.security.jwt.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 로그-선형 지연 시간 히스토그램 (마이크로초 단위)
+ * 2의 거듭제곱 구간마다 선형 하위 버킷 2개: [2^e, 1.5·2^e), [1.5·2^e, 2^(e+1)), 16µs 미만 ~ 약 33초 + 초과 버킷
+ *
+ * 기록은 버킷 인덱스를 비트 연산으로 구해 AtomicLongArray 하나만 증가시키므로 잠금/할당 없음
+ * 읽기(Prometheus 출력)는 각 버킷을 따로 읽으므로 동시 기록 중에는 근사 스냅샷
+ */
+public final class LatencyHistogram {
+    private static final int MIN_EXPONENT = 4;
+    private static final int MAX_EXPONENT = 24;
+    /** 유한 상한 버킷 수 (마지막 인덱스 BUCKETS는 +Inf) */
+    static final int BUCKETS = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * 2;
+    /** 버킷 상한 (초, Prometheus le 라벨 값) */
+    private static final String[] UPPER_BOUNDS = new String[BUCKETS];
+
+    static {
+        for (int i = 0; i < BUCKETS; i++) {
+            UPPER_BOUNDS[i] = BigDecimal.valueOf(upperBoundMicros(i), 6).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 1);
+    private final LongAdder sumMicros = new LongAdder();
+
+    /**
+     * 시작 시각(System.nanoTime) 이후 경과 시간 기록
+     */
+    public void recordSince(long startNanos) {
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    public void recordNanos(long nanos) {
+        long micros = nanos > 0 ? nanos / 1000 : 0;
+        counts.incrementAndGet(index(micros));
+        sumMicros.add(micros);
+    }
+
+    static int index(long micros) {
+        if (micros < (1L << MIN_EXPONENT)) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS;
+        }
+        int upperHalf = (int) (micros >>> (exponent - 1)) & 1;
+        return 1 + (exponent - MIN_EXPONENT) * 2 + upperHalf;
+    }
+
+    private static long upperBoundMicros(int index) {
+        if (index == 0) {
+            return 1L << MIN_EXPONENT;
+        }
+        int exponent = MIN_EXPONENT + (index - 1) / 2;
+        return ((index - 1) & 1) == 0 ? 3L << (exponent - 1) : 1L << (exponent + 1);
+    }
+
+    /**
+     * Prometheus 히스토그램 형식으로 출력 (name_bucket{labels,le=...}, name_sum, name_count)
+     * labels는 "a=\"x\"" 형식 또는 빈 문자열
+     */
+    void writeTo(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "{" : "{" + labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts.get(i);
+            out.append(name).append("_bucket").append(prefix).append("le=\"").append(UPPER_BOUNDS[i]).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        cumulative += counts.get(BUCKETS);
+        out.append(name).append("_bucket").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(suffix).append(' ')
+                .append(BigDecimal.valueOf(sumMicros.sum(), 6).toPlainString()).append('\n');
+        out.append(name).append("_count").append(suffix).append(' ').append(cumulative).append('\n');
+    }
+}
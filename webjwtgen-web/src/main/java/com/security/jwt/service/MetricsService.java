@@ -0,0 +1,183 @@
+package com.security.jwt.service;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 운영 지표 서비스 (Prometheus 텍스트 형식)
+ * 엔드포인트별 요청 수(상태 코드별)와 지연 시간, 단계별 지연 시간, 키 스냅샷 상태, JVM 힙/GC 지표 제공
+ *
+ * - 기록 경로는 잠금/할당 없음: 상태 코드 카운터는 미리 만든 LongAdder 배열, 지연 시간은 LatencyHistogram
+ * - 외부 에이전트 없이 /metrics(MetricsServlet)에서 스크레이프 시점에 출력 생성
+ */
+public class MetricsService {
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+    private static final String OTHER_ENDPOINT = "other";
+
+    /** 요청 처리 단계별 지연 시간 */
+    public static final LatencyHistogram PASSWORD_VERIFY = new LatencyHistogram();
+    public static final LatencyHistogram KEY_LOAD = new LatencyHistogram();
+    public static final LatencyHistogram PAYLOAD_BUILD = new LatencyHistogram();
+    public static final LatencyHistogram SIGN = new LatencyHistogram();
+    public static final LatencyHistogram RESPONSE_WRITE = new LatencyHistogram();
+
+    private static final Map<String, LatencyHistogram> stages = stages();
+    private static final Map<String, Endpoint> endpoints = endpoints("/generate", "/generate/batch", "/verify",
+            "/verify/batch", "/setup", "/.well-known/jwks.json", OTHER_ENDPOINT);
+    private static final long startTimeMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    /**
+     * 요청 하나 기록 (RequestMetricsFilter에서 응답 완료 시 호출)
+     */
+    public static void recordRequest(String path, int status, long durationNanos) {
+        Endpoint endpoint = endpoints.get(path);
+        if (endpoint == null) {
+            endpoint = endpoints.get(OTHER_ENDPOINT);
+        }
+        endpoint.latency.recordNanos(durationNanos);
+        if (status >= MIN_STATUS && status <= MAX_STATUS) {
+            endpoint.statuses[status - MIN_STATUS].increment();
+        }
+    }
+
+    /**
+     * 전체 지표를 Prometheus 텍스트 형식(0.0.4)으로 출력
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+
+        // 요청 수 / 지연 시간
+        out.append("# HELP webjwtgen_http_requests_total 처리한 HTTP 요청 수 (엔드포인트, 상태 코드별)\n");
+        out.append("# TYPE webjwtgen_http_requests_total counter\n");
+        endpoints.forEach((name, endpoint) -> {
+            for (int i = 0; i < endpoint.statuses.length; i++) {
+                long count = endpoint.statuses[i].sum();
+                if (count > 0) {
+                    out.append("webjwtgen_http_requests_total{endpoint=\"").append(name).append("\",status=\"")
+                            .append(i + MIN_STATUS).append("\"} ").append(count).append('\n');
+                }
+            }
+        });
+        out.append("# HELP webjwtgen_http_request_duration_seconds 요청 처리 시간 (응답 완료까지)\n");
+        out.append("# TYPE webjwtgen_http_request_duration_seconds histogram\n");
+        endpoints.forEach((name, endpoint) -> endpoint.latency.writeTo(out,
+                "webjwtgen_http_request_duration_seconds", "endpoint=\"" + name + "\""));
+
+        out.append("# HELP webjwtgen_stage_duration_seconds 요청 처리 단계별 소요 시간\n");
+        out.append("# TYPE webjwtgen_stage_duration_seconds histogram\n");
+        stages.forEach((name, histogram) -> histogram.writeTo(out, "webjwtgen_stage_duration_seconds",
+                "stage=\"" + name + "\""));
+
+        // 키 스냅샷
+        KeyMaterial keys = KeyMaterialStore.current();
+        gauge(out, "webjwtgen_key_snapshot_loaded", "서명 키 스냅샷 로드 여부 (1: 로드됨)", keys != null ? 1 : 0);
+        if (keys != null) {
+            gauge(out, "webjwtgen_key_snapshot_generation", "현재 키 스냅샷 세대", keys.getGeneration());
+            gauge(out, "webjwtgen_key_snapshot_loaded_timestamp_seconds", "현재 키 스냅샷 로드 시각",
+                    keys.getLoadedAt() / 1000);
+            out.append("# HELP webjwtgen_signing_keys 상태별 키 수\n");
+            out.append("# TYPE webjwtgen_signing_keys gauge\n");
+            out.append("webjwtgen_signing_keys{state=\"active\"} ").append(keys.getActiveKey() != null ? 1 : 0)
+                    .append('\n');
+            out.append("webjwtgen_signing_keys{state=\"next\"} ").append(keys.getNextKey() != null ? 1 : 0)
+                    .append('\n');
+            out.append("webjwtgen_signing_keys{state=\"retired\"} ").append(keys.getRetiredKeys().size())
+                    .append('\n');
+        }
+
+        // 서명 실행기
+        gauge(out, "webjwtgen_signing_queue_depth", "서명 실행기 대기 작업 수", SigningExecutor.getQueueDepth());
+        counter(out, "webjwtgen_signing_rejected_total", "대기열 포화로 거부한 요청 수",
+                SigningExecutor.getRejectedCount());
+
+        // 서명 Provider
+        ProviderCalibration.writeMetrics(out);
+
+        writeJvm(out);
+        return out.toString();
+    }
+
+    private static void writeJvm(StringBuilder out) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        out.append("# HELP jvm_memory_bytes_used JVM 메모리 사용량\n");
+        out.append("# TYPE jvm_memory_bytes_used gauge\n");
+        out.append("jvm_memory_bytes_used{area=\"heap\"} ").append(heap.getUsed()).append('\n');
+        out.append("jvm_memory_bytes_used{area=\"nonheap\"} ").append(nonHeap.getUsed()).append('\n');
+        out.append("# HELP jvm_memory_bytes_committed JVM 메모리 커밋량\n");
+        out.append("# TYPE jvm_memory_bytes_committed gauge\n");
+        out.append("jvm_memory_bytes_committed{area=\"heap\"} ").append(heap.getCommitted()).append('\n');
+        out.append("jvm_memory_bytes_committed{area=\"nonheap\"} ").append(nonHeap.getCommitted()).append('\n');
+        out.append("# HELP jvm_memory_bytes_max JVM 최대 메모리 (-1: 제한 없음)\n");
+        out.append("# TYPE jvm_memory_bytes_max gauge\n");
+        out.append("jvm_memory_bytes_max{area=\"heap\"} ").append(heap.getMax()).append('\n');
+        out.append("jvm_memory_bytes_max{area=\"nonheap\"} ").append(nonHeap.getMax()).append('\n');
+
+        out.append("# HELP jvm_gc_collection_seconds GC 수집 횟수와 누적 시간\n");
+        out.append("# TYPE jvm_gc_collection_seconds summary\n");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String label = "{gc=\"" + gc.getName() + "\"} ";
+            out.append("jvm_gc_collection_seconds_count").append(label).append(Math.max(0, gc.getCollectionCount()))
+                    .append('\n');
+            out.append("jvm_gc_collection_seconds_sum").append(label)
+                    .append(BigDecimal.valueOf(Math.max(0, gc.getCollectionTime()), 3).toPlainString()).append('\n');
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        gauge(out, "jvm_threads_current", "현재 JVM 스레드 수", threads.getThreadCount());
+        gauge(out, "jvm_threads_daemon", "현재 데몬 스레드 수", threads.getDaemonThreadCount());
+        gauge(out, "process_start_time_seconds", "프로세스 시작 시각", startTimeMillis / 1000);
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static Map<String, LatencyHistogram> stages() {
+        Map<String, LatencyHistogram> map = new LinkedHashMap<>();
+        map.put("password_verify", PASSWORD_VERIFY);
+        map.put("key_load", KEY_LOAD);
+        map.put("payload_build", PAYLOAD_BUILD);
+        map.put("sign", SIGN);
+        map.put("response_write", RESPONSE_WRITE);
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static Map<String, Endpoint> endpoints(String... paths) {
+        Map<String, Endpoint> map = new LinkedHashMap<>();
+        for (String path : paths) {
+            map.put(path, new Endpoint());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 엔드포인트별 지표 (상태 코드별 카운터 + 지연 시간)
+     */
+    private static final class Endpoint {
+        private final LongAdder[] statuses = new LongAdder[MAX_STATUS - MIN_STATUS + 1];
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Endpoint() {
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = new LongAdder();
+            }
+        }
+    }
+}
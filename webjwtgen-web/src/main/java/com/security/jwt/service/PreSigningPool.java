@@ -0,0 +1,244 @@
+package com.security.jwt.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 자주 요청되는 (iss, sub, ttl) 프로필의 토큰 사전 서명 풀
+ * ttl 요청마다 근사 상위 K 집계(TopKSketch)에 기록하고, 낮은 우선순위 스레드가 상위 프로필마다
+ * 미리 서명한 토큰을 몇 개씩 채워 둠 → 해당 요청은 서명 없이 풀에서 꺼내 응답
+ *
+ * - 풀의 토큰은 iat 경과 시간이 maxAgeSeconds에 닿기 전에 새 토큰으로 교체되며, 꺼낼 때도 다시 확인
+ * - 키 스냅샷이 바뀌면 풀 전체 폐기 (다른 kid로 서명된 토큰은 꺼내지 않음)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.presign.enabled / JWT_PRESIGN_ENABLED: 사용 여부 (기본값: false)
+ * - jwt.presign.topK / JWT_PRESIGN_TOP_K: 풀을 유지할 프로필 수 (기본값: 8)
+ * - jwt.presign.poolSize / JWT_PRESIGN_POOL_SIZE: 프로필별 토큰 수 (기본값: 4)
+ * - jwt.presign.maxAgeSeconds / JWT_PRESIGN_MAX_AGE_SECONDS: 풀 토큰의 최대 iat 경과 시간 (기본값: 5)
+ * - jwt.presign.minRequests / JWT_PRESIGN_MIN_REQUESTS: 상위 프로필로 인정할 최소 요청 수 (감쇠 주기 기준, 기본값: 20)
+ * - jwt.presign.refreshMillis / JWT_PRESIGN_REFRESH_MILLIS: 풀 보충 간격 (기본값: 200)
+ * - jwt.presign.decaySeconds / JWT_PRESIGN_DECAY_SECONDS: 요청 빈도 감쇠 간격 (기본값: 30)
+ */
+public class PreSigningPool {
+    private static final Logger logger = LogManager.getLogger(PreSigningPool.class);
+
+    private static final boolean ENABLED = ConfigService.getBoolean("jwt.presign.enabled", "JWT_PRESIGN_ENABLED",
+            false);
+    private static final int TOP_K = ConfigService.getPositiveInt("jwt.presign.topK", "JWT_PRESIGN_TOP_K", 8);
+    private static final int POOL_SIZE = ConfigService.getPositiveInt("jwt.presign.poolSize",
+            "JWT_PRESIGN_POOL_SIZE", 4);
+    private static final int MAX_AGE_SECONDS = ConfigService.getPositiveInt("jwt.presign.maxAgeSeconds",
+            "JWT_PRESIGN_MAX_AGE_SECONDS", 5);
+    private static final int MIN_REQUESTS = ConfigService.getPositiveInt("jwt.presign.minRequests",
+            "JWT_PRESIGN_MIN_REQUESTS", 20);
+    private static final int REFRESH_MILLIS = ConfigService.getPositiveInt("jwt.presign.refreshMillis",
+            "JWT_PRESIGN_REFRESH_MILLIS", 200);
+    private static final int DECAY_SECONDS = ConfigService.getPositiveInt("jwt.presign.decaySeconds",
+            "JWT_PRESIGN_DECAY_SECONDS", 30);
+    /** 이 경과 시간(초)에 닿은 토큰은 보충 시 교체 (꺼낼 때의 한도보다 1초 앞) */
+    private static final int REFRESH_AGE_SECONDS = Math.max(0, MAX_AGE_SECONDS - 1);
+
+    private static final TopKSketch<Profile> sketch = new TopKSketch<>(TOP_K);
+    private static final ConcurrentHashMap<Profile, Queue<PreSigned>> pools = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "jwt-presign");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private static final AtomicBoolean started = new AtomicBoolean();
+    // 보충 스레드 전용
+    private static final JwtTokenAssembler assembler = new JwtTokenAssembler();
+    private static volatile long poolGeneration = -1;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder stale = new LongAdder();
+    private static final LongAdder signed = new LongAdder();
+    private static final LongAdder purges = new LongAdder();
+
+    /**
+     * 보충/감쇠 스레드 시작 (웹앱 시작 시, 사용 설정된 경우만)
+     */
+    public static void start() {
+        if (!ENABLED || !started.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(PreSigningPool::refill, REFRESH_MILLIS, REFRESH_MILLIS,
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(sketch::decay, DECAY_SECONDS, DECAY_SECONDS, TimeUnit.SECONDS);
+        logger.info("사전 서명 풀 시작 (상위 {}개 프로필, 프로필별 {}개, 최대 iat 경과 {}초)",
+                TOP_K, POOL_SIZE, MAX_AGE_SECONDS);
+    }
+
+    /**
+     * 요청 기록 후 풀에서 토큰 하나 꺼냄 (없거나 오래되었거나 kid가 다르면 null)
+     */
+    public static String take(String kid, String iss, String sub, long ttlSeconds) {
+        if (!ENABLED || kid == null) {
+            return null;
+        }
+        Profile profile = new Profile(iss, sub, ttlSeconds);
+        sketch.add(profile);
+
+        Queue<PreSigned> pool = pools.get(profile);
+        if (pool != null) {
+            long nowSeconds = System.currentTimeMillis() / 1000;
+            PreSigned token;
+            while ((token = pool.poll()) != null) {
+                if (token.kid.equals(kid) && nowSeconds - token.iat <= MAX_AGE_SECONDS) {
+                    hits.increment();
+                    return token.token;
+                }
+                stale.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 풀 전체 폐기 (키 스냅샷 변경 시)
+     */
+    public static void purge() {
+        if (!pools.isEmpty()) {
+            pools.clear();
+            purges.increment();
+            logger.info("사전 서명 풀 폐기 (키 변경)");
+        }
+    }
+
+    /**
+     * 풀 상태 (상위 프로필별 추정 빈도와 보유 토큰 수, 적중/실패 수)
+     */
+    public static JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("enabled", ENABLED);
+        stats.addProperty("hits", hits.sum());
+        stats.addProperty("misses", misses.sum());
+        stats.addProperty("stale", stale.sum());
+        stats.addProperty("signed", signed.sum());
+        stats.addProperty("purges", purges.sum());
+        JsonArray profiles = new JsonArray();
+        pools.forEach((profile, pool) -> {
+            JsonObject item = new JsonObject();
+            item.addProperty("iss", profile.iss);
+            item.addProperty("sub", profile.sub);
+            item.addProperty("ttl", profile.ttl);
+            item.addProperty("estimatedRequests", sketch.estimate(profile));
+            item.addProperty("pooled", pool.size());
+            profiles.add(item);
+        });
+        stats.add("profiles", profiles);
+        return stats;
+    }
+
+    /**
+     * 스레드 종료 (웹앱 종료 시)
+     */
+    public static void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 상위 프로필의 풀 보충 (오래된 토큰 교체, 상위에서 빠진 프로필의 풀 제거)
+     */
+    private static void refill() {
+        try {
+            KeyMaterial keys = KeyMaterialStore.current();
+            if (keys == null) {
+                pools.clear();
+                return;
+            }
+            if (keys.getGeneration() != poolGeneration) {
+                pools.clear();
+                poolGeneration = keys.getGeneration();
+            }
+
+            List<Profile> hot = sketch.topK(MIN_REQUESTS);
+            pools.keySet().retainAll(hot);
+
+            String kid = keys.getKid();
+            for (Profile profile : hot) {
+                Queue<PreSigned> pool = pools.computeIfAbsent(profile, p -> new ConcurrentLinkedQueue<>());
+                long nowSeconds = System.currentTimeMillis() / 1000;
+                pool.removeIf(token -> !token.kid.equals(kid) || nowSeconds - token.iat >= REFRESH_AGE_SECONDS);
+
+                for (int count = pool.size(); count < POOL_SIZE; count++) {
+                    if (KeyMaterialStore.current() != keys) {
+                        // 보충 중 키 변경: 다음 주기에 새 키로 다시 채움
+                        return;
+                    }
+                    long iat = System.currentTimeMillis() / 1000;
+                    String token = assembler.assemble(iat + profile.ttl, profile.iss, profile.sub, iat,
+                            keys.getSigner());
+                    pool.offer(new PreSigned(token, kid, iat));
+                    signed.increment();
+                }
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 이후 주기 실행이 중단되므로 기록만 함
+            logger.error("사전 서명 풀 보충 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 요청 프로필 (iss, sub, ttl)
+     */
+    private static final class Profile {
+        private final String iss;
+        private final String sub;
+        private final long ttl;
+        private final int hash;
+
+        Profile(String iss, String sub, long ttl) {
+            this.iss = iss;
+            this.sub = sub;
+            this.ttl = ttl;
+            this.hash = Objects.hash(iss, sub, ttl);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Profile)) {
+                return false;
+            }
+            Profile other = (Profile) o;
+            return ttl == other.ttl && Objects.equals(iss, other.iss) && Objects.equals(sub, other.sub);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class PreSigned {
+        private final String token;
+        private final String kid;
+        private final long iat;
+
+        PreSigned(String token, String kid, long iat) {
+            this.token = token;
+            this.kid = kid;
+            this.iat = iat;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 서명/검증 Provider 선택 (시작 시 자체 측정)
+ * JDK 버전에 따라 내장 SunEC가 BouncyCastle보다 훨씬 빠를 수 있으므로,
+ * 시작 시 실제 로드된 키(의 알고리즘)로 사용 가능한 Provider마다 서명/검증 처리량을 측정하여 가장 빠른 것을 선택
+ * 나중에 다른 알고리즘의 키로 바뀌었는데 선택된 Provider가 지원하지 않으면 BouncyCastle 사용 (CryptoProviders.forAlgorithm)
+ *
+ * - 상호 운용 확인: 각 Provider의 서명을 BouncyCastle이 검증하고, BouncyCastle 서명을 각 Provider가 검증해야 후보가 됨
+ * - 점수: 서명 1회 + 검증 1회 소요 시간 합이 가장 작은 Provider
+ * - 고정(pin)한 Provider가 없거나 상호 운용 확인에 실패하면 경고 후 자동 선택
+ * - 선택이 바뀌면 현재 키 스냅샷의 서명/검증 엔진을 다시 만듦 (KeyMaterialStore.rebuildEngines)
+ * - 결과는 관리자 페이지(GET /setup의 cryptoProvider)와 /metrics에 노출
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.crypto.provider / JWT_CRYPTO_PROVIDER: auto, BC, SunEC (기본값: auto)
+ * - jwt.crypto.calibrationMillis / JWT_CRYPTO_CALIBRATION_MILLIS: Provider별 서명/검증 측정 시간 (기본값: 300)
+ */
+public final class ProviderCalibration {
+    private static final Logger logger = LogManager.getLogger(ProviderCalibration.class);
+    private static final String AUTO = "auto";
+    /** 발급 토큰과 비슷한 크기의 서명 대상 (header.payload) */
+    private static final byte[] SAMPLE = ("eyJhbGciOiJFUzI1NiIsInR5cCI6IkpXVCIsImtpZCI6ImNhbGlicmF0aW9uIn0."
+            + "eyJleHAiOjE5MDAwMDAwMDAsImlzcyI6IndlYmp3dGdlbi1jYWxpYnJhdGlvbiIsInN1YiI6InByb3ZpZGVyLXNlbGVjdGlvbiIsImlhdCI6MH0")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final String PINNED = ConfigService.get("jwt.crypto.provider", "JWT_CRYPTO_PROVIDER", AUTO);
+    private static final long MEASURE_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigService.getPositiveInt(
+            "jwt.crypto.calibrationMillis", "JWT_CRYPTO_CALIBRATION_MILLIS", 300));
+
+    private static volatile Result result;
+
+    private ProviderCalibration() {
+    }
+
+    /**
+     * Provider 측정 후 선택 (WarmupService에서 키 로드 직후 호출)
+     */
+    public static synchronized void calibrate(PrivateKey privateKey, PublicKey publicKey) {
+        Provider reference = CryptoProviders.bouncyCastle();
+        List<Candidate> candidates = new ArrayList<>();
+        for (Provider provider : providers()) {
+            candidates.add(measure(provider, reference, privateKey, publicKey));
+        }
+
+        Candidate selected = null;
+        String mode = AUTO;
+        if (!AUTO.equalsIgnoreCase(PINNED)) {
+            for (Candidate candidate : candidates) {
+                if (candidate.name.equalsIgnoreCase(PINNED) && candidate.interoperable) {
+                    selected = candidate;
+                    mode = "pinned";
+                }
+            }
+            if (selected == null) {
+                logger.warn("고정한 서명 Provider를 사용할 수 없어 자동 선택 (jwt.crypto.provider={})", PINNED);
+            }
+        }
+        if (selected == null) {
+            for (Candidate candidate : candidates) {
+                if (candidate.interoperable && (selected == null || candidate.cost() < selected.cost())) {
+                    selected = candidate;
+                }
+            }
+        }
+        if (selected == null) {
+            logger.error("상호 운용 확인을 통과한 서명 Provider가 없어 BouncyCastle 유지");
+            selected = candidates.get(0);
+            mode = "fallback";
+        }
+
+        result = new Result(selected.name, mode, SigningAlgorithm.of(publicKey).getJwsName(), candidates,
+                System.currentTimeMillis());
+        logger.info("서명 Provider 선택: {} ({}, {}, 서명 {}/s, 검증 {}/s)", selected.name, mode, result.algorithm,
+                Math.round(selected.signOpsPerSecond), Math.round(selected.verifyOpsPerSecond));
+
+        if (selected.provider != CryptoProviders.ecdsa()) {
+            CryptoProviders.selectEcdsa(selected.provider);
+            try {
+                KeyMaterialStore.rebuildEngines();
+            } catch (Exception e) {
+                logger.error("서명 엔진 재생성 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 측정 후보: BouncyCastle(기준)과 JDK 내장 SunEC
+     */
+    private static List<Provider> providers() {
+        List<Provider> providers = new ArrayList<>();
+        providers.add(CryptoProviders.bouncyCastle());
+        Provider sunEc = Security.getProvider(CryptoProviders.SUN_EC);
+        if (sunEc != null) {
+            providers.add(sunEc);
+        }
+        return providers;
+    }
+
+    private static Candidate measure(Provider provider, Provider reference, PrivateKey privateKey,
+            PublicKey publicKey) {
+        Candidate candidate = new Candidate(provider);
+        try {
+            SignerEngine signer = new SignerEngine(privateKey, null, provider);
+            VerifierEngine verifier = new VerifierEngine(publicKey, provider);
+
+            // 상호 운용: 이 Provider 서명 ↔ 기준 Provider 검증, 기준 Provider 서명 ↔ 이 Provider 검증
+            VerifierEngine referenceVerifier = new VerifierEngine(publicKey, reference);
+            SigningAlgorithm algorithm = signer.getAlgorithm();
+            byte[] signature = algorithm.toJose(signer.sign(SAMPLE));
+            byte[] referenceSignature = algorithm.toJose(new SignerEngine(privateKey, null, reference).sign(SAMPLE));
+            candidate.interoperable = referenceVerifier.verify(SAMPLE, 0, SAMPLE.length, signature)
+                    && verifier.verify(SAMPLE, 0, SAMPLE.length, referenceSignature);
+            if (!candidate.interoperable) {
+                logger.warn("서명 Provider 상호 운용 확인 실패: {}", candidate.name);
+                return candidate;
+            }
+
+            // 예열 후 측정
+            signOps(signer, MEASURE_NANOS / 4);
+            candidate.signOpsPerSecond = signOps(signer, MEASURE_NANOS);
+            verifyOps(verifier, signature, MEASURE_NANOS / 4);
+            candidate.verifyOpsPerSecond = verifyOps(verifier, signature, MEASURE_NANOS);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            candidate.interoperable = false;
+            candidate.error = e.getMessage();
+            logger.warn("서명 Provider 측정 실패: {} ({})", candidate.name, e.getMessage());
+        }
+        return candidate;
+    }
+
+    private static double signOps(SignerEngine signer, long durationNanos) throws GeneralSecurityException {
+        long start = System.nanoTime();
+        long elapsed;
+        long ops = 0;
+        do {
+            signer.sign(SAMPLE);
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNanos);
+        return ops * 1e9 / elapsed;
+    }
+
+    private static double verifyOps(VerifierEngine verifier, byte[] signature, long durationNanos)
+            throws GeneralSecurityException {
+        long start = System.nanoTime();
+        long elapsed;
+        long ops = 0;
+        do {
+            if (!verifier.verify(SAMPLE, 0, SAMPLE.length, signature)) {
+                throw new GeneralSecurityException("측정 중 서명 검증 실패");
+            }
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNanos);
+        return ops * 1e9 / elapsed;
+    }
+
+    /**
+     * 선택된 Provider 이름 (측정 전이면 현재 Provider)
+     */
+    public static String getSelectedName() {
+        Result current = result;
+        return current != null ? current.selected : CryptoProviders.ecdsa().getName();
+    }
+
+    /**
+     * 측정 결과 (관리자 페이지용, 측정 전이면 선택된 Provider만)
+     */
+    public static JsonObject getStats() {
+        Result current = result;
+        JsonObject stats = new JsonObject();
+        stats.addProperty("selected", getSelectedName());
+        stats.addProperty("configured", PINNED);
+        if (current == null) {
+            stats.addProperty("mode", "default");
+            return stats;
+        }
+        stats.addProperty("mode", current.mode);
+        stats.addProperty("algorithm", current.algorithm);
+        stats.addProperty("calibratedAt", current.calibratedAt);
+        JsonArray candidates = new JsonArray();
+        for (Candidate candidate : current.candidates) {
+            JsonObject item = new JsonObject();
+            item.addProperty("provider", candidate.name);
+            item.addProperty("interoperable", candidate.interoperable);
+            item.addProperty("signOpsPerSecond", Math.round(candidate.signOpsPerSecond));
+            item.addProperty("verifyOpsPerSecond", Math.round(candidate.verifyOpsPerSecond));
+            if (candidate.error != null) {
+                item.addProperty("error", candidate.error);
+            }
+            candidates.add(item);
+        }
+        stats.add("candidates", candidates);
+        return stats;
+    }
+
+    /**
+     * Prometheus 형식 출력 (MetricsService에서 호출)
+     */
+    static void writeMetrics(StringBuilder out) {
+        out.append("# HELP webjwtgen_crypto_provider_selected 서명/검증에 사용 중인 Provider (1: 선택됨)\n");
+        out.append("# TYPE webjwtgen_crypto_provider_selected gauge\n");
+        out.append("webjwtgen_crypto_provider_selected{provider=\"").append(getSelectedName()).append("\"} 1\n");
+        Result current = result;
+        if (current == null) {
+            return;
+        }
+        out.append("# HELP webjwtgen_crypto_provider_ops_per_second 시작 시 측정한 Provider별 처리량\n");
+        out.append("# TYPE webjwtgen_crypto_provider_ops_per_second gauge\n");
+        for (Candidate candidate : current.candidates) {
+            out.append("webjwtgen_crypto_provider_ops_per_second{provider=\"").append(candidate.name)
+                    .append("\",operation=\"sign\"} ").append(Math.round(candidate.signOpsPerSecond)).append('\n');
+            out.append("webjwtgen_crypto_provider_ops_per_second{provider=\"").append(candidate.name)
+                    .append("\",operation=\"verify\"} ").append(Math.round(candidate.verifyOpsPerSecond))
+                    .append('\n');
+        }
+    }
+
+    /**
+     * Provider 하나의 측정 결과
+     */
+    private static final class Candidate {
+        private final Provider provider;
+        private final String name;
+        private boolean interoperable;
+        private double signOpsPerSecond;
+        private double verifyOpsPerSecond;
+        private String error;
+
+        private Candidate(Provider provider) {
+            this.provider = provider;
+            this.name = provider.getName();
+        }
+
+        /** 서명 1회 + 검증 1회 소요 시간 (초) */
+        private double cost() {
+            return 1 / signOpsPerSecond + 1 / verifyOpsPerSecond;
+        }
+    }
+
+    /**
+     * 측정/선택 결과 (불변)
+     */
+    private static final class Result {
+        private final String selected;
+        private final String mode;
+        private final String algorithm;
+        private final List<Candidate> candidates;
+        private final long calibratedAt;
+
+        private Result(String selected, String mode, String algorithm, List<Candidate> candidates,
+                long calibratedAt) {
+            this.selected = selected;
+            this.mode = mode;
+            this.algorithm = algorithm;
+            this.candidates = Collections.unmodifiableList(candidates);
+            this.calibratedAt = calibratedAt;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.security.jwt.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 요청 단위 추적 컨텍스트
+ * 요청 처리 중 단계별 소요 시간과 결과(kid, 캐시 적중 여부, 오류 등)를 모아 두었다가
+ * 요청이 끝날 때 JSON 이벤트 한 줄로 기록 (단계별 INFO 로그 대체, 상세 단계 로그는 DEBUG)
+ *
+ * - 처리 스레드에 bind하면 서비스 계층에서 step/tag/fail을 정적 메서드로 호출 (없으면 아무것도 하지 않음)
+ * - 성공 요청은 sampleRate 비율만 INFO로 기록하고, 4xx는 WARN, 5xx는 ERROR로 항상 기록
+ * - 이벤트 JSON은 기록할 때만 만들며, 로거(com.security.jwt.trace)는 비동기 로거로 설정 (log4j2.xml)
+ * - 응답이 아직 커밋되지 않았으면 단계별 소요 시간을 Server-Timing 헤더로 전달
+ *   리다이렉트나 스트리밍 응답처럼 종료 전에 커밋되는 응답은 커밋 직전에 writeServerTiming으로 그 시점까지의 값을 전달
+ * - 종료된 요청은 모두 SlowRequestSampler에 제출 (로그 샘플링과 무관)
+ * - 단계/속성 기록과 종료 시점의 읽기는 인스턴스 잠금으로 보호하고 종료 후 기록은 버림
+ *   (시간 초과 시 컨테이너 스레드가 종료하는 동안 작업 스레드가 아직 단계를 기록할 수 있음)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.trace.sampleRate / JWT_TRACE_SAMPLE_RATE: 성공 요청 기록 비율 0.0 ~ 1.0 (기본값: 1.0)
+ * - jwt.trace.serverTiming / JWT_TRACE_SERVER_TIMING: Server-Timing 헤더 사용 여부 (기본값: true)
+ */
+public final class RequestTrace {
+    private static final Logger eventLogger = LogManager.getLogger("com.security.jwt.trace");
+    private static final double SAMPLE_RATE = ConfigService.getRatio("jwt.trace.sampleRate",
+            "JWT_TRACE_SAMPLE_RATE", 1.0);
+    private static final boolean SERVER_TIMING = ConfigService.getBoolean("jwt.trace.serverTiming",
+            "JWT_TRACE_SERVER_TIMING", true);
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    static final int MAX_STEPS = 16;
+    static final int MAX_TAGS = 8;
+
+    private static final ThreadLocal<RequestTrace> current = new ThreadLocal<>();
+    private static final String ID_PREFIX = Long.toString(System.currentTimeMillis(), 36) + "-";
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final long startMillis;
+    private final long startNanos;
+    private long lastNanos;
+    // 아래 단계/속성 배열과 개수는 this 잠금 안에서만 접근
+    private final String[] stepNames = new String[MAX_STEPS];
+    private final long[] stepMicros = new long[MAX_STEPS];
+    private int stepCount;
+    private final String[] tagNames = new String[MAX_TAGS];
+    private final Object[] tagValues = new Object[MAX_TAGS];
+    private int tagCount;
+    private volatile String error;
+    private final AtomicBoolean ended = new AtomicBoolean(false);
+
+    private RequestTrace(String requestId, String method, String path) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.lastNanos = startNanos;
+    }
+
+    /**
+     * 요청 추적 시작 (X-Request-Id 헤더가 있으면 그대로 사용)
+     */
+    public static RequestTrace begin(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = ID_PREFIX + sequence.incrementAndGet();
+        }
+        return new RequestTrace(requestId, request.getMethod(), request.getServletPath());
+    }
+
+    /**
+     * 현재 스레드에 연결 (처리 스레드에서 호출)
+     */
+    public void bind() {
+        current.set(this);
+    }
+
+    /**
+     * 현재 스레드 연결 해제
+     */
+    public static void unbind() {
+        current.remove();
+    }
+
+    /**
+     * 직전 단계 이후 소요 시간을 name 단계로 기록
+     */
+    public static void step(String name) {
+        RequestTrace trace = current.get();
+        if (trace != null) {
+            trace.recordStep(name);
+        }
+    }
+
+    /**
+     * 결과 속성 기록 (kid, cache 등)
+     */
+    public static void tag(String name, Object value) {
+        RequestTrace trace = current.get();
+        if (trace != null) {
+            trace.recordTag(name, value);
+        }
+    }
+
+    /**
+     * 오류 메시지 기록 (추적 중인 요청이 없으면 false)
+     */
+    public static boolean fail(String message) {
+        RequestTrace trace = current.get();
+        if (trace == null) {
+            return false;
+        }
+        trace.error = message;
+        return true;
+    }
+
+    /**
+     * 현재 스레드의 요청에 대해 지금까지의 단계 시간으로 Server-Timing 헤더 설정 (없거나 커밋된 응답이면 무시)
+     * 본문을 쓰기 전에 커밋되는 응답(sendRedirect, 스트리밍 시작)에서 호출하며, total은 호출 시점까지의 시간
+     * end(response)에서 커밋 전이면 최종 값으로 다시 설정됨
+     */
+    public static void writeServerTiming(HttpServletResponse response) {
+        RequestTrace trace = current.get();
+        if (trace != null && SERVER_TIMING && !trace.ended.get() && !response.isCommitted()) {
+            response.setHeader(SERVER_TIMING_HEADER,
+                    trace.serverTiming((System.nanoTime() - trace.startNanos) / 1000));
+        }
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * 요청 종료: Server-Timing 헤더 설정 후 응답 상태로 이벤트 기록
+     * 응답 본문이 버퍼에 남아 있는(커밋 전) 동안 호출해야 헤더가 전달됨 (이미 커밋된 응답은 writeServerTiming 값 유지)
+     */
+    public void end(HttpServletResponse response) {
+        if (SERVER_TIMING && !ended.get() && !response.isCommitted()) {
+            response.setHeader(SERVER_TIMING_HEADER, serverTiming((System.nanoTime() - startNanos) / 1000));
+        }
+        end(response.getStatus());
+    }
+
+    /**
+     * 요청 종료: 이벤트 한 줄 기록 (여러 번 호출해도 한 번만 기록, 시간 초과와 처리 완료가 겹칠 때)
+     */
+    public void end(int status) {
+        if (!ended.compareAndSet(false, true)) {
+            return;
+        }
+        long durationMicros = (System.nanoTime() - startNanos) / 1000;
+        Level level;
+        if (status >= 500) {
+            level = Level.ERROR;
+        } else if (status >= 400) {
+            level = Level.WARN;
+        } else if (SAMPLE_RATE >= 1.0 || ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE) {
+            level = Level.INFO;
+        } else {
+            level = null;
+        }
+        String event = null;
+        // 다른 스레드가 기록한 단계까지 보이도록 잠금 안에서 스냅샷 (ended 이후의 기록은 무시됨)
+        synchronized (this) {
+            SlowRequestSampler.offer(durationMicros, startMillis, requestId, method, path, status, stepNames,
+                    stepMicros, stepCount, tagNames, tagValues, tagCount, error);
+            if (level != null && eventLogger.isEnabled(level)) {
+                event = toJson(status, durationMicros).toString();
+            }
+        }
+        if (event != null) {
+            eventLogger.log(level, event);
+        }
+    }
+
+    /**
+     * Server-Timing 헤더 값 (단계 이름;dur=밀리초, 마지막에 total)
+     */
+    private synchronized String serverTiming(long totalMicros) {
+        StringBuilder value = new StringBuilder(32 + stepCount * 24);
+        for (int i = 0; i < stepCount; i++) {
+            appendMetric(value, stepNames[i], stepMicros[i]).append(", ");
+        }
+        return appendMetric(value, "total", totalMicros).toString();
+    }
+
+    private static StringBuilder appendMetric(StringBuilder out, String name, long micros) {
+        long fraction = micros % 1000;
+        out.append(name).append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            out.append(fraction < 10 ? "00" : "0");
+        }
+        return out.append(fraction);
+    }
+
+    private synchronized void recordStep(String name) {
+        if (ended.get()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (stepCount < MAX_STEPS) {
+            stepNames[stepCount] = name;
+            stepMicros[stepCount++] = (now - lastNanos) / 1000;
+        }
+        lastNanos = now;
+    }
+
+    private synchronized void recordTag(String name, Object value) {
+        if (!ended.get() && tagCount < MAX_TAGS) {
+            tagNames[tagCount] = name;
+            tagValues[tagCount++] = value;
+        }
+    }
+
+    private JsonObject toJson(int status, long durationMicros) {
+        JsonObject event = new JsonObject();
+        event.addProperty("ts", startMillis);
+        event.addProperty("requestId", requestId);
+        event.addProperty("method", method);
+        event.addProperty("path", path);
+        event.addProperty("status", status);
+        event.addProperty("durationMicros", durationMicros);
+        if (stepCount > 0) {
+            JsonObject steps = new JsonObject();
+            for (int i = 0; i < stepCount; i++) {
+                steps.addProperty(stepNames[i], stepMicros[i]);
+            }
+            event.add("stepsMicros", steps);
+        }
+        for (int i = 0; i < tagCount; i++) {
+            Object value = tagValues[i];
+            if (value instanceof Number) {
+                event.addProperty(tagNames[i], (Number) value);
+            } else if (value instanceof Boolean) {
+                event.addProperty(tagNames[i], (Boolean) value);
+            } else if (value != null) {
+                event.addProperty(tagNames[i], value.toString());
+            }
+        }
+        if (error != null) {
+            event.addProperty("error", error);
+        }
+        return event;
+    }
+}
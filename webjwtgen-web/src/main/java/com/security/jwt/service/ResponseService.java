@@ -16,8 +16,8 @@ public class ResponseService {
      * 성공 응답
      */
     public static void sendSuccess(HttpServletResponse response, String message) throws IOException {
-        logger.info("=== sendSuccess START ===");
-        logger.info("응답 메시지: {}", message);
+        logger.debug("=== sendSuccess START ===");
+        logger.debug("응답 메시지: {}", message);
         try {
             response.setContentType("application/json; charset=UTF-8");
             response.setStatus(200);
@@ -26,8 +26,8 @@ public class ResponseService {
             result.addProperty("success", true);
             result.addProperty("message", message);
             response.getWriter().write(result.toString());
-            logger.info("성공 응답 전송 완료");
-            logger.info("=== sendSuccess END ===");
+            logger.debug("성공 응답 전송 완료");
+            logger.debug("=== sendSuccess END ===");
         } catch (IOException e) {
             logger.error("성공 응답 전송 실패: {}", e.getMessage(), e);
             throw e;
@@ -39,9 +39,11 @@ public class ResponseService {
      */
     public static void sendSuccessWithData(HttpServletResponse response, String message, String key, String value)
             throws IOException {
-        logger.info("=== sendSuccessWithData START ===");
-        logger.info("응답 메시지: {}, 추가 데이터: {} = {}", message, key,
-                value != null ? value.substring(0, Math.min(value.length(), 50)) + "..." : "null");
+        logger.debug("=== sendSuccessWithData START ===");
+        if (logger.isDebugEnabled()) {
+            logger.debug("응답 메시지: {}, 추가 데이터: {} = {}", message, key,
+                    value != null ? value.substring(0, Math.min(value.length(), 50)) + "..." : "null");
+        }
         try {
             response.setContentType("application/json; charset=UTF-8");
             response.setStatus(200);
@@ -51,8 +53,8 @@ public class ResponseService {
             result.addProperty("message", message);
             result.addProperty(key, value);
             response.getWriter().write(result.toString());
-            logger.info("추가 데이터 응답 전송 완료");
-            logger.info("=== sendSuccessWithData END ===");
+            logger.debug("추가 데이터 응답 전송 완료");
+            logger.debug("=== sendSuccessWithData END ===");
         } catch (IOException e) {
             logger.error("추가 데이터 응답 전송 실패: {}", e.getMessage(), e);
             throw e;
@@ -63,24 +65,63 @@ public class ResponseService {
      * JWT 생성 응답
      */
     public static void sendJWTResponse(HttpServletResponse response, String jwt, String publicKey) throws IOException {
-        logger.info("=== sendJWTResponse START ===");
-        logger.info("JWT 응답 전송 (JWT 크기: {} bytes, PublicKey 크기: {} bytes)",
+        sendJWTResponse(response, jwt, null, publicKey);
+    }
+
+    /**
+     * JWT 생성 응답 (kid 포함, publicKey가 null이면 PEM 생략)
+     */
+    public static void sendJWTResponse(HttpServletResponse response, String jwt, String kid, String publicKey)
+            throws IOException {
+        logger.debug("=== sendJWTResponse START ===");
+        logger.debug("JWT 응답 전송 (JWT 크기: {} bytes, PublicKey 크기: {} bytes)",
                 jwt != null ? jwt.length() : 0,
                 publicKey != null ? publicKey.length() : 0);
+        long startNanos = System.nanoTime();
         try {
             response.setContentType("application/json; charset=UTF-8");
             response.setStatus(200);
+            response.getWriter().write(jwtResponseBody(jwt, kid, publicKey));
+            logger.debug("JWT 응답 전송 완료");
+            logger.debug("=== sendJWTResponse END ===");
+        } catch (IOException e) {
+            logger.error("JWT 응답 전송 실패: {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            MetricsService.RESPONSE_WRITE.recordSince(startNanos);
+        }
+    }
 
-            JsonObject result = new JsonObject();
-            result.addProperty("success", true);
-            result.addProperty("jwt", jwt);
+    /**
+     * JWT 생성 응답 본문 (시작 시 예열에서도 같은 경로로 직렬화)
+     */
+    static String jwtResponseBody(String jwt, String kid, String publicKey) {
+        JsonObject result = new JsonObject();
+        result.addProperty("success", true);
+        result.addProperty("jwt", jwt);
+        if (kid != null) {
+            result.addProperty("kid", kid);
+        }
+        if (publicKey != null) {
             result.addProperty("publicKey", publicKey);
-            response.getWriter().write(result.toString());
-            logger.info("JWT 응답 전송 완료");
-            logger.info("=== sendJWTResponse END ===");
+        }
+        return result.toString();
+    }
+
+    /**
+     * JSON 객체 응답 (결과 객체를 그대로 전송)
+     */
+    public static void sendJson(HttpServletResponse response, int status, JsonObject body) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            response.setContentType("application/json; charset=UTF-8");
+            response.setStatus(status);
+            response.getWriter().write(body.toString());
         } catch (IOException e) {
-            logger.error("JWT 응답 전송 실패: {}", e.getMessage(), e);
+            logger.error("JSON 응답 전송 실패: {}", e.getMessage(), e);
             throw e;
+        } finally {
+            MetricsService.RESPONSE_WRITE.recordSince(startNanos);
         }
     }
 
@@ -88,8 +129,11 @@ public class ResponseService {
      * 에러 응답
      */
     public static void sendError(HttpServletResponse response, int status, String message) throws IOException {
-        logger.info("=== sendError START ===");
-        logger.warn("에러 응답 (Status: {}, Message: {})", status, message);
+        logger.debug("=== sendError START ===");
+        // 추적 중인 요청이면 요청 이벤트에 함께 기록 (RequestTrace)
+        if (!RequestTrace.fail(message)) {
+            logger.warn("에러 응답 (Status: {}, Message: {})", status, message);
+        }
         try {
             response.setContentType("application/json; charset=UTF-8");
             response.setStatus(status);
@@ -98,8 +142,8 @@ public class ResponseService {
             error.addProperty("success", false);
             error.addProperty("error", message);
             response.getWriter().write(error.toString());
-            logger.info("에러 응답 전송 완료");
-            logger.info("=== sendError END ===");
+            logger.debug("에러 응답 전송 완료");
+            logger.debug("=== sendError END ===");
         } catch (IOException e) {
             logger.error("에러 응답 전송 실패: {}", e.getMessage(), e);
             throw e;
@@ -111,8 +155,10 @@ public class ResponseService {
      */
     public static void sendErrorWithInfo(HttpServletResponse response, int status, String message, String key,
             Object value) throws IOException {
-        logger.info("=== sendErrorWithInfo START ===");
-        logger.warn("에러 응답 (Status: {}, Message: {}, 추가정보: {} = {})", status, message, key, value);
+        logger.debug("=== sendErrorWithInfo START ===");
+        if (!RequestTrace.fail(message)) {
+            logger.warn("에러 응답 (Status: {}, Message: {}, 추가정보: {} = {})", status, message, key, value);
+        }
         try {
             response.setContentType("application/json; charset=UTF-8");
             response.setStatus(status);
@@ -126,8 +172,8 @@ public class ResponseService {
                 error.addProperty(key, (Boolean) value);
             }
             response.getWriter().write(error.toString());
-            logger.info("추가 정보 에러 응답 전송 완료");
-            logger.info("=== sendErrorWithInfo END ===");
+            logger.debug("추가 정보 에러 응답 전송 완료");
+            logger.debug("=== sendErrorWithInfo END ===");
         } catch (IOException e) {
             logger.error("추가 정보 에러 응답 전송 실패: {}", e.getMessage(), e);
             throw e;
@@ -138,12 +184,16 @@ public class ResponseService {
      * Keystore 없음 응답 (setup.jsp로 리다이렉트)
      */
     public static void sendKeystoreNotFoundError(HttpServletResponse response) throws IOException {
-        logger.info("=== sendKeystoreNotFoundError START ===");
-        logger.warn("Keystore 없음 - setup.jsp로 리다이렉트");
+        logger.debug("=== sendKeystoreNotFoundError START ===");
+        if (!RequestTrace.fail("Keystore 없음")) {
+            logger.warn("Keystore 없음 - setup.jsp로 리다이렉트");
+        }
         try {
+            // 리다이렉트는 바로 커밋되므로 요청 종료 전에 Server-Timing 설정
+            RequestTrace.writeServerTiming(response);
             response.sendRedirect("/webjwtgen/setup.jsp");
-            logger.info("리다이렉트 완료");
-            logger.info("=== sendKeystoreNotFoundError END ===");
+            logger.debug("리다이렉트 완료");
+            logger.debug("=== sendKeystoreNotFoundError END ===");
         } catch (IOException e) {
             logger.error("리다이렉트 실패: {}", e.getMessage(), e);
             throw e;
@@ -8,7 +8,11 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.KeyPair;
 import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 초기 설정 액션 처리 서비스
@@ -23,24 +27,29 @@ public class SetupActionHandler {
     }
 
     /**
-     * 초기 설정 수행
+     * 초기 설정 수행 (algorithm: 서명 키 알고리즘)
      */
-    public void performInitialSetup(String password, SetupSessionManager sessionManager) throws Exception {
+    public void performInitialSetup(String password, SigningAlgorithm algorithm, SetupSessionManager sessionManager)
+            throws Exception {
         logger.info("=== performInitialSetup START ===");
         try {
             String keystorePath = getKeystorePath();
 
             // 1. Keystore 생성
             logger.info("Step 1: Keystore 생성");
+            KeystoreCredentialVerifier.invalidate();
             createKeystore(keystorePath, password);
 
-            // 2. EC256 키쌍 생성 및 저장
-            logger.info("Step 2: EC256 키쌍 생성 및 저장");
-            generateAndStoreEC256Keys(keystorePath, password);
+            // 2. 서명 키쌍 생성 및 저장
+            logger.info("Step 2: {} 키쌍 생성 및 저장", algorithm.getJwsName());
+            generateAndStoreKeys(keystorePath, password, algorithm);
 
             // 3. 세션에 비밀번호 저장
             logger.info("Step 3: 세션에 비밀번호 저장");
             sessionManager.storePassword(password);
+            publishKeyMaterial(keystorePath, password);
+            // 새로 만든 Keystore이므로 다음 키도 백그라운드에서 미리 생성 (로드만으로는 생성하지 않음)
+            KeyRotationService.requestNextKey();
 
             // 4. 초기화 완료 플래그 생성
             logger.info("Step 4: 초기화 완료 플래그 생성");
@@ -129,13 +138,15 @@ public class SetupActionHandler {
                 logger.info("기존 Keystore 백업 완료: {}", backupPath);
             }
 
-            // Keystore 복원
-            Files.write(Paths.get(keystorePath), keystoreData);
+            // Keystore 복원 (임시 파일 + 원자적 교체)
+            KeystoreService.writeKeystoreData(keystorePath, keystoreData);
+            KeystoreCredentialVerifier.invalidate();
             logger.info("Keystore 복원 완료");
 
             // 세션에 비밀번호 저장
             sessionManager.storePassword(password);
             logger.info("복원된 Keystore 비밀번호를 세션에 저장");
+            publishKeyMaterial(keystorePath, password);
 
             logger.info("=== restoreKeystore END (SUCCESS) ===");
         } catch (Exception e) {
@@ -168,19 +179,19 @@ public class SetupActionHandler {
             Files.copy(Paths.get(keystorePath), Paths.get(backupPath), StandardCopyOption.REPLACE_EXISTING);
             logger.info("Keystore 백업 완료: {}", backupPath);
 
-            // 1. Keystore 비밀번호 변경
-            try (FileOutputStream fos = new FileOutputStream(keystorePath)) {
-                keystore.store(fos, newPassword.toCharArray());
-            }
-            logger.info("Keystore 비밀번호 변경 완료");
-
-            // 2. 키 엔트리의 비밀번호도 변경
-            KeystoreService.changeKeyPassword(keystorePath, newPassword, currentPassword, newPassword);
+            // 1. 메모리에서 키 엔트리 비밀번호 변경
+            KeystoreService.changeKeyPassword(keystore, currentPassword, newPassword);
             logger.info("키 엔트리 비밀번호 변경 완료");
 
+            // 2. 새 Keystore 비밀번호로 한 번에 저장 (다른 복제본이 중간 상태를 보지 않도록 원자적 교체)
+            KeystoreCredentialVerifier.invalidate();
+            KeystoreService.writeKeystore(keystorePath, keystore, newPassword);
+            logger.info("Keystore 비밀번호 변경 완료");
+
             // 새 비밀번호를 세션에 저장
             sessionManager.storePassword(newPassword);
             logger.info("새 비밀번호를 세션에 저장");
+            publishKeyMaterial(keystorePath, newPassword);
 
             logger.info("=== changeKeystorePassword END (SUCCESS) ===");
         } catch (Exception e) {
@@ -190,10 +201,10 @@ public class SetupActionHandler {
     }
 
     /**
-     * 강제 초기화
+     * 강제 초기화 (algorithm: 새 서명 키 알고리즘)
      */
-    public void forceReset(String adminPassword, String newPassword, SetupSessionManager sessionManager)
-            throws Exception {
+    public void forceReset(String adminPassword, String newPassword, SigningAlgorithm algorithm,
+            SetupSessionManager sessionManager) throws Exception {
         logger.info("=== forceReset START ===");
         try {
             String keystorePath = getKeystorePath();
@@ -212,14 +223,17 @@ public class SetupActionHandler {
             }
 
             // 초기 설정과 동일한 과정 수행
+            KeystoreCredentialVerifier.invalidate();
             logger.info("새로운 Keystore 생성");
             createKeystore(keystorePath, newPassword);
 
-            logger.info("EC256 키쌍 생성");
-            generateAndStoreEC256Keys(keystorePath, newPassword);
+            logger.info("{} 키쌍 생성", algorithm.getJwsName());
+            generateAndStoreKeys(keystorePath, newPassword, algorithm);
 
             logger.info("새 비밀번호를 세션에 저장");
             sessionManager.storePassword(newPassword);
+            publishKeyMaterial(keystorePath, newPassword);
+            KeyRotationService.requestNextKey();
 
             logger.info("=== forceReset END (SUCCESS) ===");
         } catch (Exception e) {
@@ -229,57 +243,81 @@ public class SetupActionHandler {
     }
 
     /**
-     * Keystore 생성
+     * 관리자 비밀번호 확인 (진단 정보 조회용, Keystore 비밀번호와 같음)
+     */
+    public boolean verifyAdminPassword(String adminPassword) {
+        return KeystoreCredentialVerifier.verify(getKeystorePath(), adminPassword);
+    }
+
+    /**
+     * 서명 키 교체 (미리 생성된 다음 키로 즉시 교체, 이전 키는 검증용으로 보관)
+     */
+    public JsonObject rotateKeys(String adminPassword) throws Exception {
+        logger.info("=== rotateKeys START ===");
+        try {
+            String keystorePath = getKeystorePath();
+
+            // 관리자 권한 확인
+            if (!KeystoreCredentialVerifier.verify(keystorePath, adminPassword)) {
+                logger.warn("관리자 비밀번호 검증 실패");
+                throw new Exception("관리자 비밀번호가 일치하지 않습니다");
+            }
+
+            String previousKid = KeyMaterialStore.getOrLoad(keystorePath, adminPassword).getKid();
+            KeyMaterial rotated = KeyRotationService.rotateNow();
+
+            JsonObject result = new JsonObject();
+            result.addProperty("success", true);
+            result.addProperty("message", "서명 키가 교체되었습니다");
+            result.addProperty("kid", rotated.getKid());
+            result.addProperty("previousKid", previousKid);
+            logger.info("=== rotateKeys END (SUCCESS) ===");
+            return result;
+        } catch (Exception e) {
+            logger.error("=== rotateKeys END (ERROR) ===", e);
+            throw e;
+        }
+    }
+
+    /**
+     * 변경된 Keystore로 새 키 스냅샷 발행
+     * 새 키를 로드할 수 없으면 이전 키로 계속 서명하지 않도록 스냅샷 폐기
+     */
+    private void publishKeyMaterial(String keystorePath, String password) {
+        try {
+            KeyMaterialStore.publish(keystorePath, password);
+        } catch (Exception e) {
+            logger.error("키 스냅샷 발행 실패, 기존 스냅샷 폐기: {}", e.getMessage(), e);
+            KeyMaterialStore.invalidate();
+        }
+    }
+
+    /**
+     * Keystore 생성 (기존 파일 삭제 후 빈 Keystore 저장)
      */
     private void createKeystore(String keystorePath, String password) throws Exception {
         logger.info("=== createKeystore START (keystorePath: {}) ===", keystorePath);
-        Files.deleteIfExists(Paths.get(keystorePath));
-        logger.info("기존 Keystore 파일 삭제 완료");
+        KeystoreService.createKeystore(keystorePath, password);
         logger.info("=== createKeystore END ===");
     }
 
     /**
-     * EC256 키쌍 생성 및 Keystore에 저장
+     * 서명 키쌍 생성 및 Keystore에 저장 (프로세스 내 생성, keytool 불필요)
      */
-    private void generateAndStoreEC256Keys(String keystorePath, String password) throws Exception {
-        logger.info("=== generateAndStoreEC256Keys START ===");
-        String keystorePass = password;
-        String keyAlias = "ec256-jwt";
-        String keyPassword = password;
-        logger.info("KeyAlias: {}, KeySize: 256", keyAlias);
-
-        // keytool 명령어로 EC256 키쌍 생성
-        ProcessBuilder pb = new ProcessBuilder(
-                "keytool",
-                "-genkeypair",
-                "-alias", keyAlias,
-                "-keyalg", "EC",
-                "-keysize", "256",
-                "-keystore", keystorePath,
-                "-storepass", keystorePass,
-                "-keypass", keyPassword,
-                "-validity", "3650",
-                "-dname", "CN=JWT-EC256, OU=JWT, O=Dev, L=Seoul, ST=Seoul, C=KR");
-
-        pb.redirectErrorStream(true);
-        logger.info("keytool 프로세스 시작");
-        Process process = pb.start();
-        int exitCode = process.waitFor();
-        logger.info("keytool 프로세스 종료 (exitCode: {})", exitCode);
-
-        if (exitCode != 0) {
-            logger.error("Keystore 생성 실패 (exitCode: {})", exitCode);
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            String line;
-            StringBuilder output = new StringBuilder();
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
-            logger.error("keytool 오류 출력: {}", output.toString());
-            throw new Exception("Keystore 생성 실패: " + output.toString());
-        }
-        logger.info("EC256 키쌍 생성 및 Keystore 저장 완료");
-        logger.info("=== generateAndStoreEC256Keys END ===");
+    private void generateAndStoreKeys(String keystorePath, String password, SigningAlgorithm algorithm)
+            throws Exception {
+        logger.info("=== generateAndStoreKeys START ===");
+        long started = System.nanoTime();
+
+        KeyPair keyPair = KeyGenerationService.generateKeyPair(algorithm);
+        X509Certificate certificate = KeyGenerationService.createSelfSignedCertificate(keyPair,
+                KeyGenerationService.defaultSubject(algorithm), KeyGenerationService.DEFAULT_VALIDITY_DAYS);
+        KeystoreService.storeKeyEntry(keystorePath, password, keyPair.getPrivate(),
+                new Certificate[] { certificate }, password);
+
+        logger.info("{} 키쌍 생성 및 Keystore 저장 완료 ({}ms)", algorithm.getJwsName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("=== generateAndStoreKeys END ===");
     }
 
     /**
@@ -7,7 +7,7 @@ import javax.servlet.http.HttpSession;
 
 /**
  * 초기 설정 세션 관리자
- * Keystore 비밀번호 저장/관리
+ * Keystore 비밀번호 저장/관리 (Stateless 모드에서는 세션 없이(null) 생성되며 아무것도 저장하지 않음)
  */
 public class SetupSessionManager {
     private static final Logger logger = LogManager.getLogger(SetupSessionManager.class);
@@ -22,6 +22,12 @@ public class SetupSessionManager {
      */
     public void storePassword(String keystorePassword) {
         logger.info("=== storePassword START ===");
+        if (session == null || StatelessUnlockService.isEnabled()) {
+            // Stateless 모드: 키는 배포 환경의 비밀번호로 로드하므로 세션에 평문 비밀번호를 두지 않음
+            logger.info("Stateless 모드 - 세션에 비밀번호 저장 생략");
+            logger.info("=== storePassword END ===");
+            return;
+        }
         logger.info("비밀번호를 세션에 저장 중");
 
         session.setAttribute("keystorePassword", keystorePassword);
@@ -35,29 +41,24 @@ public class SetupSessionManager {
      * 세션에서 비밀번호 반환
      */
     public String getPassword() {
-        return (String) session.getAttribute("keystorePassword");
+        return session != null ? (String) session.getAttribute("keystorePassword") : null;
     }
 
     /**
      * 세션에 비밀번호가 존재하는지 확인
      */
     public boolean hasPassword() {
-        return session.getAttribute("keystorePassword") != null;
+        return session != null && session.getAttribute("keystorePassword") != null;
     }
 
     /**
      * 세션에서 비밀번호 제거
      */
     public void removePassword() {
+        if (session == null) {
+            return;
+        }
         logger.info("비밀번호 세션에서 제거");
         session.removeAttribute("keystorePassword");
     }
-
-    /**
-     * 캐시 리셋 (Servlet Context)
-     */
-    public void resetCache(javax.servlet.ServletContext context) {
-        logger.info("JWT 키 로드 캐시 리셋");
-        context.setAttribute("jwt_keys_loaded", false);
-    }
 }
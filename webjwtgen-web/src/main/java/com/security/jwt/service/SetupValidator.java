@@ -125,6 +125,22 @@ public class SetupValidator {
         return ValidationResult.success();
     }
 
+    /**
+     * 서명 키 알고리즘 검증 (비어 있으면 기본값 사용)
+     */
+    public static ValidationResult validateAlgorithm(String algorithm) {
+        logger.info("=== validateAlgorithm START ===");
+
+        if (algorithm != null && !algorithm.isEmpty() && SigningAlgorithm.fromName(algorithm) == null) {
+            logger.warn("지원하지 않는 서명 알고리즘: {}", algorithm);
+            return ValidationResult.error("지원하지 않는 서명 알고리즘입니다 (ES256, ES384, ES512, EdDSA)");
+        }
+
+        logger.info("서명 알고리즘 검증 완료");
+        logger.info("=== validateAlgorithm END ===");
+        return ValidationResult.success();
+    }
+
     /**
      * 검증 결과 클래스
      */
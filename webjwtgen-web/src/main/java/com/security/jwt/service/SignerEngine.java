@@ -0,0 +1,115 @@
+package com.security.jwt.service;
+
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * JWS 서명 엔진 (ES256, ES384, ES512, EdDSA)
+ * 로드된 개인키마다 한 번 생성하고, 워커 스레드별로 initSign 된 Signature 인스턴스를 재사용
+ * (Signature는 스레드 안전하지 않으므로 스레드에 한정하여 사용)
+ *
+ * 알고리즘은 개인키에서 정해지며(SigningAlgorithm.of), 헤더 세그먼트(alg, kid)는 생성 시 한 번만 인코딩
+ */
+public final class SignerEngine {
+    private final PrivateKey privateKey;
+    private final SigningAlgorithm algorithm;
+    private final String kid;
+    private final byte[] headerSegment;
+    private final Provider provider;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+
+    public SignerEngine(PrivateKey privateKey) throws GeneralSecurityException {
+        this(privateKey, null);
+    }
+
+    public SignerEngine(PrivateKey privateKey, String kid) throws GeneralSecurityException {
+        this(privateKey, kid, privateKey != null ? CryptoProviders.forAlgorithm(algorithmOf(privateKey)) : null);
+    }
+
+    /**
+     * 지정한 Provider로 서명 (Provider 선택 측정, 비교 벤치마크 등)
+     */
+    public SignerEngine(PrivateKey privateKey, String kid, Provider provider) throws GeneralSecurityException {
+        if (privateKey == null) {
+            throw new InvalidKeyException("개인키가 없습니다");
+        }
+        this.privateKey = privateKey;
+        this.algorithm = algorithmOf(privateKey);
+        this.kid = kid;
+        this.headerSegment = JwtTokenAssembler.encodeHeader(algorithm, kid);
+        this.provider = provider;
+
+        // 생성 시점에 키 검증 겸 현재 스레드용 인스턴스 준비
+        signatures.set(newSignature());
+    }
+
+    /**
+     * 서명 대상 개인키
+     */
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    /**
+     * 서명 알고리즘
+     */
+    public SigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * JWT 헤더의 kid (없으면 null)
+     */
+    public String getKid() {
+        return kid;
+    }
+
+    /**
+     * Base64 URL 인코딩된 헤더 세그먼트 (호출자가 수정하지 않아야 함)
+     */
+    byte[] getHeaderSegment() {
+        return headerSegment;
+    }
+
+    /**
+     * data[offset, offset+length) 구간에 대한 서명 생성 (ECDSA는 DER, EdDSA는 64바이트 원본)
+     */
+    public byte[] sign(byte[] data, int offset, int length) throws GeneralSecurityException {
+        Signature signature = signatures.get();
+        if (signature == null) {
+            signature = newSignature();
+            signatures.set(signature);
+        }
+        try {
+            signature.update(data, offset, length);
+            // sign() 호출 후 Signature는 initSign 직후 상태로 돌아가므로 그대로 재사용 가능
+            return signature.sign();
+        } catch (SignatureException e) {
+            // 상태를 알 수 없는 인스턴스는 폐기
+            signatures.remove();
+            throw e;
+        }
+    }
+
+    public byte[] sign(byte[] data) throws GeneralSecurityException {
+        return sign(data, 0, data.length);
+    }
+
+    private Signature newSignature() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(algorithm.getSignatureAlgorithm(), provider);
+        signature.initSign(privateKey);
+        return signature;
+    }
+
+    private static SigningAlgorithm algorithmOf(PrivateKey privateKey) throws InvalidKeyException {
+        try {
+            return SigningAlgorithm.of(privateKey);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidKeyException(e.getMessage(), e);
+        }
+    }
+}
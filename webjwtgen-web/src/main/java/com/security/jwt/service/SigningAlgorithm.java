@@ -0,0 +1,215 @@
+package com.security.jwt.service;
+
+import java.security.Key;
+import java.security.Provider;
+import java.security.SignatureException;
+import java.security.interfaces.ECKey;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECGenParameterSpec;
+
+import com.security.jwt.verifier.Base64UrlCodec;
+import com.security.jwt.verifier.EcdsaSignatureTranscoder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+/**
+ * JWS 서명 알고리즘 목록
+ * 알고리즘마다 헤더 alg 값, 키 형식(키 생성 알고리즘/곡선), 서명 인코딩(JWS 서명 길이), JCA 서명 알고리즘,
+ * JWK 멤버(kty, crv)를 한곳에 모아 두고 서명/검증 엔진, 키 생성, JWK 변환이 이 값만 사용
+ *
+ * - ES256 / ES384 / ES512: ECDSA P-256 / P-384 / P-521, 서명은 DER로 만든 뒤 r||s로 변환
+ * - EdDSA: Ed25519 (RFC 8037), 서명은 64바이트 원본 그대로 사용, JDK 11에서도 동작하도록 키 생성은 BouncyCastle
+ *
+ * Keystore의 키는 별도 표시 없이 키 자체(EC 곡선 크기 또는 Ed25519)로 알고리즘을 알 수 있음 (of)
+ */
+public enum SigningAlgorithm {
+    ES256("ES256", "EC", "secp256r1", "P-256", "SHA256withECDSA", "SHA256", 32),
+    ES384("ES384", "EC", "secp384r1", "P-384", "SHA384withECDSA", "SHA384", 48),
+    ES512("ES512", "EC", "secp521r1", "P-521", "SHA512withECDSA", "SHA512", 66),
+    EDDSA("EdDSA", "Ed25519", null, "Ed25519", "Ed25519", null, 32);
+
+    private static final String ED25519 = "Ed25519";
+
+    private final String jwsName;
+    private final String keyAlgorithm;
+    private final String curve;
+    private final String jwkCurve;
+    private final String signatureAlgorithm;
+    private final String digest;
+    private final int componentLength;
+    private final int signatureLength;
+    private final int signatureBase64Length;
+
+    SigningAlgorithm(String jwsName, String keyAlgorithm, String curve, String jwkCurve, String signatureAlgorithm,
+            String digest, int componentLength) {
+        this.jwsName = jwsName;
+        this.keyAlgorithm = keyAlgorithm;
+        this.curve = curve;
+        this.jwkCurve = jwkCurve;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.digest = digest;
+        this.componentLength = componentLength;
+        this.signatureLength = componentLength * 2;
+        this.signatureBase64Length = Base64UrlCodec.encodedLength(signatureLength);
+    }
+
+    /**
+     * 헤더 alg 값 (RFC 7518, RFC 8037)
+     */
+    public String getJwsName() {
+        return jwsName;
+    }
+
+    /**
+     * KeyPairGenerator 알고리즘 이름 (EC, Ed25519)
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * 키 생성 파라미터 (EC 곡선, Ed25519는 null)
+     */
+    public AlgorithmParameterSpec getKeyGenParameterSpec() {
+        return curve != null ? new ECGenParameterSpec(curve) : null;
+    }
+
+    /**
+     * 서명 엔진과 인증서 서명에 사용하는 JCA 서명 알고리즘 (ECDSA는 DER 출력)
+     */
+    public String getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    /**
+     * JWS 서명(r||s 또는 Ed25519 원본)을 그대로 검증하는 JCA 서명 알고리즘
+     * BouncyCastle은 SHAxxxwithPLAIN-ECDSA, JDK(SunEC)는 SHAxxxwithECDSAinP1363Format
+     */
+    public String getPlainSignatureAlgorithm(Provider provider) {
+        if (!isEcdsa()) {
+            return signatureAlgorithm;
+        }
+        return BouncyCastleProvider.PROVIDER_NAME.equals(provider.getName())
+                ? digest + "withPLAIN-ECDSA" : digest + "withECDSAinP1363Format";
+    }
+
+    public boolean isEcdsa() {
+        return digest != null;
+    }
+
+    /**
+     * JWK kty (EC, OKP)
+     */
+    public String getJwkKeyType() {
+        return isEcdsa() ? "EC" : "OKP";
+    }
+
+    /**
+     * JWK crv (P-256, P-384, P-521, Ed25519)
+     */
+    public String getJwkCurve() {
+        return jwkCurve;
+    }
+
+    /**
+     * EC 좌표 / r, s 각각의 길이 (Ed25519는 공개키 길이)
+     */
+    public int getComponentLength() {
+        return componentLength;
+    }
+
+    /**
+     * JWS 서명 길이 (바이트)
+     */
+    public int getSignatureLength() {
+        return signatureLength;
+    }
+
+    /**
+     * JWS 서명의 Base64 URL 인코딩 길이
+     */
+    public int getSignatureBase64Length() {
+        return signatureBase64Length;
+    }
+
+    /**
+     * 서명 엔진 출력을 JWS 서명으로 Base64 URL 인코딩하여 dst[dstOffset]부터 기록 (기록한 길이 반환)
+     */
+    public int encodeSignature(byte[] signature, byte[] dst, int dstOffset) throws SignatureException {
+        if (isEcdsa()) {
+            return EcdsaSignatureTranscoder.derToJoseBase64Url(signature, dst, dstOffset, componentLength);
+        }
+        checkRawLength(signature);
+        return Base64UrlCodec.encode(signature, 0, signatureLength, dst, dstOffset);
+    }
+
+    /**
+     * 서명 엔진 출력을 JWS 서명 바이트로 변환
+     */
+    public byte[] toJose(byte[] signature) throws SignatureException {
+        if (isEcdsa()) {
+            byte[] jose = new byte[signatureLength];
+            EcdsaSignatureTranscoder.derToJose(signature, jose, 0, componentLength);
+            return jose;
+        }
+        checkRawLength(signature);
+        return signature;
+    }
+
+    private void checkRawLength(byte[] signature) throws SignatureException {
+        if (signature == null || signature.length != signatureLength) {
+            throw new SignatureException(jwsName + " 서명 길이가 올바르지 않습니다");
+        }
+    }
+
+    /**
+     * 키(공개키/개인키)의 알고리즘 (EC는 곡선 크기로 구분)
+     */
+    public static SigningAlgorithm of(Key key) {
+        if (key instanceof ECKey) {
+            int fieldSize = ((ECKey) key).getParams().getCurve().getField().getFieldSize();
+            for (SigningAlgorithm algorithm : values()) {
+                if (algorithm.isEcdsa() && (fieldSize + 7) / 8 == algorithm.componentLength) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 EC 곡선입니다 (" + fieldSize + "비트)");
+        }
+        // JDK(SunEC)는 "EdDSA", BouncyCastle은 "Ed25519"로 표시
+        String name = key != null ? key.getAlgorithm() : null;
+        if (ED25519.equalsIgnoreCase(name) || EDDSA.jwsName.equalsIgnoreCase(name)) {
+            return EDDSA;
+        }
+        throw new IllegalArgumentException("지원하지 않는 키 형식입니다: " + name);
+    }
+
+    /**
+     * 헤더 alg 값으로 조회 (없으면 null)
+     */
+    public static SigningAlgorithm fromJwsName(String jwsName) {
+        for (SigningAlgorithm algorithm : values()) {
+            if (algorithm.jwsName.equals(jwsName)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 설정/요청 값으로 조회 (대소문자 무시, Ed25519도 허용, 없으면 null)
+     */
+    public static SigningAlgorithm fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (ED25519.equalsIgnoreCase(trimmed)) {
+            return EDDSA;
+        }
+        for (SigningAlgorithm algorithm : values()) {
+            if (algorithm.jwsName.equalsIgnoreCase(trimmed)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,181 @@
+package com.security.jwt.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * JWT 서명 전용 실행기
+ * 컨테이너 스레드 대신 코어 수만큼의 작업 스레드에서 키 로드/서명을 수행하고,
+ * 대기열이 가득 차면 즉시 거부하여 요청이 쌓이지 않도록 함 (load shedding)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.signing.threads / JWT_SIGNING_THREADS: 작업 스레드 수 (기본값: 코어 수)
+ * - jwt.signing.queueCapacity / JWT_SIGNING_QUEUE_CAPACITY: 대기열 크기 (기본값: 스레드 수 x 64)
+ * - jwt.signing.virtualThreads / JWT_SIGNING_VIRTUAL_THREADS: JDK 21 이상에서 가상 스레드 사용 (기본값: false)
+ */
+public class SigningExecutor {
+    private static final Logger logger = LogManager.getLogger(SigningExecutor.class);
+
+    private static final int THREADS = ConfigService.getPositiveInt("jwt.signing.threads", "JWT_SIGNING_THREADS",
+            Runtime.getRuntime().availableProcessors());
+    private static final int QUEUE_CAPACITY = ConfigService.getPositiveInt("jwt.signing.queueCapacity",
+            "JWT_SIGNING_QUEUE_CAPACITY", THREADS * 64);
+    private static final boolean VIRTUAL_THREADS = ConfigService.getBoolean("jwt.signing.virtualThreads",
+            "JWT_SIGNING_VIRTUAL_THREADS", false);
+
+    private static final LongAdder submitted = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder completed = new LongAdder();
+
+    // 플랫폼 스레드 모드: 고정 크기 풀 + 유한 대기열
+    private static final ThreadPoolExecutor platformExecutor;
+    // 가상 스레드 모드: 작업마다 가상 스레드, 동시 작업 수(실행 + 대기)를 세마포어로 제한
+    private static final ExecutorService virtualExecutor;
+    private static final Semaphore virtualPermits;
+
+    static {
+        ExecutorService virtual = VIRTUAL_THREADS ? newVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            virtualExecutor = virtual;
+            virtualPermits = new Semaphore(THREADS + QUEUE_CAPACITY);
+            platformExecutor = null;
+            logger.info("서명 실행기 시작 (가상 스레드, 최대 동시 작업: {})", THREADS + QUEUE_CAPACITY);
+        } else {
+            virtualExecutor = null;
+            virtualPermits = null;
+            platformExecutor = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY), new SigningThreadFactory(),
+                    new ThreadPoolExecutor.AbortPolicy());
+            logger.info("서명 실행기 시작 (스레드: {}, 대기열: {})", THREADS, QUEUE_CAPACITY);
+        }
+    }
+
+    /**
+     * 작업 제출 (대기열이 가득 차면 RejectedExecutionException)
+     */
+    public static void submit(Runnable task) {
+        submitted.increment();
+        Runnable counted = () -> {
+            try {
+                task.run();
+            } finally {
+                completed.increment();
+            }
+        };
+        try {
+            if (virtualExecutor != null) {
+                if (!virtualPermits.tryAcquire()) {
+                    throw new RejectedExecutionException("서명 대기열이 가득 찼습니다");
+                }
+                try {
+                    virtualExecutor.execute(() -> {
+                        try {
+                            counted.run();
+                        } finally {
+                            virtualPermits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    virtualPermits.release();
+                    throw e;
+                }
+            } else {
+                platformExecutor.execute(counted);
+            }
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public static int getQueueDepth() {
+        if (virtualExecutor != null) {
+            // 실행 중인 작업 중 코어 수를 넘는 부분을 대기로 간주
+            int inUse = THREADS + QUEUE_CAPACITY - virtualPermits.availablePermits();
+            return Math.max(0, inUse - THREADS);
+        }
+        return platformExecutor.getQueue().size();
+    }
+
+    public static long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 실행기 상태 (대기열 깊이, 거부 수 등)
+     */
+    public static JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("virtualThreads", virtualExecutor != null);
+        stats.addProperty("threads", THREADS);
+        stats.addProperty("queueCapacity", QUEUE_CAPACITY);
+        stats.addProperty("queueDepth", getQueueDepth());
+        stats.addProperty("active", platformExecutor != null ? platformExecutor.getActiveCount()
+                : Math.min(THREADS, THREADS + QUEUE_CAPACITY - virtualPermits.availablePermits()));
+        stats.addProperty("submitted", submitted.sum());
+        stats.addProperty("completed", completed.sum());
+        stats.addProperty("rejected", rejected.sum());
+        return stats;
+    }
+
+    /**
+     * 실행기 종료 (웹앱 종료 시)
+     */
+    public static void shutdown() {
+        ExecutorService executor = virtualExecutor != null ? virtualExecutor : platformExecutor;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("서명 실행기 종료");
+    }
+
+    /**
+     * JDK 21 이상이면 Executors.newVirtualThreadPerTaskExecutor() 사용 (Java 11 빌드 호환을 위해 리플렉션)
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("가상 스레드를 사용할 수 없어 플랫폼 스레드 풀 사용 (Java {})",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+    /**
+     * 서명 작업 스레드 (데몬)
+     */
+    private static class SigningThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jwt-signer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
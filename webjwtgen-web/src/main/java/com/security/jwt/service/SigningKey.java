@@ -0,0 +1,184 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+
+/**
+ * Keystore의 키 하나 (불변)
+ * active/next 키는 개인키와 서명 엔진을 갖고, retired 키는 공개키만 가짐 (검증 전용)
+ * 검증 엔진은 모든 키가 가지며 상태가 바뀌어도(next → active → retired) 그대로 재사용
+ */
+public final class SigningKey {
+
+    /**
+     * 키 수명 주기 상태
+     */
+    public enum State {
+        /** 현재 서명 키 */
+        ACTIVE,
+        /** 다음 교체 때 승격될 키 (검증자가 미리 캐시) */
+        NEXT,
+        /** 교체된 이전 키 (이미 발급된 토큰 검증용) */
+        RETIRED
+    }
+
+    private final String alias;
+    private final State state;
+    private final String kid;
+    private final PublicKey publicKey;
+    private final PrivateKey privateKey;
+    private final String publicKeyPem;
+    private final SignerEngine signer;
+    private final VerifierEngine verifier;
+    private final long createdAt;
+
+    private SigningKey(String alias, State state, String kid, PublicKey publicKey, PrivateKey privateKey,
+            String publicKeyPem, SignerEngine signer, VerifierEngine verifier, long createdAt) {
+        this.alias = alias;
+        this.state = state;
+        this.kid = kid;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.publicKeyPem = publicKeyPem;
+        this.signer = signer;
+        this.verifier = verifier;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 서명 가능한 키 (active / next) 생성, 서명 엔진은 kid 헤더와 함께 미리 준비
+     */
+    static SigningKey signing(String alias, State state, PrivateKey privateKey, Certificate certificate)
+            throws Exception {
+        PublicKey publicKey = certificate.getPublicKey();
+        String kid = JwkService.thumbprint(publicKey);
+        return new SigningKey(alias, state, kid, publicKey, privateKey, JWTService.convertPublicKeyToPem(publicKey),
+                new SignerEngine(privateKey, kid), new VerifierEngine(publicKey), createdAt(certificate));
+    }
+
+    /**
+     * 검증 전용 키 (retired) 생성
+     */
+    static SigningKey retired(String alias, Certificate certificate) throws Exception {
+        return publicOnly(alias, State.RETIRED, certificate);
+    }
+
+    /**
+     * 인증서만으로 검증 전용 키 생성 (개인키 없이 읽은 Keystore의 active/next 공개키 등)
+     */
+    static SigningKey publicOnly(String alias, State state, Certificate certificate) throws Exception {
+        PublicKey publicKey = certificate.getPublicKey();
+        return new SigningKey(alias, state, JwkService.thumbprint(publicKey), publicKey, null,
+                JWTService.convertPublicKeyToPem(publicKey), null, new VerifierEngine(publicKey),
+                createdAt(certificate));
+    }
+
+    /**
+     * 다음 키를 현재 키로 승격 (서명 엔진 재사용)
+     */
+    SigningKey promote() {
+        return new SigningKey(KeystoreService.KEYSTORE_ALIAS, State.ACTIVE, kid, publicKey, privateKey, publicKeyPem,
+                signer, verifier, createdAt);
+    }
+
+    /**
+     * 현재 선택된 Provider로 서명/검증 엔진을 다시 만든 키 (Provider 선택이 바뀐 경우)
+     */
+    SigningKey withNewEngines() throws GeneralSecurityException {
+        return new SigningKey(alias, state, kid, publicKey, privateKey, publicKeyPem,
+                signer != null ? new SignerEngine(privateKey, kid) : null, new VerifierEngine(publicKey), createdAt);
+    }
+
+    /**
+     * 현재 키를 retired로 전환 (개인키와 서명 엔진은 버림)
+     */
+    SigningKey retire(String retiredAlias) {
+        return new SigningKey(retiredAlias, State.RETIRED, kid, publicKey, null, publicKeyPem, null, verifier,
+                createdAt);
+    }
+
+    /**
+     * 개인키로 서명한 값이 인증서 공개키로 검증되는지 확인 (키/인증서 불일치 검출, retired 키는 생략)
+     */
+    void verifyKeyPair() throws GeneralSecurityException {
+        if (signer == null) {
+            return;
+        }
+        byte[] probe = ("key-check:" + kid).getBytes(StandardCharsets.US_ASCII);
+        Signature verifier = Signature.getInstance(getAlgorithm().getSignatureAlgorithm());
+        verifier.initVerify(publicKey);
+        verifier.update(probe);
+        if (!verifier.verify(signer.sign(probe))) {
+            throw new SignatureException("개인키와 인증서 공개키가 일치하지 않습니다: " + alias);
+        }
+    }
+
+    private static long createdAt(Certificate certificate) {
+        return certificate instanceof X509Certificate
+                ? ((X509Certificate) certificate).getNotBefore().getTime() : 0L;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * RFC 7638 thumbprint
+     */
+    public String getKid() {
+        return kid;
+    }
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * 서명 알고리즘 (키 형식에서 결정)
+     */
+    public SigningAlgorithm getAlgorithm() {
+        return verifier.getAlgorithm();
+    }
+
+    /**
+     * 개인키 (retired 키는 null)
+     */
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    public String getPublicKeyPem() {
+        return publicKeyPem;
+    }
+
+    /**
+     * 서명 엔진 (retired 키는 null)
+     */
+    public SignerEngine getSigner() {
+        return signer;
+    }
+
+    /**
+     * 검증 엔진
+     */
+    public VerifierEngine getVerifier() {
+        return verifier;
+    }
+
+    /**
+     * 인증서 유효 시작 시각 (키 생성 시각)
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,170 @@
+package com.security.jwt.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * 느린 요청 표본 수집기
+ * 최근(windowSeconds 이내) 요청 중 가장 느린 N개를 단계별 소요 시간과 함께 보관 (관리자 페이지 조회용)
+ *
+ * - 슬롯은 시작 시 미리 할당하고, 교체 시 배열 내용을 복사하므로 기록 시 할당 없음
+ * - 빠른 경로: 보관 중인 최솟값보다 빠르고 만료된 슬롯이 없으면 volatile 읽기 두 번으로 종료
+ * - 더 느린 요청이 오면 빈 슬롯 → 만료된 슬롯 → 가장 빠른 슬롯 순으로 교체 (이때만 잠금)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.slowRequests.size / JWT_SLOW_REQUESTS_SIZE: 보관할 요청 수 (기본값: 20)
+ * - jwt.slowRequests.windowSeconds / JWT_SLOW_REQUESTS_WINDOW_SECONDS: 보관 기간 (기본값: 600)
+ */
+public final class SlowRequestSampler {
+    private static final int SIZE = ConfigService.getPositiveInt("jwt.slowRequests.size",
+            "JWT_SLOW_REQUESTS_SIZE", 20);
+    private static final long WINDOW_MILLIS = ConfigService.getPositiveInt("jwt.slowRequests.windowSeconds",
+            "JWT_SLOW_REQUESTS_WINDOW_SECONDS", 600) * 1000L;
+
+    private static final Slot[] slots = new Slot[SIZE];
+    /** 보관 중인 가장 빠른 요청의 소요 시간 (빈 슬롯이 있으면 -1) */
+    private static volatile long floorMicros = -1;
+    /** 가장 오래된 표본이 만료되는 시각 */
+    private static volatile long expiresAt = Long.MAX_VALUE;
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    private SlowRequestSampler() {
+    }
+
+    /**
+     * 종료된 요청 제출 (RequestTrace.end에서 호출)
+     */
+    static void offer(long durationMicros, long startMillis, String requestId, String method, String path,
+            int status, String[] stepNames, long[] stepMicros, int stepCount, String[] tagNames, Object[] tagValues,
+            int tagCount, String error) {
+        if (durationMicros <= floorMicros && startMillis < expiresAt) {
+            return;
+        }
+        synchronized (slots) {
+            Slot victim = null;
+            for (Slot slot : slots) {
+                if (!slot.used || slot.startMillis + WINDOW_MILLIS <= startMillis) {
+                    victim = slot;
+                    break;
+                }
+                if (victim == null || slot.durationMicros < victim.durationMicros) {
+                    victim = slot;
+                }
+            }
+            if (victim.used && victim.startMillis + WINDOW_MILLIS > startMillis
+                    && victim.durationMicros >= durationMicros) {
+                return;
+            }
+            victim.used = true;
+            victim.durationMicros = durationMicros;
+            victim.startMillis = startMillis;
+            victim.requestId = requestId;
+            victim.method = method;
+            victim.path = path;
+            victim.status = status;
+            victim.error = error;
+            victim.stepCount = stepCount;
+            System.arraycopy(stepNames, 0, victim.stepNames, 0, stepCount);
+            System.arraycopy(stepMicros, 0, victim.stepMicros, 0, stepCount);
+            victim.tagCount = tagCount;
+            System.arraycopy(tagNames, 0, victim.tagNames, 0, tagCount);
+            System.arraycopy(tagValues, 0, victim.tagValues, 0, tagCount);
+            updateThresholds();
+        }
+    }
+
+    /**
+     * 빠른 경로 판단 기준 갱신 (잠금 안에서 호출)
+     */
+    private static void updateThresholds() {
+        long floor = Long.MAX_VALUE;
+        long oldest = Long.MAX_VALUE;
+        for (Slot slot : slots) {
+            if (!slot.used) {
+                floor = -1;
+                break;
+            }
+            floor = Math.min(floor, slot.durationMicros);
+            oldest = Math.min(oldest, slot.startMillis);
+        }
+        expiresAt = floor < 0 || oldest == Long.MAX_VALUE ? Long.MAX_VALUE : oldest + WINDOW_MILLIS;
+        floorMicros = floor;
+    }
+
+    /**
+     * 보관 중인 느린 요청 목록 (느린 순, 만료된 표본 제외)
+     */
+    public static JsonObject getSnapshot() {
+        long now = System.currentTimeMillis();
+        JsonArray requests = new JsonArray();
+        synchronized (slots) {
+            List<Slot> live = new ArrayList<>();
+            for (Slot slot : slots) {
+                if (slot.used && slot.startMillis + WINDOW_MILLIS > now) {
+                    live.add(slot);
+                }
+            }
+            live.sort((a, b) -> Long.compare(b.durationMicros, a.durationMicros));
+            for (Slot slot : live) {
+                requests.add(slot.toJson());
+            }
+        }
+        JsonObject result = new JsonObject();
+        result.addProperty("size", SIZE);
+        result.addProperty("windowSeconds", WINDOW_MILLIS / 1000);
+        result.add("requests", requests);
+        return result;
+    }
+
+    /**
+     * 미리 할당된 표본 슬롯
+     */
+    private static final class Slot {
+        private boolean used;
+        private long durationMicros;
+        private long startMillis;
+        private String requestId;
+        private String method;
+        private String path;
+        private int status;
+        private String error;
+        private final String[] stepNames = new String[RequestTrace.MAX_STEPS];
+        private final long[] stepMicros = new long[RequestTrace.MAX_STEPS];
+        private int stepCount;
+        private final String[] tagNames = new String[RequestTrace.MAX_TAGS];
+        private final Object[] tagValues = new Object[RequestTrace.MAX_TAGS];
+        private int tagCount;
+
+        private JsonObject toJson() {
+            JsonObject item = new JsonObject();
+            item.addProperty("ts", startMillis);
+            item.addProperty("requestId", requestId);
+            item.addProperty("method", method);
+            item.addProperty("path", path);
+            item.addProperty("status", status);
+            item.addProperty("durationMicros", durationMicros);
+            JsonObject steps = new JsonObject();
+            for (int i = 0; i < stepCount; i++) {
+                steps.addProperty(stepNames[i], stepMicros[i]);
+            }
+            item.add("stepsMicros", steps);
+            for (int i = 0; i < tagCount; i++) {
+                if (tagValues[i] != null) {
+                    item.addProperty(tagNames[i], tagValues[i].toString());
+                }
+            }
+            if (error != null) {
+                item.addProperty("error", error);
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.security.jwt.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Stateless 서명 모드
+ * 웹앱 시작 시 배포 환경이 넣어 준 비밀번호(환경 변수 또는 마운트된 Secret 파일)로 Keystore를 한 번 잠금 해제하여,
+ * 세션 없이 어느 복제본에서든 /generate 요청을 처리 (스티키 세션, 세션별 비밀번호 보관 불필요)
+ *
+ * - 비밀번호 출처: KEYSTORE_PASSWORD_FILE(파일 내용, 끝의 줄바꿈 제외) → KEYSTORE_PASSWORD 순
+ * - 출처가 설정되어 있으면 모드 활성화: 세션 확인을 생략하고 세션에 비밀번호를 저장하지 않음
+ * - 스냅샷이 폐기되면(파일 변경 후 재로드 실패 등) 다음 요청에서 같은 출처를 다시 읽어 로드
+ *   (Secret 파일이 교체되었으면 새 비밀번호 사용)
+ * - 요청마다 받는 password 파라미터 검증은 그대로 유지 (클라이언트 인증)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.keystore.passwordFile / KEYSTORE_PASSWORD_FILE: 비밀번호 파일 경로 (기본값: 없음)
+ * - KEYSTORE_PASSWORD: 비밀번호 (환경 변수만, 기본값: 없음)
+ */
+public class StatelessUnlockService {
+    private static final Logger logger = LogManager.getLogger(StatelessUnlockService.class);
+    private static final String KEYSTORE_FILE = "keystore.jks";
+
+    private static final String PASSWORD_FILE = ConfigService.get("jwt.keystore.passwordFile",
+            "KEYSTORE_PASSWORD_FILE", null);
+    private static final boolean ENABLED = PASSWORD_FILE != null
+            || PasswordService.getKeystorePasswordFromEnv(null) != null;
+
+    private StatelessUnlockService() {
+    }
+
+    /**
+     * Stateless 모드 여부 (비밀번호 출처가 설정되어 있으면 true)
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 시작 시 잠금 해제 (WarmupService에서 호출)
+     * Keystore가 아직 없으면(초기 설정 전) 건너뛰고, 실패해도 웹앱 시작은 계속 (다음 요청에서 다시 시도)
+     */
+    public static void unlockAtStartup(String webappPath) {
+        if (!ENABLED) {
+            logger.info("Stateless 모드 사용 안 함 (세션의 비밀번호로 키 로드)");
+            return;
+        }
+        if (webappPath == null) {
+            return;
+        }
+        Path keystorePath = Paths.get(webappPath, KEYSTORE_FILE);
+        if (!Files.exists(keystorePath)) {
+            logger.info("Stateless 모드: Keystore 없음, 초기 설정 후 로드");
+            return;
+        }
+        try {
+            KeyMaterial keys = KeyMaterialStore.getOrLoad(keystorePath.toString(), getPassword());
+            logger.info("Stateless 모드: 시작 시 Keystore 잠금 해제 (generation: {}, kid: {})",
+                    keys.getGeneration(), keys.getKid());
+        } catch (Exception e) {
+            logger.error("Stateless 모드: 시작 시 Keystore 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설정된 출처에서 비밀번호 조회 (모드가 꺼져 있거나 읽을 수 없으면 null)
+     */
+    public static String getPassword() {
+        if (!ENABLED) {
+            return null;
+        }
+        if (PASSWORD_FILE != null) {
+            try {
+                String password = new String(Files.readAllBytes(Paths.get(PASSWORD_FILE)), StandardCharsets.UTF_8);
+                return stripTrailingNewline(password);
+            } catch (IOException e) {
+                logger.error("Keystore 비밀번호 파일 읽기 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+        return PasswordService.getKeystorePasswordFromEnv(null);
+    }
+
+    private static String stripTrailingNewline(String value) {
+        int end = value.length();
+        while (end > 0 && (value.charAt(end - 1) == '\n' || value.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return end > 0 ? value.substring(0, end) : null;
+    }
+}
@@ -0,0 +1,240 @@
+package com.security.jwt.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.security.jwt.verifier.Base64UrlCodec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * JWT 검증 서비스
+ * compact JWS를 점(.) 위치로만 나누어(정규식/split 없음) 바이트 단위로 디코딩하고,
+ * 키 스냅샷의 kid별 검증 엔진(스레드별 Signature 재사용)으로 서명을 검증한 뒤 exp/nbf/iat 확인
+ * 헤더 alg는 SigningAlgorithm에 있고 kid의 키 알고리즘과 같아야 함 (ES256, ES384, ES512, EdDSA)
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.verify.clockSkewSeconds / JWT_VERIFY_CLOCK_SKEW_SECONDS: exp/nbf/iat 허용 오차 (기본값: 60)
+ */
+public class TokenVerificationService {
+    private static final Logger logger = LogManager.getLogger(TokenVerificationService.class);
+    private static final long CLOCK_SKEW_SECONDS = ConfigService.getNonNegativeInt("jwt.verify.clockSkewSeconds",
+            "JWT_VERIFY_CLOCK_SKEW_SECONDS", 60);
+
+    /** 검증 실패 사유 코드 */
+    public static final String MALFORMED = "MALFORMED";
+    public static final String UNSUPPORTED_ALGORITHM = "UNSUPPORTED_ALGORITHM";
+    public static final String UNKNOWN_KEY = "UNKNOWN_KEY";
+    public static final String INVALID_SIGNATURE = "INVALID_SIGNATURE";
+    public static final String EXPIRED = "EXPIRED";
+    public static final String NOT_YET_VALID = "NOT_YET_VALID";
+    public static final String ISSUED_IN_FUTURE = "ISSUED_IN_FUTURE";
+
+    /**
+     * 토큰 하나 검증 (예외를 던지지 않고 결과 객체 반환)
+     */
+    public static JsonObject verify(String token, KeyMaterial keys) {
+        return verify(token, keys, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * NDJSON(한 줄에 토큰 하나: 그대로, JSON 문자열, 또는 {"token": ...}) 또는 JSON 배열 입력을
+     * 코어 수만큼 병렬 검증하여 {"index", "valid", ...} 결과를 한 줄씩 기록
+     */
+    public static BatchProcessor.BatchResult verifyBatch(BufferedReader in, Writer out, KeyMaterial keys)
+            throws IOException {
+        // 배치 전체를 같은 기준 시각으로 검증
+        long now = System.currentTimeMillis() / 1000;
+        return BatchProcessor.run(in, out, (index, element, failed) -> verifyOne(index, element, keys, now, failed),
+                true);
+    }
+
+    private static String verifyOne(long index, JsonElement element, KeyMaterial keys, long now, AtomicLong failed) {
+        String token = null;
+        if (element != null && element.isJsonPrimitive()) {
+            token = element.getAsString();
+        } else if (element != null && element.isJsonObject()) {
+            JsonElement value = element.getAsJsonObject().get("token");
+            token = (value != null && value.isJsonPrimitive()) ? value.getAsString() : null;
+        }
+
+        JsonObject result = verify(token, keys, now);
+        if (!result.get("valid").getAsBoolean()) {
+            failed.incrementAndGet();
+        }
+        JsonObject line = new JsonObject();
+        line.addProperty("index", index);
+        for (String name : result.keySet()) {
+            line.add(name, result.get(name));
+        }
+        return line.toString();
+    }
+
+    static JsonObject verify(String token, KeyMaterial keys, long now) {
+        if (token == null || token.isEmpty()) {
+            return invalid(MALFORMED, "토큰이 없습니다");
+        }
+
+        // 1. header.payload.signature 구분 (정확히 점 두 개)
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        int firstDot = indexOf(bytes, 0);
+        int secondDot = firstDot < 0 ? -1 : indexOf(bytes, firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == bytes.length - 1
+                || indexOf(bytes, secondDot + 1) >= 0) {
+            return invalid(MALFORMED, "compact JWS 형식이 아닙니다");
+        }
+
+        // 2. 헤더/페이로드 디코딩
+        JsonObject header;
+        JsonObject claims;
+        try {
+            header = parseObject(decode(bytes, 0, firstDot));
+            claims = parseObject(decode(bytes, firstDot + 1, secondDot - firstDot - 1));
+        } catch (IllegalArgumentException | JsonParseException e) {
+            return invalid(MALFORMED, e.getMessage());
+        }
+
+        // 3. 알고리즘 확인 후 서명 디코딩 (서명 길이는 알고리즘별 고정)
+        String alg = getString(header, "alg");
+        SigningAlgorithm algorithm = SigningAlgorithm.fromJwsName(alg);
+        if (algorithm == null) {
+            return invalid(UNSUPPORTED_ALGORITHM, "지원하지 않는 알고리즘입니다: " + alg);
+        }
+        if (header.has("crit")) {
+            return invalid(UNSUPPORTED_ALGORITHM, "crit 헤더는 지원하지 않습니다");
+        }
+        byte[] signature;
+        int signatureLength = bytes.length - secondDot - 1;
+        if (signatureLength != algorithm.getSignatureBase64Length()) {
+            return invalid(INVALID_SIGNATURE, alg + " 서명 길이가 올바르지 않습니다");
+        }
+        try {
+            signature = decode(bytes, secondDot + 1, signatureLength);
+        } catch (IllegalArgumentException e) {
+            return invalid(MALFORMED, e.getMessage());
+        }
+        String kid = getString(header, "kid");
+
+        // 4. 서명 검증 (키의 알고리즘이 헤더 alg와 같아야 함, kid가 없는 이전 토큰은 같은 알고리즘의 키를 순서대로 시도)
+        SigningKey key;
+        try {
+            if (kid != null) {
+                key = keys.findVerificationKey(kid);
+                if (key == null) {
+                    return invalid(UNKNOWN_KEY, "알 수 없는 kid입니다: " + kid);
+                }
+                if (key.getAlgorithm() != algorithm) {
+                    return invalid(UNSUPPORTED_ALGORITHM, "키의 알고리즘과 다릅니다: " + alg);
+                }
+                if (!key.getVerifier().verify(bytes, 0, secondDot, signature)) {
+                    return invalid(INVALID_SIGNATURE, "서명이 올바르지 않습니다");
+                }
+            } else {
+                key = findSigner(keys.getVerificationKeys(), algorithm, bytes, secondDot, signature);
+                if (key == null) {
+                    return invalid(INVALID_SIGNATURE, "서명이 올바르지 않습니다");
+                }
+            }
+        } catch (Exception e) {
+            logger.error("서명 검증 중 오류: {}", e.getMessage(), e);
+            return invalid(INVALID_SIGNATURE, "서명 검증 실패: " + e.getMessage());
+        }
+
+        // 5. 시간 클레임 확인 (허용 오차 적용)
+        Long exp = getLong(claims, "exp");
+        Long nbf = getLong(claims, "nbf");
+        Long iat = getLong(claims, "iat");
+        JsonObject result = new JsonObject();
+        if (exp != null && now >= exp + CLOCK_SKEW_SECONDS) {
+            result = invalid(EXPIRED, "만료된 토큰입니다");
+        } else if (nbf != null && now + CLOCK_SKEW_SECONDS < nbf) {
+            result = invalid(NOT_YET_VALID, "아직 유효하지 않은 토큰입니다 (nbf)");
+        } else if (iat != null && iat > now + CLOCK_SKEW_SECONDS) {
+            result = invalid(ISSUED_IN_FUTURE, "발급 시각이 미래입니다");
+        } else {
+            result.addProperty("valid", true);
+        }
+        result.addProperty("kid", key.getKid());
+        result.addProperty("keyState", key.getState().name().toLowerCase());
+        copy(claims, result, "iss");
+        copy(claims, result, "sub");
+        copy(claims, result, "aud");
+        copy(claims, result, "exp");
+        copy(claims, result, "nbf");
+        copy(claims, result, "iat");
+        return result;
+    }
+
+    private static SigningKey findSigner(List<SigningKey> candidates, SigningAlgorithm algorithm, byte[] bytes,
+            int length, byte[] signature) throws Exception {
+        for (SigningKey candidate : candidates) {
+            if (candidate.getAlgorithm() == algorithm && candidate.getVerifier().verify(bytes, 0, length, signature)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] decode(byte[] src, int offset, int length) {
+        int decodedLength = Base64UrlCodec.decodedLength(length);
+        if (decodedLength < 0) {
+            throw new IllegalArgumentException("Base64 URL 길이가 올바르지 않습니다");
+        }
+        byte[] decoded = new byte[decodedLength];
+        Base64UrlCodec.decode(src, offset, length, decoded, 0);
+        return decoded;
+    }
+
+    private static JsonObject parseObject(byte[] json) {
+        JsonElement element = JsonParser.parseString(new String(json, StandardCharsets.UTF_8));
+        if (!element.isJsonObject()) {
+            throw new JsonParseException("JSON 객체가 아닙니다");
+        }
+        return element.getAsJsonObject();
+    }
+
+    private static String getString(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        return (value != null && value.isJsonPrimitive()) ? value.getAsString() : null;
+    }
+
+    private static Long getLong(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        if (value == null || !value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+            return null;
+        }
+        return value.getAsLong();
+    }
+
+    private static void copy(JsonObject from, JsonObject to, String name) {
+        JsonElement value = from.get(name);
+        if (value != null) {
+            to.add(name, value);
+        }
+    }
+
+    private static JsonObject invalid(String reason, String message) {
+        JsonObject result = new JsonObject();
+        result.addProperty("valid", false);
+        result.addProperty("reason", reason);
+        result.addProperty("error", message);
+        return result;
+    }
+}
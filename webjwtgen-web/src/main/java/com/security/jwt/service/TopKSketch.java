@@ -0,0 +1,99 @@
+package com.security.jwt.service;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 근사 상위 K 집계 (Count-Min Sketch + 후보 집합)
+ * 요청 경로의 add는 잠금 없이 카운터만 증가시키고, 추정치가 현재 K번째 값 이상인 키만 후보로 올림
+ * 상위 K 계산과 후보 정리, 감쇠는 백그라운드 스레드에서 수행
+ */
+final class TopKSketch<K> {
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1024;
+    private static final int[] SEEDS = { 0x9e3779b9, 0x85ebca6b, 0xc2b2ae35, 0x27d4eb2f };
+
+    private final int k;
+    private final int maxCandidates;
+    private final AtomicLongArray counters = new AtomicLongArray(DEPTH * WIDTH);
+    private final Map<K, Boolean> candidates = new ConcurrentHashMap<>();
+    private volatile long admissionThreshold;
+
+    TopKSketch(int k) {
+        this.k = k;
+        this.maxCandidates = k * 4;
+    }
+
+    /**
+     * 한 번 관측
+     */
+    void add(K key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+        }
+        if (estimate >= admissionThreshold && candidates.size() < maxCandidates * 2) {
+            candidates.putIfAbsent(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 추정 빈도 (실제보다 작지 않음)
+     */
+    long estimate(K key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 추정 빈도가 minCount 이상인 상위 K개 (빈도 내림차순), 후보 집합도 함께 정리
+     */
+    List<K> topK(long minCount) {
+        List<Map.Entry<K, Long>> ranked = new ArrayList<>(candidates.size());
+        for (K key : candidates.keySet()) {
+            ranked.add(new AbstractMap.SimpleImmutableEntry<>(key, estimate(key)));
+        }
+        ranked.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+
+        List<K> top = new ArrayList<>(k);
+        for (int i = 0; i < ranked.size(); i++) {
+            Map.Entry<K, Long> entry = ranked.get(i);
+            if (i >= maxCandidates) {
+                candidates.remove(entry.getKey());
+            } else if (top.size() < k && entry.getValue() >= minCount) {
+                top.add(entry.getKey());
+            }
+        }
+        admissionThreshold = ranked.size() >= k ? ranked.get(k - 1).getValue() : 0;
+        return top;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 (최근 요청 위주로 반영)
+     */
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            long value;
+            do {
+                value = counters.get(i);
+            } while (value != 0 && !counters.compareAndSet(i, value, value >> 1));
+        }
+        admissionThreshold >>= 1;
+        candidates.keySet().removeIf(key -> estimate(key) == 0);
+    }
+
+    private static int index(int row, int hash) {
+        int h = (hash ^ SEEDS[row]) * 0x45d9f3b;
+        h ^= h >>> 16;
+        return row * WIDTH + (h & (WIDTH - 1));
+    }
+}
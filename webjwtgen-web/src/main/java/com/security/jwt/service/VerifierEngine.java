@@ -0,0 +1,87 @@
+package com.security.jwt.service;
+
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * JWS 검증 엔진 (ES256, ES384, ES512, EdDSA)
+ * 공개키마다 한 번 생성하고, 워커 스레드별로 initVerify 된 Signature 인스턴스를 재사용
+ * JWS 서명(r||s)을 DER로 바꾸지 않고 바로 검증 (BC: SHAxxxwithPLAIN-ECDSA, SunEC: SHAxxxwithECDSAinP1363Format)
+ */
+public final class VerifierEngine {
+    private final PublicKey publicKey;
+    private final SigningAlgorithm algorithm;
+    private final Provider provider;
+    private final String jcaAlgorithm;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+
+    public VerifierEngine(PublicKey publicKey) throws GeneralSecurityException {
+        this(publicKey, publicKey != null ? CryptoProviders.forAlgorithm(algorithmOf(publicKey)) : null);
+    }
+
+    /**
+     * 지정한 Provider로 검증 (Provider 선택 측정 등)
+     */
+    public VerifierEngine(PublicKey publicKey, Provider provider) throws GeneralSecurityException {
+        if (publicKey == null) {
+            throw new InvalidKeyException("공개키가 없습니다");
+        }
+        this.publicKey = publicKey;
+        this.algorithm = algorithmOf(publicKey);
+        this.provider = provider;
+        this.jcaAlgorithm = algorithm.getPlainSignatureAlgorithm(provider);
+
+        // 생성 시점에 키 검증 겸 현재 스레드용 인스턴스 준비
+        signatures.set(newSignature());
+    }
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * 검증 알고리즘 (공개키에서 결정)
+     */
+    public SigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * data[offset, offset+length)에 대한 JWS 서명(r||s 또는 Ed25519) 검증
+     */
+    public boolean verify(byte[] data, int offset, int length, byte[] joseSignature)
+            throws GeneralSecurityException {
+        Signature signature = signatures.get();
+        if (signature == null) {
+            signature = newSignature();
+            signatures.set(signature);
+        }
+        try {
+            signature.update(data, offset, length);
+            // verify() 호출 후 Signature는 initVerify 직후 상태로 돌아가므로 그대로 재사용 가능
+            return signature.verify(joseSignature);
+        } catch (SignatureException e) {
+            // 형식이 잘못된 서명: 상태를 알 수 없는 인스턴스는 폐기하고 검증 실패로 처리
+            signatures.remove();
+            return false;
+        }
+    }
+
+    private Signature newSignature() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(jcaAlgorithm, provider);
+        signature.initVerify(publicKey);
+        return signature;
+    }
+
+    private static SigningAlgorithm algorithmOf(PublicKey publicKey) throws InvalidKeyException {
+        try {
+            return SigningAlgorithm.of(publicKey);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidKeyException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Base64;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * 시작 시 예열(warm-up)
+ * 배포 직후 첫 요청들이 클래스 로딩, Provider 등록, Keystore 파싱, EC 사전 계산 테이블, JIT 컴파일 비용을
+ * 떠안지 않도록 백그라운드 스레드에서 발급/검증 경로를 미리 실행하고, 끝나면 준비 완료(ready)로 전환
+ *
+ * - 키 스냅샷 로드 (Stateless 모드면 StatelessUnlockService로 잠금 해제)
+ * - 로드된 키(없으면 임시 키)로 서명/검증 Provider 선택 (ProviderCalibration, 예열을 끄더라도 수행)
+ * - 버리는 토큰을 설정한 개수만큼 서명 후 검증 (키가 아직 없으면 jwt.keys.algorithm(기본 ES256)의 임시 키 사용)
+ * - 발급/검증/JWK Set 응답 본문 직렬화
+ * - 예열에서 발급한 토큰은 캐시에 넣거나 응답하지 않음 (단계별 지연 시간 지표에는 포함됨)
+ * - 준비 상태는 /health/ready(HealthServlet)로 노출, 예열이 실패해도 끝나면 준비 완료로 전환
+ *
+ * 설정 (시스템 프로퍼티 / 환경 변수):
+ * - jwt.warmup.enabled / JWT_WARMUP_ENABLED: 예열 사용 여부 (기본값: true, false면 시작 즉시 준비 완료)
+ * - jwt.warmup.tokens / JWT_WARMUP_TOKENS: 서명/검증할 토큰 수 (기본값: 2000)
+ */
+public final class WarmupService {
+    private static final Logger logger = LogManager.getLogger(WarmupService.class);
+    private static final String ISSUER = "webjwtgen-warmup";
+    private static final long TOKEN_TTL_SECONDS = 60;
+
+    private static final boolean ENABLED = ConfigService.getBoolean("jwt.warmup.enabled", "JWT_WARMUP_ENABLED",
+            true);
+    private static final int TOKENS = ConfigService.getNonNegativeInt("jwt.warmup.tokens", "JWT_WARMUP_TOKENS",
+            2000);
+
+    /**
+     * 예열 상태
+     */
+    public enum State {
+        /** 아직 시작하지 않음 */
+        PENDING,
+        /** 예열 중 */
+        RUNNING,
+        /** 준비 완료 */
+        READY
+    }
+
+    private static volatile State state = State.PENDING;
+    private static volatile long durationMillis;
+    private static volatile int tokensSigned;
+    private static volatile String keySource;
+    private static volatile String error;
+    private static Thread thread;
+
+    private WarmupService() {
+    }
+
+    /**
+     * 예열 시작 (AppLifecycleListener에서 호출)
+     */
+    public static synchronized void start(String webappPath) {
+        if (state != State.PENDING) {
+            return;
+        }
+        if (!ENABLED) {
+            logger.info("시작 시 예열 사용 안 함");
+            try {
+                unlockAndCalibrate(webappPath);
+            } catch (GeneralSecurityException e) {
+                logger.warn("서명 Provider 선택 실패: {}", e.getMessage());
+            }
+            state = State.READY;
+            return;
+        }
+        state = State.RUNNING;
+        thread = new Thread(() -> run(webappPath), "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 예열 중단 (웹앱 종료 시)
+     */
+    public static synchronized void shutdown() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * 준비 완료 여부
+     */
+    public static boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * 예열 상태 (/health/ready 응답용)
+     */
+    public static JsonObject getStatus() {
+        JsonObject status = new JsonObject();
+        status.addProperty("status", state == State.READY ? "ready" : "warming");
+        status.addProperty("warmup", state.name().toLowerCase());
+        status.addProperty("keysLoaded", KeyMaterialStore.current() != null);
+        if (state == State.READY && ENABLED) {
+            status.addProperty("warmupMillis", durationMillis);
+            status.addProperty("tokens", tokensSigned);
+            status.addProperty("keySource", keySource);
+            if (error != null) {
+                status.addProperty("error", error);
+            }
+        }
+        return status;
+    }
+
+    private static void run(String webappPath) {
+        long startNanos = System.nanoTime();
+        try {
+            KeyPair ephemeral = unlockAndCalibrate(webappPath);
+            KeyMaterial keys = KeyMaterialStore.current();
+            if (keys != null) {
+                keySource = "keystore";
+                exercise(keys.getSigner(), keys, null);
+                ResponseService.jwtResponseBody("", keys.getKid(), keys.getPublicKeyPem());
+                new String(keys.getJwkSet().getBody(), StandardCharsets.UTF_8);
+            } else {
+                // 초기 설정 전이거나 세션 모드: 같은 코드 경로를 임시 키로 예열
+                keySource = "ephemeral";
+                exercise(new SignerEngine(ephemeral.getPrivate(), "warmup"), null,
+                        new VerifierEngine(ephemeral.getPublic()));
+            }
+        } catch (Exception e) {
+            error = e.getMessage();
+            logger.warn("시작 시 예열 실패 (준비 완료로 전환): {}", e.getMessage(), e);
+        } finally {
+            durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            state = State.READY;
+            logger.info("시작 시 예열 완료 ({}ms, 토큰: {}, 키: {})", durationMillis, tokensSigned, keySource);
+        }
+    }
+
+    /**
+     * 키 스냅샷 로드 후 그 키로 서명 Provider 선택
+     * 로드된 키가 없으면 임시 키로 선택하고 그 키쌍을 반환 (있으면 null)
+     */
+    private static KeyPair unlockAndCalibrate(String webappPath) throws GeneralSecurityException {
+        CryptoProviders.bouncyCastle();
+        StatelessUnlockService.unlockAtStartup(webappPath);
+        KeyMaterial keys = KeyMaterialStore.current();
+        if (keys != null) {
+            ProviderCalibration.calibrate(keys.getPrivateKey(), keys.getPublicKey());
+            return null;
+        }
+        KeyPair keyPair = KeyGenerationService.generateKeyPair(
+                KeyGenerationService.configuredAlgorithm(SigningAlgorithm.ES256));
+        ProviderCalibration.calibrate(keyPair.getPrivate(), keyPair.getPublic());
+        return keyPair;
+    }
+
+    /**
+     * 버리는 토큰 서명 + 검증 + 응답 직렬화 반복
+     * keys가 있으면 요청 경로와 같은 TokenVerificationService로, 없으면 verifier로 직접 검증
+     */
+    private static void exercise(SignerEngine signer, KeyMaterial keys, VerifierEngine verifier)
+            throws GeneralSecurityException {
+        JwtTokenAssembler assembler = new JwtTokenAssembler();
+        for (int i = 0; i < TOKENS; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            long now = System.currentTimeMillis() / 1000;
+            String jwt = assembler.assemble(now + TOKEN_TTL_SECONDS, ISSUER, "warmup-" + i, now, signer);
+            boolean valid;
+            if (keys != null) {
+                JsonObject result = TokenVerificationService.verify(jwt, keys);
+                valid = result.get("valid").getAsBoolean();
+                result.toString();
+            } else {
+                valid = verifyRaw(verifier, jwt);
+            }
+            if (!valid) {
+                throw new GeneralSecurityException("예열 토큰 검증 실패");
+            }
+            ResponseService.jwtResponseBody(jwt, signer.getKid(), null);
+            tokensSigned = i + 1;
+        }
+    }
+
+    private static boolean verifyRaw(VerifierEngine verifier, String jwt) throws GeneralSecurityException {
+        int dot = jwt.lastIndexOf('.');
+        byte[] data = jwt.getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = Base64.getUrlDecoder().decode(jwt.substring(dot + 1));
+        return verifier.verify(data, 0, dot, signature);
+    }
+}
@@ -3,6 +3,9 @@
 // 페이지 로드 시 초기화
 document.addEventListener('DOMContentLoaded', function() {
     showAdminSection();
+    // 진단 정보는 관리자 비밀번호가 필요하므로 새로고침 버튼을 누를 때 조회
+    document.getElementById('slowRequests').textContent = '새로고침을 누르면 관리자 비밀번호를 확인한 뒤 조회합니다';
+    document.getElementById('cryptoProvider').textContent = '새로고침을 누르면 관리자 비밀번호를 확인한 뒤 조회합니다';
 });
 
 // 관리자 섹션 표시
@@ -236,3 +239,117 @@ async function changePassword() {
         msgEl.className = 'message error';
     }
 }
+
+// 관리자 진단 정보 조회 (status 또는 slowRequests, 취소하면 null)
+async function fetchDiagnostics(action) {
+    const adminPassword = prompt('관리자(Keystore) 비밀번호를 입력하세요:');
+    if (!adminPassword) {
+        return null;
+    }
+    const response = await fetch('/webjwtgen/setup?action=' + action, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/x-www-form-urlencoded'
+        },
+        body: 'adminPassword=' + encodeURIComponent(adminPassword)
+    });
+    const data = await response.json();
+    if (!response.ok) {
+        throw new Error(data.error || ('HTTP ' + response.status));
+    }
+    return data;
+}
+
+// 느린 요청 목록 조회
+async function loadSlowRequests() {
+    const container = document.getElementById('slowRequests');
+    try {
+        const data = await fetchDiagnostics('slowRequests');
+        if (!data) {
+            return;
+        }
+
+        if (!data.requests || data.requests.length === 0) {
+            container.textContent = '최근 ' + Math.round(data.windowSeconds / 60) + '분 동안 기록된 요청이 없습니다';
+            return;
+        }
+
+        const table = document.createElement('table');
+        table.style.width = '100%';
+        table.style.borderCollapse = 'collapse';
+        table.style.fontSize = '13px';
+        addSlowRequestRow(table, 'th', ['시각', '요청', '상태', '전체 (ms)', '단계별 (ms)', '요청 ID']);
+        data.requests.forEach(item => {
+            const steps = Object.entries(item.stepsMicros || {})
+                .map(([name, micros]) => name + ' ' + formatMillis(micros))
+                .join(', ');
+            addSlowRequestRow(table, 'td', [
+                new Date(item.ts).toLocaleTimeString(),
+                item.method + ' ' + item.path,
+                item.status + (item.error ? ' (' + item.error + ')' : ''),
+                formatMillis(item.durationMicros),
+                steps,
+                item.requestId
+            ]);
+        });
+        container.replaceChildren(table);
+    } catch (error) {
+        container.textContent = '❌ 조회 실패: ' + error.message;
+    }
+}
+
+// 서명 Provider 선택 결과 조회
+async function loadCryptoProvider() {
+    const container = document.getElementById('cryptoProvider');
+    try {
+        const data = await fetchDiagnostics('status');
+        if (!data) {
+            return;
+        }
+        const provider = data.cryptoProvider;
+        if (!provider) {
+            container.textContent = '선택 정보가 없습니다';
+            return;
+        }
+
+        const summary = document.createElement('p');
+        summary.textContent = '사용 중: ' + provider.selected + ' (' + provider.mode + ', 설정: ' + provider.configured
+            + (provider.algorithm ? ', 측정 알고리즘: ' + provider.algorithm : '') + ')';
+        const nodes = [summary];
+        if (provider.candidates) {
+            const table = document.createElement('table');
+            table.style.width = '100%';
+            table.style.borderCollapse = 'collapse';
+            table.style.fontSize = '13px';
+            addSlowRequestRow(table, 'th', ['Provider', '서명 (ops/s)', '검증 (ops/s)', '상호 운용']);
+            provider.candidates.forEach(item => {
+                addSlowRequestRow(table, 'td', [
+                    item.provider + (item.provider === provider.selected ? ' ✅' : ''),
+                    item.signOpsPerSecond,
+                    item.verifyOpsPerSecond,
+                    item.interoperable ? '확인' : '실패' + (item.error ? ' (' + item.error + ')' : '')
+                ]);
+            });
+            nodes.push(table);
+        }
+        container.replaceChildren(...nodes);
+    } catch (error) {
+        container.textContent = '❌ 조회 실패: ' + error.message;
+    }
+}
+
+function addSlowRequestRow(table, cellTag, values) {
+    const row = table.insertRow();
+    values.forEach(value => {
+        const cell = document.createElement(cellTag);
+        cell.textContent = value;
+        cell.style.borderBottom = '1px solid #ddd';
+        cell.style.padding = '6px';
+        cell.style.textAlign = 'left';
+        row.appendChild(cell);
+    });
+}
+
+function formatMillis(micros) {
+    return (micros / 1000).toFixed(1);
+}
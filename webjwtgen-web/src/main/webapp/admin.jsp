@@ -1,4 +1,4 @@
-<%@ page contentType="text/html; charset=UTF-8" %>
+<%@ page contentType="text/html; charset=UTF-8" session="false" %>
 <!DOCTYPE html>
 <html lang="ko">
 <head>
@@ -71,6 +71,50 @@
                     <div id="passwordChangeMessage" class="message" style="margin-top: 10px;"></div>
                 </div>
 
+                <!-- 느린 요청 섹션 -->
+                <div class="section">
+                    <h2>⏱️ 느린 요청</h2>
+
+                    <div class="warning-box">
+                        <div class="warning-title">
+                            <span class="warning-icon">💡</span>
+                            최근 가장 느린 요청
+                        </div>
+                        <div class="warning-text">
+                            최근 요청 중 가장 느린 요청과 단계별 소요 시간(ms)을 보여줍니다.
+                            같은 단계 구분은 각 응답의 Server-Timing 헤더에도 포함됩니다.
+                        </div>
+                    </div>
+
+                    <div class="button-group">
+                        <button class="btn-backup" onclick="loadSlowRequests()">🔄 새로고침</button>
+                    </div>
+
+                    <div id="slowRequests" style="margin-top: 20px; overflow-x: auto;"></div>
+                </div>
+
+                <!-- 서명 Provider 섹션 -->
+                <div class="section">
+                    <h2>🔏 서명 Provider</h2>
+
+                    <div class="warning-box">
+                        <div class="warning-title">
+                            <span class="warning-icon">💡</span>
+                            시작 시 자동 선택
+                        </div>
+                        <div class="warning-text">
+                            시작할 때 로드된 키의 알고리즘으로 Provider별 서명/검증 처리량을 측정하고 가장 빠른 Provider를 사용합니다.
+                            jwt.crypto.provider (JWT_CRYPTO_PROVIDER) 설정으로 고정할 수 있습니다.
+                        </div>
+                    </div>
+
+                    <div class="button-group">
+                        <button class="btn-backup" onclick="loadCryptoProvider()">🔄 새로고침</button>
+                    </div>
+
+                    <div id="cryptoProvider" style="margin-top: 20px; overflow-x: auto;"></div>
+                </div>
+
                 <!-- Keystore 비밀번호 기능 설명 섹션 -->
                 <div class="section">
                     <h2>ℹ️ Keystore 비밀번호 기능</h2>
@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" %>
 <%@ page import="java.nio.file.Files" %>
 <%@ page import="java.nio.file.Paths" %>
 <%
@@ -17,7 +17,7 @@
 <head>
     <meta charset="UTF-8">
     <meta name="viewport" content="width=device-width, initial-scale=1.0">
-    <title>JWT Generator - ES256</title>
+    <title>JWT Generator - ES256 / EdDSA</title>
     <link rel="stylesheet" href="css/style.css">
 </head>
 <body>
@@ -26,7 +26,7 @@
             <div style="display: flex; justify-content: space-between; align-items: center;">
                 <div>
                     <h1>🔐 JWT Generator</h1>
-                    <p>ES256 (ECDSA with SHA-256) 기반 JWT 토큰 생성기</p>
+                    <p>ES256 / ES384 / ES512 / EdDSA(Ed25519) 기반 JWT 토큰 생성기</p>
                 </div>
                 <a href="admin.jsp" style="background: rgba(255,255,255,0.2); color: white; padding: 10px 20px; border-radius: 5px; text-decoration: none; font-weight: 600; font-size: 14px; border: 2px solid white; transition: all 0.3s; display: inline-block;">⚙️ 관리자</a>
             </div>
@@ -1,4 +1,4 @@
-<%@ page contentType="text/html; charset=UTF-8" %>
+<%@ page contentType="text/html; charset=UTF-8" session="false" %>
 <!DOCTYPE html>
 <html lang="ko">
 <head>
@@ -33,6 +33,16 @@
                     <input type="password" id="confirmPassword" name="confirmPassword" placeholder="비밀번호 재입력" required>
                 </div>
 
+                <div class="form-group">
+                    <label for="algorithm">서명 알고리즘</label>
+                    <select id="algorithm" name="algorithm">
+                        <option value="ES256" selected>ES256 (ECDSA P-256, 기본값)</option>
+                        <option value="ES384">ES384 (ECDSA P-384)</option>
+                        <option value="ES512">ES512 (ECDSA P-521)</option>
+                        <option value="EdDSA">EdDSA (Ed25519)</option>
+                    </select>
+                </div>
+
                 <div class="button-group">
                     <button type="submit" class="btn-setup" id="setupBtn">초기 설정</button>
                 </div>
@@ -90,6 +100,7 @@
 
             const password = document.getElementById('password').value;
             const confirmPassword = document.getElementById('confirmPassword').value;
+            const algorithm = document.getElementById('algorithm').value;
             const messageEl = document.getElementById('message');
             const loadingEl = document.getElementById('loading');
             const setupBtn = document.getElementById('setupBtn');
@@ -123,7 +134,8 @@
                     headers: {
                         'Content-Type': 'application/x-www-form-urlencoded',
                     },
-                    body: `password=${encodeURIComponent(password)}&confirmPassword=${encodeURIComponent(confirmPassword)}`
+                    body: `password=${encodeURIComponent(password)}&confirmPassword=${encodeURIComponent(confirmPassword)}` +
+                        `&algorithm=${encodeURIComponent(algorithm)}`
                 });
 
                 console.log('Response status:', response.status);
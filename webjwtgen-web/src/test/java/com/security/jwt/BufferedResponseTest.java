@@ -0,0 +1,103 @@
+package com.security.jwt;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Test;
+
+/**
+ * BufferedResponse 논블로킹 출력 검증 (WriteListener는 등록 즉시 호출되고 기록 내용은 버퍼에 남음)
+ */
+public class BufferedResponseTest {
+
+    @Test
+    public void writeListenerIsCalledImmediately() throws Exception {
+        BufferedResponse response = new BufferedResponse(unusedResponse());
+        ServletOutputStream out = response.getOutputStream();
+        List<String> events = new ArrayList<>();
+
+        out.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                events.add("possible");
+                assertTrue(out.isReady());
+                out.write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertEquals(List.of("possible"), events);
+        RecordingResponse target = new RecordingResponse();
+        response.commitTo(target.proxy);
+        assertEquals("{\"ok\":true}", new String(target.body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeListenerFailureIsReportedToOnError() {
+        BufferedResponse response = new BufferedResponse(unusedResponse());
+        IOException failure = new IOException("boom");
+        List<Throwable> errors = new ArrayList<>();
+
+        response.getOutputStream().setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        assertEquals(List.of(failure), errors);
+    }
+
+    /**
+     * 버퍼 응답이 원본 응답을 건드리지 않는지 확인하기 위한 응답 (호출되면 실패)
+     */
+    private static HttpServletResponse unusedResponse() {
+        return (HttpServletResponse) Proxy.newProxyInstance(BufferedResponseTest.class.getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+                    throw new AssertionError("원본 응답 호출: " + method.getName());
+                });
+    }
+
+    /**
+     * commitTo 결과를 기록하는 응답 (본문만 수집)
+     */
+    private static final class RecordingResponse {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final ServletOutputStream stream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        private final HttpServletResponse proxy = (HttpServletResponse) Proxy.newProxyInstance(
+                BufferedResponseTest.class.getClassLoader(), new Class<?>[] { HttpServletResponse.class },
+                (p, method, args) -> "getOutputStream".equals(method.getName()) ? stream : null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.security.jwt.service;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * IssuanceCache 수명 검증 (이전 초에 서명한 토큰은 iat가 달라지므로 반환하지 않음)
+ */
+public class IssuanceCacheTest {
+    private static final long EXP = 4_000_000_000L;
+
+    @After
+    public void tearDown() {
+        IssuanceCache.purge();
+    }
+
+    @Test
+    public void entryFromPreviousSecondIsNotReturned() {
+        // TTL(기본 1000ms) 안이지만 발급한 초는 이미 지남
+        long previousSecond = (System.currentTimeMillis() / 1000) * 1000 - 500;
+        IssuanceCache.put("kid", EXP, "iss", "sub", "token", previousSecond);
+
+        assertNull(IssuanceCache.get("kid", EXP, "iss", "sub"));
+    }
+
+    @Test
+    public void entryIsReturnedWithinIssuingSecond() {
+        long now;
+        String cached;
+        do {
+            now = System.currentTimeMillis();
+            IssuanceCache.put("kid", EXP, "iss", "sub", "token", now);
+            cached = IssuanceCache.get("kid", EXP, "iss", "sub");
+            // 저장과 조회 사이에 초가 바뀌었으면 다시 시도
+        } while (System.currentTimeMillis() / 1000 != now / 1000);
+
+        assertEquals("token", cached);
+    }
+}
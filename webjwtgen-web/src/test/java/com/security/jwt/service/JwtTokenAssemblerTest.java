@@ -0,0 +1,155 @@
+package com.security.jwt.service;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import com.google.gson.JsonObject;
+import org.junit.Test;
+
+/**
+ * JwtTokenAssembler 회귀 검증
+ * 조립한 header.payload 바이트가 Gson JsonObject.toString() + UTF-8 + Base64 URL 결과와 같은지 비교
+ */
+public class JwtTokenAssemblerTest {
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final long IAT = 1_700_000_000L;
+
+    @Test
+    public void payloadMatchesGsonForSpecialCharacters() throws Exception {
+        SignerEngine signer = signer(SigningAlgorithm.ES256, true);
+        JwtTokenAssembler assembler = new JwtTokenAssembler();
+        for (String value : specialValues()) {
+            assertMatchesGson(assembler, signer, 1_900_000_000L, value, value);
+        }
+    }
+
+    @Test
+    public void payloadMatchesGsonForRandomStrings() throws Exception {
+        SignerEngine signer = signer(SigningAlgorithm.ES256, true);
+        JwtTokenAssembler assembler = new JwtTokenAssembler();
+        Random random = new Random(7519);
+        for (int i = 0; i < 2_000; i++) {
+            assertMatchesGson(assembler, signer, random.nextLong(), randomString(random), randomString(random));
+        }
+    }
+
+    @Test
+    public void payloadMatchesGsonForNumericEdgeCases() throws Exception {
+        SignerEngine signer = signer(SigningAlgorithm.ES256, true);
+        JwtTokenAssembler assembler = new JwtTokenAssembler();
+        for (long exp : new long[] { 0L, -1L, 9L, 10L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 }) {
+            assertMatchesGson(assembler, signer, exp, "iss", "sub");
+        }
+    }
+
+    @Test
+    public void headerMatchesGsonForEveryAlgorithm() throws Exception {
+        JwtTokenAssembler assembler = new JwtTokenAssembler();
+        for (SigningAlgorithm algorithm : SigningAlgorithm.values()) {
+            assertMatchesGson(assembler, signer(algorithm, true), 1_900_000_000L, "iss", "sub ");
+        }
+        // kid가 없는 키 (기존 Gson 구현과 동일한 헤더)
+        assertMatchesGson(assembler, signer(SigningAlgorithm.ES256, false), 1_900_000_000L, "iss", "sub");
+    }
+
+    /**
+     * 같은 인스턴스를 재사용하며 조립 (버퍼 재사용/확장 후에도 같은 결과인지 확인)
+     */
+    private static void assertMatchesGson(JwtTokenAssembler assembler, SignerEngine signer, long exp, String iss,
+            String sub) throws Exception {
+        String jwt = assembler.assemble(exp, iss, sub, IAT, signer);
+        int signatureDot = jwt.lastIndexOf('.');
+
+        JsonObject header = new JsonObject();
+        header.addProperty("alg", signer.getAlgorithm().getJwsName());
+        header.addProperty("typ", "JWT");
+        if (signer.getKid() != null) {
+            header.addProperty("kid", signer.getKid());
+        }
+        JsonObject payload = new JsonObject();
+        payload.addProperty("exp", exp);
+        payload.addProperty("iss", iss);
+        payload.addProperty("sub", sub);
+        payload.addProperty("iat", IAT);
+        String expected = BASE64_URL.encodeToString(header.toString().getBytes(StandardCharsets.UTF_8)) + "."
+                + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("iss=" + escape(iss) + ", sub=" + escape(sub), expected, jwt.substring(0, signatureDot));
+        assertEquals(signer.getAlgorithm().getSignatureBase64Length(), jwt.length() - signatureDot - 1);
+    }
+
+    private static List<String> specialValues() {
+        List<String> values = new ArrayList<>();
+        // 줄 구분자 U+2028, U+2029 (Gson은 \\u 이스케이프로 기록)
+        values.add("\u2028");
+        values.add("\u2029");
+        values.add("a\u2028b\u2029c");
+        // 제어 문자 전체와 DEL
+        StringBuilder controls = new StringBuilder();
+        for (char c = 0; c < 0x20; c++) {
+            values.add(String.valueOf(c));
+            controls.append(c);
+        }
+        values.add(controls.toString());
+        values.add("\u007f");
+        // HTML 관련 문자 (htmlSafe가 아니므로 그대로 기록)
+        values.add("<script>alert('x')</script>");
+        values.add("a&b=c\"d\\e/f");
+        // 짝이 없는 서로게이트는 '?'로 기록
+        values.add("\ud800");
+        values.add("\udc00");
+        values.add("a\ud83db");
+        values.add("\udc00\ud800");
+        values.add("\ud83d");
+        // 짝이 맞는 서로게이트 (4바이트 UTF-8)
+        values.add("\ud83d\ude00");
+        values.add("\ud83d\ud83d\ude00");
+        // 2바이트 / 3바이트 UTF-8 경계
+        values.add("\u0080\u07ff\u0800\uffff");
+        values.add("한글 사용자");
+        values.add("");
+        return values;
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(40);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    sb.append((char) random.nextInt(0x80));
+                    break;
+                case 1:
+                    sb.append((char) (0xd800 + random.nextInt(0x800)));
+                    break;
+                case 2:
+                    sb.append((char) (0x2020 + random.nextInt(0x10)));
+                    break;
+                default:
+                    sb.append((char) random.nextInt(0x10000));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s.length(); i++) {
+            sb.append(String.format("\\u%04x", (int) s.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static SignerEngine signer(SigningAlgorithm algorithm, boolean withKid) throws Exception {
+        KeyPair keyPair = KeyGenerationService.generateKeyPair(algorithm);
+        return withKid
+                ? new SignerEngine(keyPair.getPrivate(), JwkService.thumbprint(keyPair.getPublic()))
+                : new SignerEngine(keyPair.getPrivate());
+    }
+}
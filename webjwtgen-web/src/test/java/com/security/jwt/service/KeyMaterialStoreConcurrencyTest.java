@@ -0,0 +1,214 @@
+package com.security.jwt.service;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * KeyMaterialStore 동시성 검증
+ * getOrLoad / publish / invalidate / rotate를 동시에 실행하면서
+ * - 세대(generation)마다 로드는 한 번 (같은 세대의 스냅샷 객체는 하나)
+ * - getOrLoad는 null이나 일부만 바뀐 스냅샷을 반환하지 않음
+ * - 발급한 토큰은 서명에 사용한 스냅샷과 kid로 검증됨
+ */
+public class KeyMaterialStoreConcurrencyTest {
+    private static final String PASSWORD = "stress-test-password";
+    private static final String EXP = String.valueOf(System.currentTimeMillis() / 1000 + 3600);
+    private static final int READERS = 8;
+    private static final long DURATION_MILLIS = 3_000L;
+    private static final int SINGLE_FLIGHT_ROUNDS = 20;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String keystorePath;
+
+    @Before
+    public void setUp() throws Exception {
+        keystorePath = new File(folder.getRoot(), "keystore.jks").getPath();
+        KeystoreService.createKeystore(keystorePath, PASSWORD);
+        KeyPair keyPair = KeyGenerationService.generateKeyPair(SigningAlgorithm.ES256);
+        KeystoreService.storeKeyEntry(keystorePath, PASSWORD, keyPair.getPrivate(),
+                new Certificate[] { certificate(keyPair) }, PASSWORD);
+        // 다음 키까지 미리 넣어 두어 첫 rotate가 바로 가능하도록 함
+        KeyPair next = KeyGenerationService.generateKeyPair(SigningAlgorithm.ES256);
+        KeyStore keystore = KeystoreService.loadKeystore(keystorePath, PASSWORD);
+        KeystoreService.setNextKeyEntry(keystore, next.getPrivate(), new Certificate[] { certificate(next) },
+                PASSWORD);
+        KeystoreService.writeKeystore(keystorePath, keystore, PASSWORD);
+        KeyMaterialStore.invalidate();
+    }
+
+    @After
+    public void tearDown() {
+        KeyMaterialStore.invalidate();
+    }
+
+    @Test
+    public void concurrentGetOrLoadLoadsOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        try {
+            for (int round = 0; round < SINGLE_FLIGHT_ROUNDS; round++) {
+                KeyMaterialStore.invalidate();
+                CyclicBarrier barrier = new CyclicBarrier(READERS);
+                List<Future<KeyMaterial>> results = new ArrayList<>();
+                for (int i = 0; i < READERS; i++) {
+                    results.add(pool.submit(() -> {
+                        barrier.await();
+                        return KeyMaterialStore.getOrLoad(keystorePath, PASSWORD);
+                    }));
+                }
+
+                Set<KeyMaterial> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Future<KeyMaterial> result : results) {
+                    KeyMaterial keys = result.get(30, TimeUnit.SECONDS);
+                    assertNotNull(keys);
+                    loaded.add(keys);
+                }
+                assertEquals("동시 getOrLoad가 스냅샷을 여러 번 로드함 (round " + round + ")", 1, loaded.size());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentPublishInvalidateRotateKeepsSnapshotsConsistent() throws Exception {
+        KeyMaterialStore.getOrLoad(keystorePath, PASSWORD);
+
+        Map<Long, KeyMaterial> byGeneration = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger publishes = new AtomicInteger();
+        AtomicInteger invalidations = new AtomicInteger();
+        AtomicInteger rotations = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(READERS + 3);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            String sub = "user-" + i;
+            tasks.add(pool.submit(() -> {
+                long lastGeneration = 0;
+                while (running.get()) {
+                    KeyMaterial keys = KeyMaterialStore.getOrLoad(keystorePath, PASSWORD);
+                    if (!checkSnapshot(keys, byGeneration, failures)) {
+                        continue;
+                    }
+                    if (keys.getGeneration() < lastGeneration) {
+                        failures.add("이전 세대 스냅샷으로 되돌아감: " + lastGeneration + " -> " + keys.getGeneration());
+                    }
+                    lastGeneration = keys.getGeneration();
+
+                    String jwt = JWTService.generateJWT(EXP, "stress", sub, keys.getSigner());
+                    JsonObject result = TokenVerificationService.verify(jwt, keys);
+                    if (!result.get("valid").getAsBoolean() || !keys.getKid().equals(result.get("kid").getAsString())
+                            || !"active".equals(result.get("keyState").getAsString())) {
+                        failures.add("서명한 스냅샷으로 검증 실패 (generation " + keys.getGeneration() + "): " + result);
+                    }
+                    issued.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        tasks.add(pool.submit(() -> {
+            while (running.get()) {
+                checkSnapshot(KeyMaterialStore.publish(keystorePath, PASSWORD), byGeneration, failures);
+                publishes.incrementAndGet();
+                Thread.sleep(5);
+            }
+            return null;
+        }));
+        tasks.add(pool.submit(() -> {
+            while (running.get()) {
+                KeyMaterialStore.invalidate();
+                invalidations.incrementAndGet();
+                Thread.sleep(15);
+            }
+            return null;
+        }));
+        tasks.add(pool.submit(() -> {
+            while (running.get()) {
+                KeyMaterial keys = KeyMaterialStore.current();
+                if (keys != null && keys.getNextKey() == null) {
+                    KeyPair keyPair = KeyGenerationService.generateKeyPair(SigningAlgorithm.ES256);
+                    KeyMaterialStore.addNextKey(keyPair.getPrivate(), certificate(keyPair));
+                }
+                try {
+                    checkSnapshot(KeyMaterialStore.rotate(2), byGeneration, failures);
+                    rotations.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 스냅샷이 폐기되었거나 다음 키가 아직 없음
+                }
+                Thread.sleep(10);
+            }
+            return null;
+        }));
+
+        Thread.sleep(DURATION_MILLIS);
+        running.set(false);
+        pool.shutdown();
+        for (Future<?> task : tasks) {
+            try {
+                task.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                throw new AssertionError("동시 실행 중 예외", e.getCause());
+            }
+        }
+
+        assertTrue(String.join("\n", failures), failures.isEmpty());
+        assertTrue("발급 없음", issued.get() > 0);
+        assertTrue("publish 없음", publishes.get() > 0);
+        assertTrue("invalidate 없음", invalidations.get() > 0);
+        assertTrue("rotate 없음", rotations.get() > 0);
+    }
+
+    /**
+     * 스냅샷 내부가 일관된지 확인하고 세대별로 하나의 객체만 있는지 기록 (실패하면 false)
+     */
+    private static boolean checkSnapshot(KeyMaterial keys, Map<Long, KeyMaterial> byGeneration,
+            ConcurrentLinkedQueue<String> failures) throws Exception {
+        if (keys == null) {
+            failures.add("null 스냅샷");
+            return false;
+        }
+        KeyMaterial existing = byGeneration.putIfAbsent(keys.getGeneration(), keys);
+        if (existing != null && existing != keys) {
+            failures.add("같은 세대를 두 번 로드함: " + keys.getGeneration());
+            return false;
+        }
+        String kid = keys.getKid();
+        if (kid == null || keys.getSigner() == null || !kid.equals(keys.getSigner().getKid())
+                || !kid.equals(JwkService.thumbprint(keys.getPublicKey()))
+                || keys.findVerificationKey(kid) != keys.getActiveKey()) {
+            failures.add("일관되지 않은 스냅샷 (generation " + keys.getGeneration() + ", kid " + kid + ")");
+            return false;
+        }
+        return true;
+    }
+
+    private static X509Certificate certificate(KeyPair keyPair) throws Exception {
+        return KeyGenerationService.createSelfSignedCertificate(keyPair,
+                KeyGenerationService.defaultSubject(SigningAlgorithm.ES256), 1);
+    }
+}